@@ -0,0 +1,247 @@
+package com.ecommerce.order.client;
+
+import com.ecommerce.order.exception.ProductServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Product lookups for order pricing, collapsed across concurrent checkouts.
+ *
+ * A product is served from a short-lived local cache when possible. Otherwise its ID is queued, and all IDs
+ * queued within the collapse window (or until a batch is full) go to product-service in one bulk lookup.
+ * A product already queued or in flight is not requested again: later callers wait for the same result.
+ * Only found products are cached, so a product created a moment ago is not hidden by a cached miss.
+ *
+ * Metrics:
+ *   order.product-lookup.keys           requested products, tagged by source (cache, joined = shared a queued or
+ *                                       in-flight request, batched = added to a new batch)
+ *   order.product-lookup.calls          bulk lookups sent to product-service
+ *   order.product-lookup.calls.saved    single-product calls avoided (joined keys, and batched keys beyond one per call)
+ *   order.product-lookup.batch.size     products per bulk lookup
+ *   order.product-lookup.collapse-ratio products fetched per downstream call since start
+ */
+@Component
+@Slf4j
+public class CollapsingProductLookup {
+
+    private final ProductClient productClient;
+    private final Cache<Long, ProductSnapshot> cache;
+    private final long windowMillis;
+    private final int maxBatchSize;
+    private final long timeoutMillis;
+
+    private final ScheduledExecutorService flushScheduler;
+    private final ExecutorService callExecutor;
+
+    // Guarded by lock
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<ProductSnapshot>> queued = new HashMap<>();
+    private final Map<Long, CompletableFuture<ProductSnapshot>> inFlight = new HashMap<>();
+    private boolean flushScheduled;
+
+    private final Counter cacheKeys;
+    private final Counter joinedKeys;
+    private final Counter batchedKeys;
+    private final Counter calls;
+    private final Counter callsSaved;
+    private final DistributionSummary batchSizes;
+    private final AtomicLong fetchedKeys = new AtomicLong();
+    private final AtomicLong callCount = new AtomicLong();
+
+    public CollapsingProductLookup(ProductClient productClient,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${order.product-lookup.window-ms:5}") long windowMillis,
+                                   @Value("${order.product-lookup.max-batch-size:500}") int maxBatchSize,
+                                   @Value("${order.product-lookup.timeout-ms:3000}") long timeoutMillis,
+                                   @Value("${order.product-lookup.cache-ttl-ms:2000}") long cacheTtlMillis,
+                                   @Value("${order.product-lookup.cache-max-size:10000}") long cacheMaxSize,
+                                   @Value("${order.product-lookup.max-concurrent-calls:8}") int maxConcurrentCalls) {
+        this.productClient = productClient;
+        this.windowMillis = windowMillis;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(cacheTtlMillis))
+                .maximumSize(cacheMaxSize)
+                .build();
+
+        this.flushScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("product-lookup-flush"));
+        this.callExecutor = Executors.newFixedThreadPool(maxConcurrentCalls, daemonThreads("product-lookup-call"));
+
+        this.cacheKeys = meterRegistry.counter("order.product-lookup.keys", "source", "cache");
+        this.joinedKeys = meterRegistry.counter("order.product-lookup.keys", "source", "joined");
+        this.batchedKeys = meterRegistry.counter("order.product-lookup.keys", "source", "batched");
+        this.calls = meterRegistry.counter("order.product-lookup.calls");
+        this.callsSaved = meterRegistry.counter("order.product-lookup.calls.saved");
+        this.batchSizes = DistributionSummary.builder("order.product-lookup.batch.size").register(meterRegistry);
+        Gauge.builder("order.product-lookup.collapse-ratio", this, CollapsingProductLookup::collapseRatio)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up products, waiting at most the configured timeout.
+     *
+     * @return the products found, by ID; IDs that do not exist are absent
+     * @throws ProductServiceUnavailableException if product-service fails or does not answer in time
+     */
+    public Map<Long, ProductSnapshot> getProducts(Collection<Long> productIds) {
+        Map<Long, ProductSnapshot> products = new HashMap<>();
+        Map<Long, CompletableFuture<ProductSnapshot>> waiting = new HashMap<>();
+
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            ProductSnapshot cached = cache.getIfPresent(productId);
+            if (cached != null) {
+                cacheKeys.increment();
+                products.put(productId, cached);
+            } else {
+                waiting.put(productId, request(productId));
+            }
+        }
+        if (waiting.isEmpty()) {
+            return products;
+        }
+
+        try {
+            CompletableFuture.allOf(waiting.values().toArray(CompletableFuture[]::new))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ProductServiceUnavailableException("Interrupted while pricing the order.", ex);
+        } catch (ExecutionException ex) {
+            throw new ProductServiceUnavailableException("Could not price the order, retry later.", ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ProductServiceUnavailableException("Product lookup timed out, retry later.", ex);
+        }
+
+        waiting.forEach((productId, future) -> {
+            ProductSnapshot product = future.join();
+            if (product != null) {
+                products.put(productId, product);
+            }
+        });
+        return products;
+    }
+
+    // ----------------------------
+    // COLLAPSING
+    // ----------------------------
+    private CompletableFuture<ProductSnapshot> request(Long productId) {
+        synchronized (lock) {
+            CompletableFuture<ProductSnapshot> existing = queued.get(productId);
+            if (existing == null) {
+                existing = inFlight.get(productId);
+            }
+            if (existing != null) {
+                joinedKeys.increment();
+                callsSaved.increment();
+                return existing;
+            }
+
+            CompletableFuture<ProductSnapshot> future = new CompletableFuture<>();
+            queued.put(productId, future);
+            batchedKeys.increment();
+            if (queued.size() >= maxBatchSize) {
+                dispatchQueued();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                flushScheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+            }
+            return future;
+        }
+    }
+
+    private void flush() {
+        synchronized (lock) {
+            flushScheduled = false;
+            if (!queued.isEmpty()) {
+                dispatchQueued();
+            }
+        }
+    }
+
+    // Caller holds the lock
+    private void dispatchQueued() {
+        Map<Long, CompletableFuture<ProductSnapshot>> batch = queued;
+        queued = new HashMap<>();
+        inFlight.putAll(batch);
+        try {
+            callExecutor.execute(() -> call(batch));
+        } catch (RejectedExecutionException ex) {
+            batch.forEach(inFlight::remove);
+            batch.values().forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+
+    private void call(Map<Long, CompletableFuture<ProductSnapshot>> batch) {
+        calls.increment();
+        callsSaved.increment(batch.size() - 1);
+        batchSizes.record(batch.size());
+        fetchedKeys.addAndGet(batch.size());
+        callCount.incrementAndGet();
+
+        try {
+            ProductLookupResult result = productClient.lookup(ProductLookupRequest.builder()
+                    .ids(List.copyOf(batch.keySet()))
+                    .build());
+            Map<Long, ProductSnapshot> found = new HashMap<>();
+            result.getProducts().forEach(product -> found.put(product.getId(), product));
+            cache.putAll(found);
+            complete(batch, future -> future.complete(null), found);
+        } catch (RuntimeException ex) {
+            log.warn("Bulk product lookup of {} products failed: {}", batch.size(), ex.getMessage());
+            complete(batch, future -> future.completeExceptionally(ex), Map.of());
+        }
+    }
+
+    private void complete(Map<Long, CompletableFuture<ProductSnapshot>> batch,
+                          Consumer<CompletableFuture<ProductSnapshot>> otherwise,
+                          Map<Long, ProductSnapshot> found) {
+        // Leave the in-flight map first, so a caller arriving after completion starts a fresh lookup
+        synchronized (lock) {
+            batch.forEach(inFlight::remove);
+        }
+        batch.forEach((productId, future) -> {
+            ProductSnapshot product = found.get(productId);
+            if (product != null) {
+                future.complete(product);
+            } else {
+                otherwise.accept(future);
+            }
+        });
+    }
+
+    private double collapseRatio() {
+        long callsSoFar = callCount.get();
+        return callsSoFar == 0 ? 0 : (double) fetchedKeys.get() / callsSoFar;
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushScheduler.shutdownNow();
+        callExecutor.shutdownNow();
+    }
+}
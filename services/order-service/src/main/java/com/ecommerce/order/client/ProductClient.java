@@ -0,0 +1,18 @@
+package com.ecommerce.order.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * product-service catalog API, resolved through Eureka.
+ */
+@FeignClient(name = "product-service", path = "/api/products")
+public interface ProductClient {
+
+    /**
+     * Price, currency, live stock and status of up to 1000 products in one call.
+     */
+    @PostMapping("/lookup")
+    ProductLookupResult lookup(@RequestBody ProductLookupRequest request);
+}
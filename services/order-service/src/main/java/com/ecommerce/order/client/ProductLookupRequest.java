@@ -0,0 +1,20 @@
+package com.ecommerce.order.client;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Body of product-service's bulk lookup (POST /api/products/lookup).
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupRequest {
+
+    private List<Long> ids;
+
+    private List<String> skus;
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.order.client;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Response of product-service's bulk lookup: the products found and the keys that matched nothing.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupResult {
+
+    private List<ProductSnapshot> products;
+
+    private List<Long> missingIds;
+
+    private List<String> missingSkus;
+}
@@ -0,0 +1,33 @@
+package com.ecommerce.order.client;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Price and availability of a product, as returned by product-service's bulk lookup.
+ * stockQuantity is the live stock at lookup time; it is informational, the saga reserves the stock.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSnapshot {
+
+    private Long id;
+
+    private String sku;
+
+    private String name;
+
+    private BigDecimal price;
+
+    private BigDecimal discountPrice;
+
+    private String currency;
+
+    private Integer stockQuantity;
+
+    private String status;
+}
@@ -0,0 +1,86 @@
+package com.ecommerce.order.controller;
+
+import com.ecommerce.order.dto.CursorPage;
+import com.ecommerce.order.dto.OrderPlacementResult;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.dto.OrderSummaryDTO;
+import com.ecommerce.order.dto.PlaceOrderRequest;
+import com.ecommerce.order.service.OrderHistoryService;
+import com.ecommerce.order.service.OrderService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * OrderController
+ *
+ * Places, reads and cancels orders, and lists a user's order history.
+ * Clients should send an Idempotency-Key header when placing an order: a retry with the same key
+ * returns the original order (200 with Idempotent-Replayed: true) instead of placing a second one.
+ *
+ * Requires an ADMIN token (see SecurityConfig): the user ID comes from the request, not from the token.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderController {
+
+    private final OrderService orderService;
+    private final OrderHistoryService orderHistoryService;
+
+    // ------------------------------------------------------
+    // PLACE ORDER
+    // ------------------------------------------------------
+    @PostMapping
+    public ResponseEntity<OrderResponse> placeOrder(
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody PlaceOrderRequest request) {
+        log.info("API: Place order [userId={}, lines={}, idempotencyKey={}]",
+                request.getUserId(), request.getLines().size(), idempotencyKey);
+        OrderPlacementResult result = orderService.placeOrder(request, idempotencyKey);
+        if (result.isReplayed()) {
+            return ResponseEntity.ok().header("Idempotent-Replayed", "true").body(result.getOrder());
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(result.getOrder());
+    }
+
+    // ------------------------------------------------------
+    // GET ORDER
+    // ------------------------------------------------------
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable Long id) {
+        return ResponseEntity.ok(orderService.getOrder(id));
+    }
+
+    // ------------------------------------------------------
+    // ORDER HISTORY OF A USER (newest first)
+    // ------------------------------------------------------
+    /**
+     * Served from the order history read model with cursor (keyset) pagination.
+     * A just-placed order or status change appears there shortly after the change, not immediately.
+     *
+     * Example:
+     * GET /api/orders?userId=7&size=20
+     * GET /api/orders?userId=7&size=20&cursor={nextCursor}
+     */
+    @GetMapping
+    public ResponseEntity<CursorPage<OrderSummaryDTO>> getOrderHistory(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(orderHistoryService.getOrderHistory(userId, cursor, Math.max(1, Math.min(size, 100))));
+    }
+
+    // ------------------------------------------------------
+    // CANCEL ORDER
+    // ------------------------------------------------------
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<OrderResponse> cancelOrder(@PathVariable Long id) {
+        log.info("API: Cancel order {}", id);
+        return ResponseEntity.ok(orderService.cancelOrder(id));
+    }
+}
@@ -0,0 +1,27 @@
+package com.ecommerce.order.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineDTO {
+
+    private Long id;
+
+    private Long productId;
+
+    private String sku;
+
+    private String productName;
+
+    private BigDecimal unitPrice;
+
+    private Integer quantity;
+
+    private BigDecimal lineTotal;
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.order.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * One product and quantity of a new order.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLineRequest {
+
+    @NotNull(message = "Product ID is required.")
+    private Long productId;
+
+    @NotNull(message = "Quantity is required.")
+    @Min(value = 1, message = "Quantity must be at least 1.")
+    @Max(value = 1000, message = "Quantity cannot exceed 1000.")
+    private Integer quantity;
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.order.dto;
+
+import lombok.*;
+
+/**
+ * Outcome of a placement: the order, and whether it was placed by an earlier request with the same idempotency key.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPlacementResult {
+
+    private OrderResponse order;
+
+    private boolean replayed;
+}
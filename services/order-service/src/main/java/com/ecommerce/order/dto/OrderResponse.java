@@ -0,0 +1,41 @@
+package com.ecommerce.order.dto;
+
+import com.ecommerce.order.entity.OrderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order with its lines.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderResponse {
+
+    private Long id;
+
+    private Long userId;
+
+    private OrderStatus status;
+
+    private String statusReason;
+
+    private String currency;
+
+    private BigDecimal totalAmount;
+
+    private Integer itemCount;
+
+    private List<OrderLineDTO> lines;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime cancelledAt;
+}
@@ -0,0 +1,34 @@
+package com.ecommerce.order.dto;
+
+import com.ecommerce.order.entity.OrderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Order without its lines, for order history pages (read from the order_summaries read model).
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSummaryDTO {
+
+    private Long id;
+
+    private OrderStatus status;
+
+    private String statusReason;
+
+    private String currency;
+
+    private BigDecimal totalAmount;
+
+    private Integer itemCount;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.order.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Request to place an order. Prices are not taken from the client; they are read from product-service.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlaceOrderRequest {
+
+    @NotNull(message = "User ID is required.")
+    private Long userId;
+
+    @NotEmpty(message = "At least one line is required.")
+    @Size(max = 100, message = "An order can contain up to 100 lines.")
+    private List<@Valid OrderLineRequest> lines;
+}
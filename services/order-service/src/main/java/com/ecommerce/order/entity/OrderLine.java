@@ -0,0 +1,58 @@
+package com.ecommerce.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One product of an order, with the price it was sold at.
+ */
+@Entity
+@Table(name = "order_lines")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLine {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_lines_seq")
+    @SequenceGenerator(name = "order_lines_seq", sequenceName = "order_lines_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "order_id", nullable = false)
+    private Order order;
+
+    // Partition key of order_lines: lines live in the monthly partition of their order
+    @Column(nullable = false)
+    private LocalDateTime orderCreatedAt;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false, length = 100)
+    private String sku;
+
+    @Column(nullable = false)
+    private String productName;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal lineTotal;
+
+    @PrePersist
+    protected void onCreate() {
+        if (this.orderCreatedAt == null) {
+            this.orderCreatedAt = order.getCreatedAt();
+        }
+    }
+}
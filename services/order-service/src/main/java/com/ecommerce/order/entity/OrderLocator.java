@@ -0,0 +1,39 @@
+package com.ecommerce.order.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Creation time of an order, keyed by the order ID alone. orders is partitioned by createdAt, so a
+ * lookup by ID only would probe every monthly partition; this small unpartitioned table names the
+ * partition first. Written in the placement transaction, so it is never behind orders.
+ */
+@Entity
+@Table(name = "order_locators")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderLocator implements Persistable<Long> {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    // Rows are only ever inserted: lets save() persist without selecting the assigned ID first
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
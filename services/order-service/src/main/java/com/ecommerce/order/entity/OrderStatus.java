@@ -0,0 +1,10 @@
+package com.ecommerce.order.entity;
+
+/**
+ * Lifecycle of an order.
+ */
+public enum OrderStatus {
+    PENDING,    // placed, waiting for product-service to reserve the stock
+    CONFIRMED,  // stock reserved
+    CANCELLED   // by the customer, for lack of stock, or because the reservation timed out or expired
+}
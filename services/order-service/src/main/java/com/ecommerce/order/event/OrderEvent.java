@@ -0,0 +1,39 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.entity.OrderStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Order saga event, published to the order events topic keyed by order ID.
+ * Every event also carries the order's summary after the change, for the order history read model.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEvent {
+
+    public static final String ORDER_PLACED = "ORDER_PLACED";
+    public static final String ORDER_CONFIRMED = "ORDER_CONFIRMED";
+    public static final String ORDER_CANCELLED = "ORDER_CANCELLED";
+
+    private Long orderId;
+    private String eventType;
+    private String source;            // "order-service"
+    private Long userId;
+    private List<OrderEventItem> items; // ORDER_PLACED: the stock to reserve
+    private String reason;            // ORDER_CANCELLED: why
+    private LocalDateTime timestamp;
+
+    // Order summary
+    private OrderStatus status;
+    private String currency;
+    private BigDecimal totalAmount;
+    private Integer itemCount;
+    private LocalDateTime createdAt;
+}
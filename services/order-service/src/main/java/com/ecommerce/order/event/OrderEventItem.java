@@ -0,0 +1,17 @@
+package com.ecommerce.order.event;
+
+import lombok.*;
+
+/**
+ * Product and quantity carried by ORDER_PLACED.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEventItem {
+
+    private Long productId;
+    private Integer quantity;
+}
@@ -0,0 +1,47 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.entity.Order;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Saga metrics of order-service.
+ *
+ *   order.saga.steps         saga steps handled, tagged by step (placed, stock_reserved, stock_rejected,
+ *                            confirmed, cancelled, timed_out); the rate is the per-step throughput
+ *   order.saga.step.latency  from the moment a reply was published by product-service to its handling here
+ *                            (outbox relay + broker + consumer lag), tagged by step
+ *   order.saga.duration      end-to-end time from placement to the final status, tagged by outcome
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderSagaMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public void step(String step) {
+        meterRegistry.counter("order.saga.steps", "step", step).increment();
+    }
+
+    public void replyReceived(String step, LocalDateTime publishedAt) {
+        step(step);
+        if (publishedAt != null) {
+            meterRegistry.timer("order.saga.step.latency", "step", step).record(positive(publishedAt, LocalDateTime.now()));
+        }
+    }
+
+    public void finished(Order order, String outcome) {
+        step(outcome);
+        meterRegistry.timer("order.saga.duration", "outcome", outcome).record(positive(order.getCreatedAt(), LocalDateTime.now()));
+    }
+
+    // Clocks of different hosts may disagree slightly
+    private static Duration positive(LocalDateTime from, LocalDateTime to) {
+        Duration duration = Duration.between(from, to);
+        return duration.isNegative() ? Duration.ZERO : duration;
+    }
+}
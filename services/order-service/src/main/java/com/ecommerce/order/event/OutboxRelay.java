@@ -0,0 +1,137 @@
+package com.ecommerce.order.event;
+
+import com.ecommerce.order.entity.OutboxEvent;
+import com.ecommerce.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox to Kafka.
+ *
+ * Each batch is locked with FOR UPDATE SKIP LOCKED, sent, and marked published in one transaction,
+ * so several instances can relay concurrently without sending a row twice. Delivery is at-least-once:
+ * a crash between the broker acknowledgement and the commit resends the batch, and the saga consumers
+ * are idempotent for that reason.
+ *
+ * Metrics:
+ *   order.outbox.published / order.outbox.failures  throughput and failed deliveries
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    public static final String EVENT_TYPE_HEADER = "eventType";
+    public static final String EVENT_ID_HEADER = "eventId";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.outbox.batch-size:500}")
+    private int batchSize;
+
+    // Upper bound of batches per run, so one run cannot hold the scheduler thread indefinitely
+    @Value("${order.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${order.outbox.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+
+    @Value("${order.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Value("${order.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    // ----------------------------
+    // RELAY
+    // ----------------------------
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:200}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer sent = transactionTemplate.execute(status -> relayBatch());
+            // A short batch does not mean the backlog is drained: later events of an aggregate wait for the next batch
+            if (sent == null || sent <= 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * @return number of delivered events, or -1 if delivery failed
+     */
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(now, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        try {
+            send(batch);
+        } catch (RuntimeException ex) {
+            log.warn("Outbox delivery of {} events failed, retrying in {} ms: {}", batch.size(), retryBackoffMs, ex.getMessage());
+            outboxEventRepository.reschedule(ids, now.plus(Duration.ofMillis(retryBackoffMs)));
+            meterRegistry.counter("order.outbox.failures").increment(batch.size());
+            return -1;
+        }
+
+        outboxEventRepository.markPublished(ids, LocalDateTime.now());
+        meterRegistry.counter("order.outbox.published").increment(batch.size());
+        return batch.size();
+    }
+
+    // The whole batch is handed to the producer first, then acknowledgements are awaited together
+    private void send(List<OutboxEvent> events) {
+        CompletableFuture<?>[] sends = events.stream()
+                .map(event -> kafkaTemplate.send(toRecord(event)))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox events", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("Failed to publish outbox events to Kafka", ex);
+        }
+    }
+
+    private ProducerRecord<String, String> toRecord(OutboxEvent event) {
+        ProducerRecord<String, String> record =
+                new ProducerRecord<>(event.getTopic(), event.getMessageKey(), event.getPayload());
+        record.headers().add(EVENT_ID_HEADER, event.getId().toString().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    // ----------------------------
+    // CLEANUP
+    // ----------------------------
+    @Scheduled(fixedDelayString = "${order.outbox.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} published outbox events older than {} h", deleted, retentionHours);
+        }
+    }
+}
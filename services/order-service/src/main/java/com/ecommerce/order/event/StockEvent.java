@@ -0,0 +1,29 @@
+package com.ecommerce.order.event;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * product-service's answer to ORDER_PLACED (or STOCK_EXPIRED for a late ORDER_CONFIRMED), consumed from the
+ * stock events topic.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockEvent {
+
+    public static final String STOCK_RESERVED = "STOCK_RESERVED";
+    public static final String STOCK_REJECTED = "STOCK_REJECTED";
+    public static final String STOCK_EXPIRED = "STOCK_EXPIRED";
+
+    private Long orderId;
+    private String eventType;
+    private String source;
+    private Long productId;   // STOCK_REJECTED / STOCK_EXPIRED: the product that was short, if known
+    private String reason;    // STOCK_REJECTED / STOCK_EXPIRED: why
+    private LocalDateTime orderCreatedAt; // echoed from ORDER_PLACED, locates the order's partition
+    private LocalDateTime timestamp;
+}
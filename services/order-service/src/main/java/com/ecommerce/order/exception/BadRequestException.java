@@ -0,0 +1,11 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Thrown when a client request is invalid (e.g., unknown product, order in the wrong status).
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Thrown when a requested resource (e.g., Order) is not found.
+ */
+public class NotFoundException extends RuntimeException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
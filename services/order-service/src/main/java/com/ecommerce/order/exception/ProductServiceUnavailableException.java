@@ -0,0 +1,11 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Thrown when product-service cannot be reached or fails, so the order cannot be priced.
+ */
+public class ProductServiceUnavailableException extends RuntimeException {
+
+    public ProductServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
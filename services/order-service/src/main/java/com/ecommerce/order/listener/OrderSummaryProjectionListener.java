@@ -0,0 +1,44 @@
+package com.ecommerce.order.listener;
+
+import com.ecommerce.order.event.OrderEvent;
+import com.ecommerce.order.service.OrderHistoryService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Projects this service's own order events into the order history read model.
+ * Uses a consumer group of its own, so the projection keeps its own offsets and a slow
+ * or failing projection never delays the saga.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSummaryProjectionListener {
+
+    private final OrderHistoryService orderHistoryService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${order.saga.order-events-topic:order-events}",
+            groupId = "${spring.application.name}-order-summaries",
+            autoStartup = "${order.summary.projection.enabled:true}")
+    public void onOrderEvent(ConsumerRecord<String, String> record) {
+        OrderEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), OrderEvent.class);
+        } catch (JsonProcessingException ex) {
+            // A malformed message can never succeed, retrying it would only block the partition
+            log.error("Skipping unreadable order event at offset {} of {}: {}", record.offset(), record.topic(), ex.getMessage());
+            return;
+        }
+        if (event.getOrderId() == null || event.getUserId() == null) {
+            log.error("Skipping order event without order or user ID at offset {} of {}", record.offset(), record.topic());
+            return;
+        }
+        orderHistoryService.applyOrderEvent(event);
+    }
+}
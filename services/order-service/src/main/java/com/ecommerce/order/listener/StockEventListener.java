@@ -0,0 +1,42 @@
+package com.ecommerce.order.listener;
+
+import com.ecommerce.order.event.StockEvent;
+import com.ecommerce.order.service.OrderSagaService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes product-service's stock replies for the order saga.
+ * Offsets are committed after the handler's transaction, so a crash redelivers the reply;
+ * the saga handlers are idempotent.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockEventListener {
+
+    private final OrderSagaService orderSagaService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${order.saga.stock-events-topic:stock-events}", groupId = "${spring.application.name}")
+    public void onStockEvent(ConsumerRecord<String, String> record) {
+        StockEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), StockEvent.class);
+        } catch (JsonProcessingException ex) {
+            // A malformed message can never succeed, retrying it would only block the partition
+            log.error("Skipping unreadable stock event at offset {} of {}: {}", record.offset(), record.topic(), ex.getMessage());
+            return;
+        }
+        if (event.getOrderId() == null || event.getEventType() == null) {
+            log.error("Skipping stock event without order ID or type at offset {} of {}", record.offset(), record.topic());
+            return;
+        }
+        orderSagaService.handleStockEvent(event);
+    }
+}
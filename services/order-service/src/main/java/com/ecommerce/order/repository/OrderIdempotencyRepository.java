@@ -0,0 +1,74 @@
+package com.ecommerce.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Idempotency keys of order placement (order_idempotency_keys).
+ *
+ * A key is claimed with INSERT ... ON CONFLICT DO NOTHING in the placement transaction. A concurrent
+ * attempt with the same key blocks on the primary key until the first one commits or rolls back,
+ * then either takes over the key or sees the committed order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderIdempotencyRepository {
+
+    /**
+     * A stored key: the request it was first used with and the order it produced.
+     */
+    public record IdempotencyRecord(String requestHash, Long orderId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<IdempotencyRecord> find(long userId, String key) {
+        List<IdempotencyRecord> rows = jdbcTemplate.query(
+                "SELECT request_hash, order_id FROM order_idempotency_keys WHERE user_id = ? AND idempotency_key = ?",
+                (rs, rowNum) -> new IdempotencyRecord(rs.getString("request_hash"), rs.getObject("order_id", Long.class)),
+                userId, key);
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * @return false if the key is already taken
+     */
+    public boolean claim(long userId, String key, String requestHash, LocalDateTime now) {
+        return jdbcTemplate.update("""
+                        INSERT INTO order_idempotency_keys (user_id, idempotency_key, request_hash, created_at)
+                        VALUES (?, ?, ?, ?)
+                        ON CONFLICT (user_id, idempotency_key) DO NOTHING
+                        """,
+                userId, key, requestHash, Timestamp.valueOf(now)) == 1;
+    }
+
+    public void attachOrder(long userId, String key, long orderId) {
+        jdbcTemplate.update(
+                "UPDATE order_idempotency_keys SET order_id = ? WHERE user_id = ? AND idempotency_key = ?",
+                orderId, userId, key);
+    }
+
+    /**
+     * Delete up to limit keys created before the cutoff.
+     *
+     * @return the number of deleted keys
+     */
+    public int deleteOlderThan(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("""
+                        DELETE FROM order_idempotency_keys
+                        WHERE (user_id, idempotency_key) IN (
+                            SELECT user_id, idempotency_key FROM order_idempotency_keys
+                            WHERE created_at < ?
+                            LIMIT ?
+                            FOR UPDATE SKIP LOCKED
+                        )
+                        """,
+                Timestamp.valueOf(cutoff), limit);
+    }
+}
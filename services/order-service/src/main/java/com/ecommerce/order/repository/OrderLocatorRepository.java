@@ -0,0 +1,23 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.entity.OrderLocator;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface OrderLocatorRepository extends JpaRepository<OrderLocator, Long> {
+
+    @Query("select l.createdAt from OrderLocator l where l.orderId = :orderId")
+    Optional<LocalDateTime> findCreatedAt(@Param("orderId") Long orderId);
+
+    // Locators of archived months point at detached partitions
+    @Modifying
+    @Query("delete from OrderLocator l where l.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,50 @@
+package com.ecommerce.order.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Monthly partitions of orders and order_lines, managed through the functions of
+ * migration V4 (create_order_partitions, archive_order_partitions). Both functions take
+ * an advisory lock, so several instances can call them at the same time.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return false if the partitions of that month already exist
+     */
+    public boolean createMonth(LocalDate month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT create_order_partitions(?)", Boolean.class, Date.valueOf(month)));
+    }
+
+    /**
+     * @return true if the orders partition of the month containing the given day exists
+     */
+    public boolean monthExists(LocalDate month) {
+        String table = "orders_p" + month.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, table));
+    }
+
+    /**
+     * Detach the partitions of every month that ended on or before the given day and move them
+     * to the order_archive schema.
+     *
+     * @return the number of archived months
+     */
+    public int archiveMonthsBefore(LocalDate before) {
+        Integer archived = jdbcTemplate.queryForObject(
+                "SELECT archive_order_partitions(?)", Integer.class, Date.valueOf(before));
+        return archived != null ? archived : 0;
+    }
+}
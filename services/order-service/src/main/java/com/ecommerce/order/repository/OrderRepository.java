@@ -0,0 +1,39 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.entity.Order;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    // Every lookup by ID carries createdAt (from the event or OrderLocatorRepository), so it hits one partition
+    @EntityGraph(attributePaths = "lines")
+    Optional<Order> findWithLinesByIdAndCreatedAt(Long id, LocalDateTime createdAt);
+
+    // Serializes status changes of one order (customer cancel, saga replies, timeout job)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Order> findForUpdateByIdAndCreatedAtBetween(Long id, LocalDateTime from, LocalDateTime to);
+
+    // Orders still waiting for stock after the saga timeout; rows locked by a saga reply are skipped.
+    // The lower bound keeps the scan to the partitions of the last few days.
+    @Query(value = """
+            SELECT * FROM orders
+            WHERE status = 'PENDING' AND created_at >= :from AND created_at < :cutoff
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Order> lockPendingBetween(@Param("from") LocalDateTime from,
+                                   @Param("cutoff") LocalDateTime cutoff,
+                                   @Param("limit") int limit);
+}
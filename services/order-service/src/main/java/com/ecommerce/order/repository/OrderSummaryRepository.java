@@ -0,0 +1,91 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.dto.OrderSummaryDTO;
+import com.ecommerce.order.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Order history read model (order_summaries), one row per order.
+ *
+ * Rows are written from order events, which can arrive more than once and, across relay instances,
+ * out of order. A row only moves forward: PENDING to CONFIRMED or CANCELLED, and CONFIRMED to
+ * CANCELLED (the user cancels, or the stock reservation expired before it was confirmed). CANCELLED
+ * is final, so a redelivered or late event can never move an order back.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderSummaryRepository {
+
+    private static final String COLUMNS =
+            "order_id, user_id, status, status_reason, currency, total_amount, item_count, created_at, updated_at";
+
+    private static final RowMapper<OrderSummaryDTO> ROW_MAPPER = (rs, rowNum) -> OrderSummaryDTO.builder()
+            .id(rs.getLong("order_id"))
+            .status(OrderStatus.valueOf(rs.getString("status")))
+            .statusReason(rs.getString("status_reason"))
+            .currency(rs.getString("currency"))
+            .totalAmount(rs.getBigDecimal("total_amount"))
+            .itemCount(rs.getInt("item_count"))
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert the summary, or move the stored one forward.
+     *
+     * @return false if the summary would not move the row forward and was ignored
+     */
+    public boolean upsert(Long userId, OrderSummaryDTO summary) {
+        return jdbcTemplate.update("""
+                        INSERT INTO order_summaries (%s)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        ON CONFLICT (order_id) DO UPDATE
+                        SET status = EXCLUDED.status,
+                            status_reason = EXCLUDED.status_reason,
+                            updated_at = EXCLUDED.updated_at
+                        WHERE (order_summaries.status = 'PENDING' AND EXCLUDED.status <> 'PENDING')
+                           OR (order_summaries.status = 'CONFIRMED' AND EXCLUDED.status = 'CANCELLED')
+                        """.formatted(COLUMNS),
+                summary.getId(),
+                userId,
+                summary.getStatus().name(),
+                summary.getStatusReason(),
+                summary.getCurrency(),
+                summary.getTotalAmount(),
+                summary.getItemCount(),
+                Timestamp.valueOf(summary.getCreatedAt()),
+                Timestamp.valueOf(summary.getUpdatedAt())) == 1;
+    }
+
+    /**
+     * Orders of a user, newest first, strictly after the (createdAt, orderId) position when one is given.
+     * Served by idx_order_summaries_user_created; every page costs the same regardless of depth.
+     */
+    public List<OrderSummaryDTO> findByUser(long userId, LocalDateTime afterCreatedAt, Long afterOrderId, int limit) {
+        if (afterCreatedAt == null) {
+            return jdbcTemplate.query("""
+                            SELECT %s FROM order_summaries
+                            WHERE user_id = ?
+                            ORDER BY created_at DESC, order_id DESC
+                            LIMIT ?
+                            """.formatted(COLUMNS),
+                    ROW_MAPPER, userId, limit);
+        }
+        return jdbcTemplate.query("""
+                        SELECT %s FROM order_summaries
+                        WHERE user_id = ? AND (created_at, order_id) < (?, ?)
+                        ORDER BY created_at DESC, order_id DESC
+                        LIMIT ?
+                        """.formatted(COLUMNS),
+                ROW_MAPPER, userId, Timestamp.valueOf(afterCreatedAt), afterOrderId, limit);
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecommerce.order.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Authenticates requests carrying an access token issued by auth-service (a_token cookie or Bearer header).
+ *
+ * Tokens are verified locally with the shared HMAC secret, so no call to auth-service is made per request.
+ * A missing or invalid token leaves the request anonymous; the security chain then rejects it.
+ */
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String CLAIM_ROLE = "role";
+    private static final long CLOCK_SKEW_SECONDS = 30;
+
+    private final JwtParser parser;
+
+    public JwtAuthenticationFilter(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("order.security.jwt-secret must be configured.");
+        }
+        this.parser = Jwts.parser()
+                .clockSkewSeconds(CLOCK_SKEW_SECONDS)
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token != null && !token.isBlank()) {
+            try {
+                Claims claims = parser.parseSignedClaims(token).getPayload();
+                var authentication = new UsernamePasswordAuthenticationToken(claims.getSubject(), null, authorities(claims));
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } catch (JwtException | IllegalArgumentException ex) {
+                log.debug("Rejected access token: {}", ex.getMessage());
+                SecurityContextHolder.clearContext();
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private List<SimpleGrantedAuthority> authorities(Claims claims) {
+        Object rolesClaim = claims.get(CLAIM_ROLE);
+        List<Object> roles = rolesClaim instanceof List<?> list ? new ArrayList<>(list)
+                : rolesClaim != null ? List.of(rolesClaim) : List.of();
+        return roles.stream()
+                .map(Object::toString)
+                .map(role -> role.startsWith("ROLE_") ? role : "ROLE_" + role)
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+    }
+
+    // Same sources as auth-service: the a_token cookie first, then the Authorization header
+    private String resolveToken(HttpServletRequest request) {
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if ("a_token".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        return null;
+    }
+}
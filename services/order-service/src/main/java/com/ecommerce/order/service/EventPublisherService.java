@@ -0,0 +1,21 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.entity.Order;
+
+/**
+ * EventPublisherService
+ *
+ * Publishes order saga events through the transactional outbox.
+ */
+public interface EventPublisherService {
+
+    /**
+     * Publish an event describing the current state of the order (items for ORDER_PLACED,
+     * the status reason for ORDER_CANCELLED).
+     * Must be called inside the transaction that changes the order, so the event is stored atomically with it.
+     *
+     * @param order     the order, with its ID assigned
+     * @param eventType one of the OrderEvent types
+     */
+    void publishOrderEvent(Order order, String eventType);
+}
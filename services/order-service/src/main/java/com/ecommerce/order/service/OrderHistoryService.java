@@ -0,0 +1,28 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.dto.CursorPage;
+import com.ecommerce.order.dto.OrderSummaryDTO;
+import com.ecommerce.order.event.OrderEvent;
+
+/**
+ * OrderHistoryService
+ *
+ * Order history pages, served from the order_summaries read model. The read model is updated
+ * asynchronously from order events, so an order shows up (or changes status) there shortly after
+ * the change is committed, not in the same request.
+ */
+public interface OrderHistoryService {
+
+    /**
+     * Apply an order event to the read model. Idempotent; stale events are ignored.
+     */
+    void applyOrderEvent(OrderEvent event);
+
+    /**
+     * Orders of a user, newest first, with keyset pagination.
+     *
+     * @param cursor nextCursor of the previous page, or null for the first page
+     * @throws com.ecommerce.order.exception.BadRequestException if the cursor is invalid
+     */
+    CursorPage<OrderSummaryDTO> getOrderHistory(Long userId, String cursor, int size);
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.event.StockEvent;
+
+/**
+ * OrderSagaService
+ *
+ * Drives an order from PENDING to CONFIRMED or CANCELLED on product-service's stock replies:
+ *
+ *   ORDER_PLACED -> STOCK_RESERVED -> ORDER_CONFIRMED
+ *                -> STOCK_REJECTED -> ORDER_CANCELLED
+ *                -> (no reply within the timeout) -> ORDER_CANCELLED, which releases stock reserved late
+ *   ORDER_CONFIRMED -> STOCK_EXPIRED (the reservation expired first and its stock is gone) -> ORDER_CANCELLED
+ *
+ * Replies may arrive more than once or after the order was cancelled; every handler is idempotent.
+ */
+public interface OrderSagaService {
+
+    /**
+     * Handle a STOCK_RESERVED, STOCK_REJECTED or STOCK_EXPIRED reply. Replies for unknown orders are ignored.
+     */
+    void handleStockEvent(StockEvent event);
+
+    /**
+     * Cancel up to limit orders that have waited for stock longer than the saga timeout.
+     *
+     * @return the number of cancelled orders
+     */
+    int cancelTimedOutOrders(int limit);
+}
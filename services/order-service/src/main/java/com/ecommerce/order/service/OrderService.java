@@ -0,0 +1,49 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.dto.OrderPlacementResult;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.dto.PlaceOrderRequest;
+
+/**
+ * OrderService
+ *
+ * Places, reads and cancels orders. Lines are priced from product-service at placement time;
+ * the stock is reserved afterwards by the order saga, so a placed order starts as PENDING.
+ */
+public interface OrderService {
+
+    /**
+     * Place an order. With an idempotency key, repeating the request returns the order of the first attempt.
+     *
+     * @param request        validated PlaceOrderRequest DTO
+     * @param idempotencyKey optional client key, unique per user
+     * @return the order, flagged as replayed when it was placed by an earlier request
+     * @throws com.ecommerce.order.exception.BadRequestException if a product is unknown or inactive, the lines mix
+     *         currencies, or the key was used with a different request
+     * @throws com.ecommerce.order.exception.ProductServiceUnavailableException if product-service cannot price the order
+     */
+    OrderPlacementResult placeOrder(PlaceOrderRequest request, String idempotencyKey);
+
+    /**
+     * Get an order with its lines.
+     *
+     * @throws com.ecommerce.order.exception.NotFoundException if not found
+     */
+    OrderResponse getOrder(Long id);
+
+    /**
+     * Cancel an order that is still waiting for stock. Idempotent.
+     * Stock product-service has already reserved for it is released through the saga.
+     *
+     * @throws com.ecommerce.order.exception.NotFoundException if not found
+     * @throws com.ecommerce.order.exception.BadRequestException if the order is already confirmed
+     */
+    OrderResponse cancelOrder(Long id);
+
+    /**
+     * Delete up to limit idempotency keys older than the retention period.
+     *
+     * @return the number of deleted keys
+     */
+    int purgeIdempotencyKeys(int limit);
+}
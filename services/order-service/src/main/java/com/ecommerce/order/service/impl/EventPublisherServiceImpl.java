@@ -0,0 +1,81 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OutboxEvent;
+import com.ecommerce.order.event.OrderEvent;
+import com.ecommerce.order.event.OrderEventItem;
+import com.ecommerce.order.repository.OutboxEventRepository;
+import com.ecommerce.order.service.EventPublisherService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of EventPublisherService.
+ * Events are written to the outbox table inside the caller's transaction and relayed to Kafka by OutboxRelay.
+ * The record key is the order ID, so all events of one order stay in order on one partition.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventPublisherServiceImpl implements EventPublisherService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${order.saga.order-events-topic:order-events}")
+    private String topic;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishOrderEvent(Order order, String eventType) {
+        LocalDateTime now = LocalDateTime.now();
+        OrderEvent event = OrderEvent.builder()
+                .orderId(order.getId())
+                .eventType(eventType)
+                .source("order-service")
+                .userId(order.getUserId())
+                .items(OrderEvent.ORDER_PLACED.equals(eventType)
+                        ? order.getLines().stream()
+                                .map(line -> OrderEventItem.builder()
+                                        .productId(line.getProductId())
+                                        .quantity(line.getQuantity())
+                                        .build())
+                                .toList()
+                        : null)
+                .reason(OrderEvent.ORDER_CANCELLED.equals(eventType) ? order.getStatusReason() : null)
+                .timestamp(now)
+                .status(order.getStatus())
+                .currency(order.getCurrency())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getItemCount())
+                .createdAt(order.getCreatedAt())
+                .build();
+
+        log.debug("Publishing event: type={}, orderId={}", eventType, order.getId());
+        outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(order.getId().toString())
+                .eventType(eventType)
+                .aggregateId(order.getId())
+                .payload(toJson(event))
+                .createdAt(now)
+                .availableAt(now)
+                .build());
+    }
+
+    private String toJson(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize order event " + event.getEventType(), ex);
+        }
+    }
+}
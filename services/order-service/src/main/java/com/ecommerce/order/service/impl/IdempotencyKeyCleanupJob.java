@@ -0,0 +1,46 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.service.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes idempotency keys past their retention, in small batches so the deletes
+ * do not hold locks that placements are waiting for.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyCleanupJob {
+
+    private final OrderService orderService;
+
+    @Value("${order.idempotency.cleanup-batch-size:1000}")
+    private int batchSize;
+
+    // Upper bound of batches per run, so one run cannot hold the scheduler thread indefinitely
+    @Value("${order.idempotency.cleanup-max-batches-per-run:50}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${order.idempotency.cleanup-interval-ms:600000}")
+    public void purgeIdempotencyKeys() {
+        int deleted = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int batch = orderService.purgeIdempotencyKeys(batchSize);
+                deleted += batch;
+                if (batch < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Idempotency key cleanup failed, retrying on the next run: {}", ex.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} expired idempotency keys", deleted);
+        }
+    }
+}
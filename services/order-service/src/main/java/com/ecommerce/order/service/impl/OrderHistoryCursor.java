@@ -0,0 +1,41 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.dto.OrderSummaryDTO;
+import com.ecommerce.order.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last order of an order history page: its creation time and ID as tie-breaker.
+ * Serialized as an opaque, URL-safe token handed back to clients.
+ */
+record OrderHistoryCursor(LocalDateTime createdAt, Long orderId) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    static OrderHistoryCursor after(OrderSummaryDTO last) {
+        return new OrderHistoryCursor(last.getCreatedAt(), last.getId());
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, VERSION, orderId.toString(), createdAt.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static OrderHistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid cursor.");
+            }
+            return new OrderHistoryCursor(LocalDateTime.parse(parts[2]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new BadRequestException("Invalid cursor.");
+        }
+    }
+}
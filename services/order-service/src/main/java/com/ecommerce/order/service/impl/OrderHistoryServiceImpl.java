@@ -0,0 +1,90 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.dto.CursorPage;
+import com.ecommerce.order.dto.OrderSummaryDTO;
+import com.ecommerce.order.event.OrderEvent;
+import com.ecommerce.order.repository.OrderSummaryRepository;
+import com.ecommerce.order.service.OrderHistoryService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of OrderHistoryService.
+ *
+ * Metrics:
+ *   order.summary.updates  order events applied to the read model, tagged by outcome
+ *                         (applied, stale = the event would move the order back, skipped = event without a summary)
+ *   order.summary.lag      from the moment the event was published to its projection
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class OrderHistoryServiceImpl implements OrderHistoryService {
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final MeterRegistry meterRegistry;
+
+    // ----------------------------
+    // PROJECTION
+    // ----------------------------
+    @Override
+    public void applyOrderEvent(OrderEvent event) {
+        if (event.getStatus() == null || event.getCreatedAt() == null) {
+            // Published before the events carried the order summary; the migration backfilled those orders
+            meterRegistry.counter("order.summary.updates", "outcome", "skipped").increment();
+            return;
+        }
+
+        LocalDateTime updatedAt = event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.now();
+        OrderSummaryDTO summary = OrderSummaryDTO.builder()
+                .id(event.getOrderId())
+                .status(event.getStatus())
+                .statusReason(event.getReason())
+                .currency(event.getCurrency())
+                .totalAmount(event.getTotalAmount())
+                .itemCount(event.getItemCount())
+                .createdAt(event.getCreatedAt())
+                .updatedAt(updatedAt)
+                .build();
+
+        boolean applied = orderSummaryRepository.upsert(event.getUserId(), summary);
+        meterRegistry.counter("order.summary.updates", "outcome", applied ? "applied" : "stale").increment();
+        if (event.getTimestamp() != null) {
+            Duration lag = Duration.between(event.getTimestamp(), LocalDateTime.now());
+            meterRegistry.timer("order.summary.lag").record(lag.isNegative() ? Duration.ZERO : lag);
+        }
+        log.debug("Order summary {} for order ID={} ({})", applied ? "updated" : "unchanged", event.getOrderId(), event.getEventType());
+    }
+
+    // ----------------------------
+    // READ
+    // ----------------------------
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OrderSummaryDTO> getOrderHistory(Long userId, String cursor, int size) {
+        OrderHistoryCursor after = cursor != null && !cursor.isBlank() ? OrderHistoryCursor.decode(cursor) : null;
+
+        // One extra row tells whether another page follows
+        List<OrderSummaryDTO> rows = orderSummaryRepository.findByUser(userId,
+                after != null ? after.createdAt() : null,
+                after != null ? after.orderId() : null,
+                size + 1);
+        boolean hasNext = rows.size() > size;
+        List<OrderSummaryDTO> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<OrderSummaryDTO>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? OrderHistoryCursor.after(content.get(content.size() - 1)).encode() : null)
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.repository.OrderLocatorRepository;
+import com.ecommerce.order.repository.OrderPartitionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of orders and order_lines ahead of time, and moves months past
+ * their retention to the order_archive schema. There is no default partition: an order whose
+ * month has no partition cannot be inserted, hence several months are created in advance and
+ * the job runs far more often than once a month.
+ *
+ * The partitions of the current and the next month are checked after every run. At startup a
+ * missing one stops the application; later runs log an error and count order.partitions.missing.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "order.partitioning.maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class OrderPartitionMaintenanceJob {
+
+    private final OrderPartitionRepository orderPartitionRepository;
+    private final OrderLocatorRepository orderLocatorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.partitioning.months-ahead:3}")
+    private int monthsAhead;
+
+    // Whole months kept in the orders table, the current one included; 0 keeps everything
+    @Value("${order.partitioning.retention-months:24}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyOnStartup() {
+        maintainPartitions();
+        List<LocalDate> missing = missingMonths();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Order partitions missing for " + missing + ": orders of those months cannot be placed");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.partitioning.check-interval-ms:3600000}")
+    public void maintainPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        try {
+            for (int i = 0; i <= monthsAhead; i++) {
+                LocalDate month = currentMonth.plusMonths(i);
+                if (orderPartitionRepository.createMonth(month)) {
+                    log.info("Created order partitions for {}", month);
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("Could not create order partitions, retrying on the next run: {}", ex.getMessage());
+        }
+
+        try {
+            List<LocalDate> missing = missingMonths();
+            if (!missing.isEmpty()) {
+                meterRegistry.counter("order.partitions.missing").increment(missing.size());
+                log.error("Order partitions missing for {}: orders of those months cannot be placed", missing);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Could not check order partitions, retrying on the next run: {}", ex.getMessage());
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+        LocalDate archiveBefore = currentMonth.minusMonths(retentionMonths - 1L);
+        try {
+            int archived = orderPartitionRepository.archiveMonthsBefore(archiveBefore);
+            if (archived > 0) {
+                Integer pruned = transactionTemplate.execute(status ->
+                        orderLocatorRepository.deleteCreatedBefore(archiveBefore.atStartOfDay()));
+                log.info("Archived {} months of orders before {} ({} locators pruned)", archived, archiveBefore, pruned);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not archive order partitions, retrying on the next run: {}", ex.getMessage());
+        }
+    }
+
+    // The current month takes today's orders, the next one tonight's after midnight on the last day
+    private List<LocalDate> missingMonths() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        return List.of(currentMonth, currentMonth.plusMonths(1)).stream()
+                .filter(month -> !orderPartitionRepository.monthExists(month))
+                .toList();
+    }
+}
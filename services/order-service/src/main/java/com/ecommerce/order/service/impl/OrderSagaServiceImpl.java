@@ -0,0 +1,154 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OrderStatus;
+import com.ecommerce.order.event.OrderEvent;
+import com.ecommerce.order.event.OrderSagaMetrics;
+import com.ecommerce.order.event.StockEvent;
+import com.ecommerce.order.repository.OrderLocatorRepository;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.service.EventPublisherService;
+import com.ecommerce.order.service.OrderSagaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of OrderSagaService.
+ *
+ * Every transition locks the order row first, so a reply, the timeout job and a customer cancel
+ * of the same order are applied one after the other against its current status.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class OrderSagaServiceImpl implements OrderSagaService {
+
+    private final OrderRepository orderRepository;
+    private final OrderLocatorRepository orderLocatorRepository;
+    private final EventPublisherService eventPublisherService;
+    private final OrderSagaMetrics orderSagaMetrics;
+
+    @Value("${order.saga.stock-timeout-ms:30000}")
+    private long stockTimeoutMs;
+
+    // How far back the timeout job looks for PENDING orders; bounds its scan to recent partitions
+    @Value("${order.saga.timeout-lookback-hours:168}")
+    private long timeoutLookbackHours;
+
+    // ----------------------------
+    // STOCK REPLIES
+    // ----------------------------
+    @Override
+    public void handleStockEvent(StockEvent event) {
+        Optional<Order> locked = lockOrder(event);
+        if (locked.isEmpty()) {
+            log.warn("Ignoring {} for unknown order ID={}", event.getEventType(), event.getOrderId());
+            return;
+        }
+        Order order = locked.get();
+
+        switch (event.getEventType()) {
+            case StockEvent.STOCK_RESERVED -> {
+                orderSagaMetrics.replyReceived("stock_reserved", event.getTimestamp());
+                stockReserved(order);
+            }
+            case StockEvent.STOCK_REJECTED -> {
+                orderSagaMetrics.replyReceived("stock_rejected", event.getTimestamp());
+                stockRejected(order, event);
+            }
+            case StockEvent.STOCK_EXPIRED -> {
+                orderSagaMetrics.replyReceived("stock_expired", event.getTimestamp());
+                stockExpired(order, event);
+            }
+            default -> log.warn("Ignoring unknown stock event type {} for order ID={}", event.getEventType(), order.getId());
+        }
+    }
+
+    // Replies carry the order's creation time, which limits the lookup to one partition;
+    // replies without it (older producers) go through the order's locator
+    private Optional<Order> lockOrder(StockEvent event) {
+        LocalDateTime createdAt = event.getOrderCreatedAt();
+        if (createdAt == null) {
+            return orderLocatorRepository.findCreatedAt(event.getOrderId())
+                    .flatMap(stored -> orderRepository.findForUpdateByIdAndCreatedAtBetween(event.getOrderId(), stored, stored));
+        }
+        // A range rather than equality: the echoed value may carry more precision than the stored one
+        return orderRepository.findForUpdateByIdAndCreatedAtBetween(
+                event.getOrderId(), createdAt.minusSeconds(1), createdAt.plusSeconds(1));
+    }
+
+    private void stockReserved(Order order) {
+        switch (order.getStatus()) {
+            case PENDING -> {
+                order.setStatus(OrderStatus.CONFIRMED);
+                eventPublisherService.publishOrderEvent(order, OrderEvent.ORDER_CONFIRMED);
+                orderSagaMetrics.finished(order, "confirmed");
+                log.info("Confirmed order ID={}", order.getId());
+            }
+            // Compensation: the stock was reserved after the order was cancelled (timeout or customer), give it back
+            case CANCELLED -> {
+                eventPublisherService.publishOrderEvent(order, OrderEvent.ORDER_CANCELLED);
+                log.info("Stock reserved for already cancelled order ID={}, requesting release", order.getId());
+            }
+            case CONFIRMED -> log.debug("Duplicate STOCK_RESERVED for order ID={}", order.getId());
+        }
+    }
+
+    private void stockRejected(Order order, StockEvent event) {
+        if (order.getStatus() != OrderStatus.PENDING) {
+            log.debug("Ignoring STOCK_REJECTED for order ID={} in status {}", order.getId(), order.getStatus());
+            return;
+        }
+        String reason = event.getReason() != null ? event.getReason() : "Insufficient stock";
+        cancel(order, reason.length() > 255 ? reason.substring(0, 255) : reason);
+        orderSagaMetrics.finished(order, "cancelled");
+        log.info("Cancelled order ID={}: {}", order.getId(), order.getStatusReason());
+    }
+
+    // Compensation: ORDER_CONFIRMED reached product-service after the reservation expired and its stock was sold
+    private void stockExpired(Order order, StockEvent event) {
+        if (order.getStatus() != OrderStatus.CONFIRMED) {
+            log.debug("Ignoring STOCK_EXPIRED for order ID={} in status {}", order.getId(), order.getStatus());
+            return;
+        }
+        String reason = event.getReason() != null ? event.getReason() : "Stock reservation expired";
+        cancel(order, reason.length() > 255 ? reason.substring(0, 255) : reason);
+        orderSagaMetrics.finished(order, "expired");
+        log.warn("Cancelled confirmed order ID={}: {}", order.getId(), order.getStatusReason());
+    }
+
+    // ----------------------------
+    // TIMEOUT
+    // ----------------------------
+    @Override
+    public int cancelTimedOutOrders(int limit) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(stockTimeoutMs));
+        List<Order> orders = orderRepository.lockPendingBetween(cutoff.minusHours(timeoutLookbackHours), cutoff, limit);
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        orders.forEach(order -> {
+            cancel(order, "Stock reservation timed out");
+            orderSagaMetrics.finished(order, "timed_out");
+        });
+        log.info("Cancelled {} orders whose stock reservation timed out", orders.size());
+        return orders.size();
+    }
+
+    // ORDER_CANCELLED also tells product-service to release anything it reserved for the order
+    private void cancel(Order order, String reason) {
+        order.setStatus(OrderStatus.CANCELLED);
+        order.setStatusReason(reason);
+        order.setCancelledAt(LocalDateTime.now());
+        eventPublisherService.publishOrderEvent(order, OrderEvent.ORDER_CANCELLED);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.service.OrderSagaService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cancels orders that got no stock reply within order.saga.stock-timeout-ms (compensation on timeout).
+ * Each batch is its own transaction; due orders are claimed with SKIP LOCKED, so several instances
+ * can run the job at the same time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderSagaTimeoutJob {
+
+    private final OrderSagaService orderSagaService;
+
+    @Value("${order.saga.timeout-batch-size:200}")
+    private int batchSize;
+
+    // Upper bound of batches per run, so one run cannot hold the scheduler thread indefinitely
+    @Value("${order.saga.timeout-max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${order.saga.timeout-check-interval-ms:5000}")
+    public void cancelTimedOutOrders() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            try {
+                if (orderSagaService.cancelTimedOutOrders(batchSize) < batchSize) {
+                    return;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Order saga timeout check failed, retrying on the next run: {}", ex.getMessage());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.client.CollapsingProductLookup;
+import com.ecommerce.order.client.ProductSnapshot;
+import com.ecommerce.order.dto.*;
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OrderLine;
+import com.ecommerce.order.entity.OrderLocator;
+import com.ecommerce.order.entity.OrderStatus;
+import com.ecommerce.order.exception.BadRequestException;
+import com.ecommerce.order.exception.NotFoundException;
+import com.ecommerce.order.event.OrderEvent;
+import com.ecommerce.order.event.OrderSagaMetrics;
+import com.ecommerce.order.repository.OrderIdempotencyRepository;
+import com.ecommerce.order.repository.OrderIdempotencyRepository.IdempotencyRecord;
+import com.ecommerce.order.repository.OrderLocatorRepository;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.service.EventPublisherService;
+import com.ecommerce.order.service.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Implementation of OrderService.
+ *
+ * Placement prices the lines before opening its transaction, so a database connection is held only
+ * for the inserts: the idempotency key claim, the order and its lines (one JDBC batch per table),
+ * the order's locator and the ORDER_PLACED outbox event that starts the stock reservation saga (see OrderSagaService).
+ *
+ * orders is partitioned by month: lookups by ID first read the order's createdAt from order_locators,
+ * so they touch one partition instead of all of them.
+ *
+ * Metrics:
+ *   order.placements  placement requests, tagged by outcome (placed, replayed)
+ *   order.placement   duration of placements that created an order
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class OrderServiceImpl implements OrderService {
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private final OrderRepository orderRepository;
+    private final OrderLocatorRepository orderLocatorRepository;
+    private final OrderIdempotencyRepository orderIdempotencyRepository;
+    private final CollapsingProductLookup productLookup;
+    private final EventPublisherService eventPublisherService;
+    private final OrderSagaMetrics orderSagaMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${order.idempotency.retention-hours:24}")
+    private long idempotencyRetentionHours;
+
+    // ----------------------------
+    // PLACE
+    // ----------------------------
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderPlacementResult placeOrder(PlaceOrderRequest request, String idempotencyKey) {
+        Long userId = request.getUserId();
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 100)) {
+            throw new BadRequestException("Idempotency-Key must be 1 to 100 characters.");
+        }
+
+        // Merge duplicate lines of the same product, keeping the request order
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        request.getLines().forEach(line -> quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum));
+
+        String requestHash = idempotencyKey != null ? requestHash(userId, quantities) : null;
+        if (idempotencyKey != null) {
+            Optional<OrderPlacementResult> replay = transactionTemplate.execute(status -> replay(userId, idempotencyKey, requestHash));
+            if (replay != null && replay.isPresent()) {
+                return replay.get();
+            }
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<Long, ProductSnapshot> products = fetchProducts(quantities.keySet());
+        Order order = buildOrder(userId, quantities, products);
+
+        OrderPlacementResult result = transactionTemplate.execute(status -> {
+            if (idempotencyKey != null
+                    && !orderIdempotencyRepository.claim(userId, idempotencyKey, requestHash, LocalDateTime.now())) {
+                // A concurrent attempt with the same key committed first
+                return replay(userId, idempotencyKey, requestHash).orElseThrow(() -> new BadRequestException(
+                        "A request with this Idempotency-Key is still being processed. Retry shortly."));
+            }
+            orderRepository.save(order);
+            orderLocatorRepository.save(OrderLocator.builder().orderId(order.getId()).createdAt(order.getCreatedAt()).build());
+            eventPublisherService.publishOrderEvent(order, OrderEvent.ORDER_PLACED);
+            if (idempotencyKey != null) {
+                orderIdempotencyRepository.attachOrder(userId, idempotencyKey, order.getId());
+            }
+            return OrderPlacementResult.builder().order(toResponse(order)).replayed(false).build();
+        });
+
+        if (!result.isReplayed()) {
+            sample.stop(meterRegistry.timer("order.placement"));
+            meterRegistry.counter("order.placements", "outcome", "placed").increment();
+            orderSagaMetrics.step("placed");
+            log.info("Placed order ID={} for user {}: {} lines, {} {}",
+                    order.getId(), userId, order.getLines().size(), order.getTotalAmount(), order.getCurrency());
+        }
+        return result;
+    }
+
+    // ----------------------------
+    // GET
+    // ----------------------------
+    @Override
+    @Transactional(readOnly = true)
+    public OrderResponse getOrder(Long id) {
+        return toResponse(findOrder(id));
+    }
+
+    // ----------------------------
+    // CANCEL
+    // ----------------------------
+    @Override
+    public OrderResponse cancelOrder(Long id) {
+        // Locked like the saga transitions, so a stock reply cannot confirm the order while it is being cancelled
+        LocalDateTime createdAt = createdAt(id);
+        Order order = orderRepository.findForUpdateByIdAndCreatedAtBetween(id, createdAt, createdAt)
+                .orElseThrow(() -> new NotFoundException("Order not found with id: " + id));
+        switch (order.getStatus()) {
+            case CANCELLED -> {
+                return toResponse(order);
+            }
+            case CONFIRMED -> throw new BadRequestException(
+                    "Order " + id + " is confirmed and its stock is committed; it can no longer be cancelled.");
+            default -> {
+                order.setStatus(OrderStatus.CANCELLED);
+                order.setStatusReason("Cancelled by customer");
+                order.setCancelledAt(LocalDateTime.now());
+                // Releases the stock if product-service has reserved it already
+                eventPublisherService.publishOrderEvent(order, OrderEvent.ORDER_CANCELLED);
+                orderSagaMetrics.finished(order, "cancelled");
+            }
+        }
+        log.info("Cancelled order ID={}", id);
+        return toResponse(order);
+    }
+
+    // ----------------------------
+    // IDEMPOTENCY KEY RETENTION
+    // ----------------------------
+    @Override
+    public int purgeIdempotencyKeys(int limit) {
+        return orderIdempotencyRepository.deleteOlderThan(LocalDateTime.now().minusHours(idempotencyRetentionHours), limit);
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private Optional<OrderPlacementResult> replay(Long userId, String idempotencyKey, String requestHash) {
+        Optional<IdempotencyRecord> record = orderIdempotencyRepository.find(userId, idempotencyKey);
+        if (record.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!record.get().requestHash().equals(requestHash)) {
+            throw new BadRequestException("Idempotency-Key " + idempotencyKey + " was already used with a different request.");
+        }
+        if (record.get().orderId() == null) {
+            return Optional.empty();
+        }
+
+        Order order = findOrder(record.get().orderId());
+        meterRegistry.counter("order.placements", "outcome", "replayed").increment();
+        log.debug("Replaying order ID={} for Idempotency-Key {}", order.getId(), idempotencyKey);
+        return Optional.of(OrderPlacementResult.builder().order(toResponse(order)).replayed(true).build());
+    }
+
+    private Order findOrder(Long id) {
+        return orderRepository.findWithLinesByIdAndCreatedAt(id, createdAt(id))
+                .orElseThrow(() -> new NotFoundException("Order not found with id: " + id));
+    }
+
+    // Names the partition of the order; without a locator the order does not exist (or was archived)
+    private LocalDateTime createdAt(Long id) {
+        return orderLocatorRepository.findCreatedAt(id)
+                .orElseThrow(() -> new NotFoundException("Order not found with id: " + id));
+    }
+
+    // Lookups of concurrent placements are merged into shared bulk calls (see CollapsingProductLookup)
+    private Map<Long, ProductSnapshot> fetchProducts(Collection<Long> productIds) {
+        Map<Long, ProductSnapshot> products = productLookup.getProducts(productIds);
+        List<Long> missingIds = productIds.stream().filter(id -> !products.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            throw new BadRequestException("Products not found with ids: " + missingIds);
+        }
+        return products;
+    }
+
+    private Order buildOrder(Long userId, Map<Long, Integer> quantities, Map<Long, ProductSnapshot> products) {
+        Order order = Order.builder()
+                .userId(userId)
+                .status(OrderStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        String currency = null;
+        BigDecimal total = BigDecimal.ZERO;
+        int itemCount = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            ProductSnapshot product = products.get(entry.getKey());
+            if (!ACTIVE.equals(product.getStatus())) {
+                throw new BadRequestException("Product " + product.getSku() + " is not available for sale.");
+            }
+            if (currency == null) {
+                currency = product.getCurrency();
+            } else if (!currency.equals(product.getCurrency())) {
+                throw new BadRequestException("All products of an order must be priced in the same currency.");
+            }
+
+            BigDecimal unitPrice = unitPrice(product);
+            BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(entry.getValue()));
+            order.getLines().add(OrderLine.builder()
+                    .order(order)
+                    .productId(product.getId())
+                    .sku(product.getSku())
+                    .productName(product.getName())
+                    .unitPrice(unitPrice)
+                    .quantity(entry.getValue())
+                    .lineTotal(lineTotal)
+                    .build());
+            total = total.add(lineTotal);
+            itemCount += entry.getValue();
+        }
+
+        order.setCurrency(currency);
+        order.setTotalAmount(total);
+        order.setItemCount(itemCount);
+        return order;
+    }
+
+    // A discount applies only when it is below the list price
+    private static BigDecimal unitPrice(ProductSnapshot product) {
+        BigDecimal discount = product.getDiscountPrice();
+        return discount != null && discount.compareTo(product.getPrice()) < 0 ? discount : product.getPrice();
+    }
+
+    // SHA-256 of the user and the merged lines, sorted by product ID
+    private static String requestHash(Long userId, Map<Long, Integer> quantities) {
+        StringBuilder canonical = new StringBuilder().append(userId);
+        new TreeMap<>(quantities).forEach((productId, quantity) -> canonical.append('|').append(productId).append(':').append(quantity));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private OrderResponse toResponse(Order order) {
+        return OrderResponse.builder()
+                .id(order.getId())
+                .userId(order.getUserId())
+                .status(order.getStatus())
+                .statusReason(order.getStatusReason())
+                .currency(order.getCurrency())
+                .totalAmount(order.getTotalAmount())
+                .itemCount(order.getItemCount())
+                .lines(order.getLines().stream()
+                        .map(line -> OrderLineDTO.builder()
+                                .id(line.getId())
+                                .productId(line.getProductId())
+                                .sku(line.getSku())
+                                .productName(line.getProductName())
+                                .unitPrice(line.getUnitPrice())
+                                .quantity(line.getQuantity())
+                                .lineTotal(line.getLineTotal())
+                                .build())
+                        .toList())
+                .createdAt(order.getCreatedAt())
+                .updatedAt(order.getUpdatedAt())
+                .cancelledAt(order.getCancelledAt())
+                .build();
+    }
+}
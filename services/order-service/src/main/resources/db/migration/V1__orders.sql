@@ -0,0 +1,57 @@
+-- ===============================================================
+-- ORDERS
+-- IDs come from pooled sequences (INCREMENT BY 50) so Hibernate
+-- can batch the inserts of an order and its lines; with IDENTITY
+-- every row would need its own round trip.
+-- ===============================================================
+
+CREATE SEQUENCE IF NOT EXISTS orders_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS order_lines_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS orders (
+    id            BIGINT         NOT NULL DEFAULT nextval('orders_seq') PRIMARY KEY,
+    user_id       BIGINT         NOT NULL,
+    status        VARCHAR(20)    NOT NULL,
+    currency      VARCHAR(3)     NOT NULL,
+    total_amount  NUMERIC(12, 2) NOT NULL,
+    item_count    INTEGER        NOT NULL,
+    version       BIGINT         NOT NULL DEFAULT 0,
+    created_at    TIMESTAMP(6)   NOT NULL,
+    updated_at    TIMESTAMP(6),
+    cancelled_at  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS order_lines (
+    id            BIGINT         NOT NULL DEFAULT nextval('order_lines_seq') PRIMARY KEY,
+    order_id      BIGINT         NOT NULL REFERENCES orders (id) ON DELETE CASCADE,
+    product_id    BIGINT         NOT NULL,  -- no FK: products live in product-service
+    sku           VARCHAR(100)   NOT NULL,
+    product_name  VARCHAR(255)   NOT NULL,
+    unit_price    NUMERIC(12, 2) NOT NULL,
+    quantity      INTEGER        NOT NULL CHECK (quantity > 0),
+    line_total    NUMERIC(12, 2) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_lines_order ON order_lines (order_id);
+
+-- "My orders": newest first per user
+CREATE INDEX IF NOT EXISTS idx_orders_user_created ON orders (user_id, created_at DESC, id DESC);
+
+-- ===============================================================
+-- IDEMPOTENCY KEYS
+-- A client retrying POST /api/orders with the same Idempotency-Key
+-- gets the order of the first attempt instead of a second order.
+-- The key is claimed in the same transaction that inserts the
+-- order, so two concurrent attempts cannot both place one.
+-- ===============================================================
+
+CREATE TABLE IF NOT EXISTS order_idempotency_keys (
+    user_id          BIGINT       NOT NULL,
+    idempotency_key  VARCHAR(100) NOT NULL,
+    request_hash     VARCHAR(64)  NOT NULL,  -- SHA-256 of the request; a reused key with another payload is rejected
+    order_id         BIGINT,
+    created_at       TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_idempotency_keys_created ON order_idempotency_keys (created_at);
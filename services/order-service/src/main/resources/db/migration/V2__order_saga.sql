@@ -0,0 +1,38 @@
+-- ===============================================================
+-- ORDER SAGA
+-- Placement publishes ORDER_PLACED; product-service answers with
+-- STOCK_RESERVED or STOCK_REJECTED and the order is confirmed or
+-- cancelled. Orders without an answer are cancelled after a
+-- timeout, which releases any stock reserved late.
+-- ===============================================================
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS status_reason VARCHAR(255);
+
+-- The timeout job only scans orders still waiting for stock
+CREATE INDEX IF NOT EXISTS idx_orders_pending_created ON orders (created_at) WHERE status = 'PENDING';
+
+-- ===============================================================
+-- OUTBOX
+-- Saga events are written in the transaction that changes the
+-- order and relayed to Kafka afterwards, so an order change and
+-- its event are never separated.
+-- ===============================================================
+
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGINT       NOT NULL DEFAULT nextval('outbox_events_seq') PRIMARY KEY,
+    topic        VARCHAR(255) NOT NULL,
+    message_key  VARCHAR(255),
+    event_type   VARCHAR(100) NOT NULL,
+    aggregate_id BIGINT,
+    payload      TEXT         NOT NULL,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    created_at   TIMESTAMP(6) NOT NULL,
+    available_at TIMESTAMP(6) NOT NULL,  -- not relayed before this instant (retry backoff)
+    published_at TIMESTAMP(6)
+);
+
+-- The relay reads pending rows in id order; published rows drop out of the index
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published_at ON outbox_events (published_at);
@@ -0,0 +1,31 @@
+-- ===============================================================
+-- ORDER SUMMARIES (read model)
+-- One denormalised row per order for order history pages, kept up
+-- to date from the order events topic. History reads never touch
+-- orders or order_lines, so they do not compete with checkout.
+-- ===============================================================
+
+CREATE TABLE IF NOT EXISTS order_summaries (
+    order_id       BIGINT         NOT NULL PRIMARY KEY,  -- no FK: filled asynchronously from events
+    user_id        BIGINT         NOT NULL,
+    status         VARCHAR(20)    NOT NULL,
+    status_reason  VARCHAR(255),
+    currency       VARCHAR(3)     NOT NULL,
+    total_amount   NUMERIC(12, 2) NOT NULL,
+    item_count     INTEGER        NOT NULL,
+    created_at     TIMESTAMP(6)   NOT NULL,
+    updated_at     TIMESTAMP(6)   NOT NULL
+);
+
+-- Keyset pages of a user's orders, newest first
+CREATE INDEX IF NOT EXISTS idx_order_summaries_user_created
+    ON order_summaries (user_id, created_at DESC, order_id DESC);
+
+-- Orders placed before this migration
+INSERT INTO order_summaries (order_id, user_id, status, status_reason, currency, total_amount, item_count, created_at, updated_at)
+SELECT id, user_id, status, status_reason, currency, total_amount, item_count, created_at, COALESCE(updated_at, created_at)
+FROM orders
+ON CONFLICT (order_id) DO NOTHING;
+
+-- The order list was the only reader of this index; checkout no longer pays for maintaining it
+DROP INDEX IF EXISTS idx_orders_user_created;
@@ -0,0 +1,132 @@
+-- ===============================================================
+-- MONTHLY PARTITIONS
+-- orders is range-partitioned by created_at and order_lines by the
+-- created_at of their order (order_created_at), one partition per
+-- month for both, so a month of orders and its lines are detached
+-- together. Vacuum and index maintenance stay per month instead of
+-- growing with the whole history.
+--
+-- Partitioned tables only enforce keys that include the partition
+-- column: the primary keys become (id, created_at) and
+-- (id, order_created_at), and the order_lines -> orders foreign key
+-- is dropped (lines are only written together with their order).
+--
+-- OrderPartitionMaintenanceJob keeps partitions created ahead of
+-- time and moves expired months to the order_archive schema, using
+-- the two functions below.
+-- ===============================================================
+
+CREATE SCHEMA IF NOT EXISTS order_archive;
+
+ALTER TABLE order_lines RENAME TO order_lines_unpartitioned;
+ALTER TABLE orders RENAME TO orders_unpartitioned;
+
+CREATE TABLE orders (
+    id             BIGINT         NOT NULL DEFAULT nextval('orders_seq'),
+    user_id        BIGINT         NOT NULL,
+    status         VARCHAR(20)    NOT NULL,
+    status_reason  VARCHAR(255),
+    currency       VARCHAR(3)     NOT NULL,
+    total_amount   NUMERIC(12, 2) NOT NULL,
+    item_count     INTEGER        NOT NULL,
+    version        BIGINT         NOT NULL DEFAULT 0,
+    created_at     TIMESTAMP(6)   NOT NULL,
+    updated_at     TIMESTAMP(6),
+    cancelled_at   TIMESTAMP(6)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE order_lines (
+    id                BIGINT         NOT NULL DEFAULT nextval('order_lines_seq'),
+    order_id          BIGINT         NOT NULL,
+    order_created_at  TIMESTAMP(6)   NOT NULL,  -- partition key, copied from the order
+    product_id        BIGINT         NOT NULL,  -- no FK: products live in product-service
+    sku               VARCHAR(100)   NOT NULL,
+    product_name      VARCHAR(255)   NOT NULL,
+    unit_price        NUMERIC(12, 2) NOT NULL,
+    quantity          INTEGER        NOT NULL CHECK (quantity > 0),
+    line_total        NUMERIC(12, 2) NOT NULL
+) PARTITION BY RANGE (order_created_at);
+
+-- Creates the orders and order_lines partitions of the month containing p_month.
+-- Returns false if they already exist.
+CREATE OR REPLACE FUNCTION create_order_partitions(p_month DATE) RETURNS BOOLEAN
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_from   DATE := CAST(date_trunc('month', p_month) AS DATE);
+    v_to     DATE := CAST(date_trunc('month', p_month) + INTERVAL '1 month' AS DATE);
+    v_suffix TEXT := to_char(p_month, 'YYYYMM');
+BEGIN
+    -- Serializes instances running the maintenance job at the same time
+    PERFORM pg_advisory_xact_lock(hashtext('order_partitions'));
+    IF to_regclass('orders_p' || v_suffix) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format('CREATE TABLE orders_p%s PARTITION OF orders FOR VALUES FROM (%L) TO (%L)', v_suffix, v_from, v_to);
+    EXECUTE format('CREATE TABLE order_lines_p%s PARTITION OF order_lines FOR VALUES FROM (%L) TO (%L)', v_suffix, v_from, v_to);
+    RETURN TRUE;
+END;
+$$;
+
+-- Detaches the partitions of every month that ended on or before p_before and moves them
+-- to the order_archive schema, where they can be dumped and dropped. Returns the number of months.
+CREATE OR REPLACE FUNCTION archive_order_partitions(p_before DATE) RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    v_suffix TEXT;
+    v_count  INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('order_partitions'));
+    -- DETACH needs an exclusive lock on the parent; give up rather than queue checkout writes behind it
+    PERFORM set_config('lock_timeout', '5s', true);
+
+    FOR v_suffix IN
+        SELECT right(c.relname, 6)
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = CAST('orders' AS REGCLASS)
+          AND c.relname ~ '^orders_p[0-9]{6}$'
+          AND to_date(right(c.relname, 6), 'YYYYMM') + INTERVAL '1 month' <= p_before
+        ORDER BY 1
+    LOOP
+        EXECUTE format('ALTER TABLE order_lines DETACH PARTITION order_lines_p%s', v_suffix);
+        EXECUTE format('ALTER TABLE orders DETACH PARTITION orders_p%s', v_suffix);
+        EXECUTE format('ALTER TABLE order_lines_p%s SET SCHEMA order_archive', v_suffix);
+        EXECUTE format('ALTER TABLE orders_p%s SET SCHEMA order_archive', v_suffix);
+        v_count := v_count + 1;
+    END LOOP;
+    RETURN v_count;
+END;
+$$;
+
+-- Partitions for the existing orders and the next three months
+DO $$
+DECLARE
+    v_month DATE := CAST(date_trunc('month', COALESCE((SELECT MIN(created_at) FROM orders_unpartitioned), now())) AS DATE);
+BEGIN
+    WHILE v_month <= now() + INTERVAL '3 months' LOOP
+        PERFORM create_order_partitions(v_month);
+        v_month := CAST(v_month + INTERVAL '1 month' AS DATE);
+    END LOOP;
+END;
+$$;
+
+INSERT INTO orders (id, user_id, status, status_reason, currency, total_amount, item_count, version,
+                    created_at, updated_at, cancelled_at)
+SELECT id, user_id, status, status_reason, currency, total_amount, item_count, version,
+       created_at, updated_at, cancelled_at
+FROM orders_unpartitioned;
+
+INSERT INTO order_lines (id, order_id, order_created_at, product_id, sku, product_name, unit_price, quantity, line_total)
+SELECT l.id, l.order_id, o.created_at, l.product_id, l.sku, l.product_name, l.unit_price, l.quantity, l.line_total
+FROM order_lines_unpartitioned l
+JOIN orders_unpartitioned o ON o.id = l.order_id;
+
+DROP TABLE order_lines_unpartitioned;
+DROP TABLE orders_unpartitioned;
+
+-- Keys and indexes are created on the parents and cascade to every partition, existing and future
+ALTER TABLE orders ADD PRIMARY KEY (id, created_at);
+ALTER TABLE order_lines ADD PRIMARY KEY (id, order_created_at);
+
+CREATE INDEX IF NOT EXISTS idx_order_lines_order ON order_lines (order_id, order_created_at);
+CREATE INDEX IF NOT EXISTS idx_orders_pending_created ON orders (created_at) WHERE status = 'PENDING';
@@ -0,0 +1,12 @@
+-- ===============================================================
+-- OUTBOX ORDERING
+-- The relay reads pending rows in created_at order (pooled ids are
+-- not write order) and holds back events that have an earlier
+-- unpublished event of the same order.
+-- ===============================================================
+
+DROP INDEX IF EXISTS idx_outbox_events_pending;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (created_at, id) WHERE published_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending_aggregate
+    ON outbox_events (aggregate_id, created_at, id) WHERE published_at IS NULL;
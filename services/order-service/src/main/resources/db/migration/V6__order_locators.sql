@@ -0,0 +1,19 @@
+-- ===============================================================
+-- ORDER LOCATORS
+-- orders is partitioned by created_at, so GET /api/orders/{id} and
+-- cancel, which only know the ID, probed every monthly partition.
+-- order_locators maps each order ID to its created_at; it is
+-- written in the placement transaction and lets those lookups
+-- target a single partition.
+-- ===============================================================
+
+CREATE TABLE order_locators (
+    order_id    BIGINT        PRIMARY KEY,
+    created_at  TIMESTAMP(6)  NOT NULL
+);
+
+INSERT INTO order_locators (order_id, created_at)
+SELECT id, created_at FROM orders;
+
+-- Pruned together with archived months
+CREATE INDEX IF NOT EXISTS idx_order_locators_created ON order_locators (created_at);
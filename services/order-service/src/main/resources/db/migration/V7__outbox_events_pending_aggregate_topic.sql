@@ -0,0 +1,10 @@
+-- ===============================================================
+-- OUTBOX ORDERING PER TOPIC
+-- The relay holds back an event only behind earlier unpublished
+-- events of the same aggregate on the same topic; the lookup index
+-- leads with the topic to match.
+-- ===============================================================
+
+DROP INDEX IF EXISTS idx_outbox_events_pending_aggregate;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending_aggregate
+    ON outbox_events (topic, aggregate_id, created_at, id) WHERE published_at IS NULL;
@@ -0,0 +1,94 @@
+package com.ecommerce.order.client;
+
+import com.ecommerce.order.exception.ProductServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CollapsingProductLookupTests {
+
+    private final ProductClient productClient = mock(ProductClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private CollapsingProductLookup lookup;
+
+    @AfterEach
+    void tearDown() {
+        lookup.shutdown();
+    }
+
+    @Test
+    void concurrentLookups_shareBulkCalls() throws Exception {
+        lookup = new CollapsingProductLookup(productClient, meterRegistry, 20, 500, 3000, 60_000, 1000, 4);
+        when(productClient.lookup(any())).thenAnswer(invocation -> {
+            downstreamCalls.incrementAndGet();
+            ProductLookupRequest request = invocation.getArgument(0);
+            return ProductLookupResult.builder()
+                    .products(request.getIds().stream().filter(id -> id != 99L).map(this::product).toList())
+                    .missingIds(request.getIds().contains(99L) ? List.of(99L) : List.of())
+                    .build();
+        });
+
+        int callers = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<Long, ProductSnapshot>>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                long productId = i % 10 + 1;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return lookup.getProducts(List.of(productId, 99L));
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < callers; i++) {
+                Map<Long, ProductSnapshot> products = results.get(i).get(5, TimeUnit.SECONDS);
+                assertThat(products).containsOnlyKeys((long) i % 10 + 1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(downstreamCalls.get()).isLessThan(callers);
+        assertThat(meterRegistry.counter("order.product-lookup.calls").count()).isEqualTo(downstreamCalls.get());
+        assertThat(meterRegistry.get("order.product-lookup.collapse-ratio").gauge().value()).isGreaterThan(1);
+
+        // Found products are cached; the missing one is asked for again
+        lookup.getProducts(List.of(1L));
+        assertThat(meterRegistry.counter("order.product-lookup.keys", "source", "cache").count()).isPositive();
+    }
+
+    @Test
+    void failedCall_failsEveryWaitingCaller() {
+        lookup = new CollapsingProductLookup(productClient, meterRegistry, 5, 500, 3000, 60_000, 1000, 4);
+        when(productClient.lookup(any())).thenThrow(new IllegalStateException("product-service down"));
+
+        assertThatThrownBy(() -> lookup.getProducts(List.of(1L, 2L)))
+                .isInstanceOf(ProductServiceUnavailableException.class);
+    }
+
+    private ProductSnapshot product(Long id) {
+        return ProductSnapshot.builder()
+                .id(id)
+                .sku("SKU-" + id)
+                .name("Product")
+                .price(new BigDecimal("10.00"))
+                .currency("USD")
+                .status("ACTIVE")
+                .build();
+    }
+}
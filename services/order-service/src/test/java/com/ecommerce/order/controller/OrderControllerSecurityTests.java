@@ -0,0 +1,84 @@
+package com.ecommerce.order.controller;
+
+import com.ecommerce.order.config.SecurityConfig;
+import com.ecommerce.order.dto.OrderResponse;
+import com.ecommerce.order.service.OrderHistoryService;
+import com.ecommerce.order.service.OrderService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The order API is limited to ADMIN tokens until tokens carry the numeric user ID (see SecurityConfig).
+ */
+@WebMvcTest(controllers = OrderController.class, properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "order.security.jwt-secret=" + OrderControllerSecurityTests.SECRET
+})
+@Import(SecurityConfig.class)
+class OrderControllerSecurityTests {
+
+    static final String SECRET = "test-secret-test-secret-test-secret-0123";
+
+    @MockitoBean
+    private OrderService orderService;
+
+    @MockitoBean
+    private OrderHistoryService orderHistoryService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void withoutToken_unauthorized() throws Exception {
+        mockMvc.perform(get("/api/orders/1")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void customerToken_forbidden() throws Exception {
+        String token = token("ROLE_CUSTOMER");
+
+        mockMvc.perform(get("/api/orders/1").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/orders").param("userId", "7").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/orders/1/cancel").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/orders").header("Authorization", "Bearer " + token)
+                        .contentType("application/json")
+                        .content("{\"userId\":7,\"lines\":[{\"productId\":1,\"quantity\":1}]}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminToken_allowed() throws Exception {
+        when(orderService.getOrder(1L)).thenReturn(OrderResponse.builder().id(1L).userId(7L).build());
+
+        mockMvc.perform(get("/api/orders/1").header("Authorization", "Bearer " + token("ADMIN")))
+                .andExpect(status().isOk());
+    }
+
+    private static String token(String role) {
+        return Jwts.builder()
+                .subject("user@example.com")
+                .claim("role", List.of(role))
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,219 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.service.impl.OrderPartitionMaintenanceJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Monthly partitions of orders and order_lines (migration V4) against PostgreSQL: orders written before
+ * V4 move into their month's partitions, create_order_partitions and archive_order_partitions behave as
+ * OrderPartitionMaintenanceJob expects, and an order without a partition for its month is rejected.
+ *
+ * The schema is migrated up to V3 first and seeded, then to the latest version, as an existing database
+ * would be. The tests run in order and share that database. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        // Archiving is driven by the tests; the job must not archive at startup
+        "order.partitioning.retention-months=0"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({OrderPartitionRepository.class, OrderPartitionMaintenanceJob.class, OrderPartitionMigrationTests.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class OrderPartitionMigrationTests {
+
+    private static final LocalDate CURRENT_MONTH = LocalDate.now().withDayOfMonth(1);
+    // Beyond the default 24 months of retention, two months apart
+    private static final LocalDate OLD_MONTH = CURRENT_MONTH.minusMonths(40);
+    private static final LocalDate EXPIRED_MONTH = CURRENT_MONTH.minusMonths(38);
+
+    private static final long OLD_ORDER = 1L;
+    private static final long EXPIRED_ORDER = 2L;
+    private static final long RECENT_ORDER = 3L;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private OrderPartitionRepository orderPartitionRepository;
+
+    @Autowired
+    private OrderLocatorRepository orderLocatorRepository;
+
+    @Autowired
+    private OrderPartitionMaintenanceJob orderPartitionMaintenanceJob;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrateWithExistingOrders() {
+        DataSource dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).target("3").load().migrate();
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        insertUnpartitioned(jdbc, OLD_ORDER, OLD_MONTH.plusDays(4).atTime(10, 0));
+        insertUnpartitioned(jdbc, EXPIRED_ORDER, EXPIRED_MONTH.plusDays(2).atTime(18, 30));
+        insertUnpartitioned(jdbc, RECENT_ORDER, CURRENT_MONTH.atTime(9, 15));
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+    }
+
+    @Test
+    @Order(1)
+    void existingOrders_moveIntoTheirMonthPartitions() {
+        for (long orderId : new long[]{OLD_ORDER, EXPIRED_ORDER, RECENT_ORDER}) {
+            LocalDateTime createdAt = jdbcTemplate.queryForObject(
+                    "SELECT created_at FROM orders WHERE id = ?", LocalDateTime.class, orderId);
+            String suffix = suffix(createdAt.toLocalDate());
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT tableoid::regclass::text FROM orders WHERE id = ?", String.class, orderId))
+                    .isEqualTo("orders_p" + suffix);
+            assertThat(jdbcTemplate.queryForList("""
+                            SELECT DISTINCT tableoid::regclass::text FROM order_lines
+                            WHERE order_id = ? AND order_created_at = ?
+                            """, String.class, orderId, Timestamp.valueOf(createdAt)))
+                    .containsExactly("order_lines_p" + suffix);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM order_lines WHERE order_id = ?", Long.class, orderId)).isEqualTo(2);
+            assertThat(orderLocatorRepository.findCreatedAt(orderId)).contains(createdAt);
+        }
+    }
+
+    @Test
+    @Order(2)
+    void createMonthTwice_secondCallIsNoOp() {
+        LocalDate month = CURRENT_MONTH.plusMonths(12);
+        assertThat(orderPartitionRepository.monthExists(month)).isFalse();
+
+        assertThat(orderPartitionRepository.createMonth(month)).isTrue();
+        assertThat(orderPartitionRepository.createMonth(month)).isFalse();
+
+        assertThat(orderPartitionRepository.monthExists(month)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("""
+                        SELECT count(*) FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE c.relname IN (?, ?)
+                        """, Long.class, "orders_p" + suffix(month), "order_lines_p" + suffix(month)))
+                .isEqualTo(2);
+    }
+
+    @Test
+    @Order(3)
+    void archive_movesMonthWithItsLinesToArchiveSchema() {
+        String suffix = suffix(OLD_MONTH);
+
+        assertThat(orderPartitionRepository.archiveMonthsBefore(OLD_MONTH.plusMonths(1))).isEqualTo(1);
+        assertThat(orderPartitionRepository.archiveMonthsBefore(OLD_MONTH.plusMonths(1))).isZero();
+
+        assertThat(orderPartitionRepository.monthExists(OLD_MONTH)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders WHERE id = ?", Long.class, OLD_ORDER)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM order_lines WHERE order_id = ?", Long.class, OLD_ORDER)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM order_archive.orders_p" + suffix + " WHERE id = ?", Long.class, OLD_ORDER)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM order_archive.order_lines_p" + suffix + " WHERE order_id = ?", Long.class, OLD_ORDER)).isEqualTo(2);
+
+        // Later months are untouched
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders WHERE id = ?", Long.class, EXPIRED_ORDER)).isEqualTo(1);
+    }
+
+    @Test
+    @Order(4)
+    void maintenanceJob_archivesExpiredMonthsAndPrunesLocators() {
+        ReflectionTestUtils.setField(orderPartitionMaintenanceJob, "retentionMonths", 24);
+
+        orderPartitionMaintenanceJob.maintainPartitions();
+
+        assertThat(orderPartitionRepository.monthExists(EXPIRED_MONTH)).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM order_archive.orders_p" + suffix(EXPIRED_MONTH), Long.class)).isEqualTo(1);
+        assertThat(orderLocatorRepository.findCreatedAt(OLD_ORDER)).isEmpty();
+        assertThat(orderLocatorRepository.findCreatedAt(EXPIRED_ORDER)).isEmpty();
+        assertThat(orderLocatorRepository.findCreatedAt(RECENT_ORDER)).isPresent();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM orders WHERE id = ?", Long.class, RECENT_ORDER)).isEqualTo(1);
+
+        // Current month and the months ahead are in place
+        assertThat(orderPartitionRepository.monthExists(CURRENT_MONTH)).isTrue();
+        assertThat(orderPartitionRepository.monthExists(CURRENT_MONTH.plusMonths(3))).isTrue();
+        assertThat(meterRegistry.find("order.partitions.missing").counter()).isNull();
+    }
+
+    @Test
+    @Order(5)
+    void insertForMonthWithoutPartition_fails() {
+        LocalDate month = CURRENT_MONTH.plusYears(10);
+        assertThat(orderPartitionRepository.monthExists(month)).isFalse();
+
+        assertThatThrownBy(() -> jdbcTemplate.update("""
+                        INSERT INTO orders (user_id, status, currency, total_amount, item_count, created_at)
+                        VALUES (7, 'PENDING', 'USD', 10.00, 1, ?)
+                        """, Timestamp.valueOf(month.atTime(12, 0))))
+                .isInstanceOf(DataAccessException.class)
+                .hasMessageContaining("no partition of relation \"orders\"");
+    }
+
+    // Schema as of V3: unpartitioned orders and order_lines
+    private static void insertUnpartitioned(JdbcTemplate jdbc, long orderId, LocalDateTime createdAt) {
+        jdbc.update("""
+                        INSERT INTO orders (id, user_id, status, currency, total_amount, item_count, created_at, updated_at)
+                        VALUES (?, 7, 'CONFIRMED', 'USD', 30.00, 3, ?, ?)
+                        """,
+                orderId, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+        jdbc.update("""
+                        INSERT INTO order_lines (order_id, product_id, sku, product_name, unit_price, quantity, line_total)
+                        VALUES (?, 1, 'SKU-1', 'Phone', 10.00, 2, 20.00), (?, 2, 'SKU-2', 'Case', 10.00, 1, 10.00)
+                        """,
+                orderId, orderId);
+    }
+
+    private static String suffix(LocalDate month) {
+        return month.format(DateTimeFormatter.ofPattern("yyyyMM"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.client.CollapsingProductLookup;
+import com.ecommerce.order.client.ProductClient;
+import com.ecommerce.order.client.ProductLookupRequest;
+import com.ecommerce.order.client.ProductLookupResult;
+import com.ecommerce.order.client.ProductSnapshot;
+import com.ecommerce.order.dto.OrderLineRequest;
+import com.ecommerce.order.dto.PlaceOrderRequest;
+import com.ecommerce.order.event.OrderSagaMetrics;
+import com.ecommerce.order.repository.OrderIdempotencyRepository;
+import com.ecommerce.order.repository.OrderLocatorRepository;
+import com.ecommerce.order.repository.OrderRepository;
+import com.ecommerce.order.repository.OutboxEventRepository;
+import com.ecommerce.order.service.impl.EventPublisherServiceImpl;
+import com.ecommerce.order.service.impl.OrderServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Sustained placement load: concurrent checkouts each go through OrderService.placeOrder for a fixed duration,
+ * with product-service stubbed. Reports orders/sec and guards that an order costs about one batched INSERT
+ * per table (orders, order_lines, order_locators, outbox_events) rather than one statement per row.
+ *
+ * Runs against the in-memory test database, so the rate is a regression signal for the write path,
+ * not a capacity figure for PostgreSQL.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import({
+        OrderServiceImpl.class,
+        CollapsingProductLookup.class,
+        EventPublisherServiceImpl.class,
+        OrderSagaMetrics.class,
+        JacksonAutoConfiguration.class,
+        OrderPlacementLoadTests.MetricsConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderPlacementLoadTests {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPlacementLoadTests.class);
+
+    private static final int WRITERS = 8;
+    private static final int LINES_PER_ORDER = 5;
+    private static final long DURATION_MILLIS = 5_000;
+
+    // orders + order_lines + order_locators + outbox_events batches, plus the amortised pooled-sequence calls
+    private static final double MAX_STATEMENTS_PER_ORDER = 4.5;
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockitoBean
+    private ProductClient productClient;
+
+    // Only used with an Idempotency-Key, which these checkouts do not send
+    @MockitoBean
+    private OrderIdempotencyRepository orderIdempotencyRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderLocatorRepository orderLocatorRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        when(productClient.lookup(any())).thenAnswer(invocation -> {
+            ProductLookupRequest request = invocation.getArgument(0);
+            return ProductLookupResult.builder()
+                    .products(request.getIds().stream().map(this::product).toList())
+                    .missingIds(List.of())
+                    .build();
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAll();
+        orderRepository.deleteAll();
+        orderLocatorRepository.deleteAll();
+    }
+
+    @Test
+    void sustainedPlacement_batchesInsertsPerOrder() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm up sequences, statement caches and the product lookup cache before measuring
+        orderService.placeOrder(request(0), null);
+        statistics.clear();
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong placed = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+        List<Future<?>> futures = new ArrayList<>(WRITERS);
+        long startedAt;
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                long userId = i + 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (System.nanoTime() < deadline) {
+                        orderService.placeOrder(request(userId), null);
+                        placed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            startedAt = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(DURATION_MILLIS * 4, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        double ordersPerSecond = placed.get() / seconds;
+        double statementsPerOrder = (double) statistics.getPrepareStatementCount() / placed.get();
+        log.info("Order placement: {} orders in {}s = {} orders/sec ({} writers, {} lines/order, {} statements/order)",
+                placed.get(), String.format("%.1f", seconds), Math.round(ordersPerSecond), WRITERS, LINES_PER_ORDER,
+                String.format("%.2f", statementsPerOrder));
+
+        assertThat(placed.get()).isPositive();
+        assertThat(orderRepository.count()).isEqualTo(placed.get() + 1);
+        // order + lines + locator + one ORDER_PLACED outbox row
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(placed.get() * (1 + LINES_PER_ORDER + 1 + 1));
+        assertThat(statementsPerOrder).isLessThanOrEqualTo(MAX_STATEMENTS_PER_ORDER);
+    }
+
+    private PlaceOrderRequest request(long userId) {
+        return PlaceOrderRequest.builder()
+                .userId(userId)
+                .lines(LongStream.rangeClosed(1, LINES_PER_ORDER)
+                        .mapToObj(productId -> OrderLineRequest.builder().productId(productId).quantity(1).build())
+                        .toList())
+                .build();
+    }
+
+    private ProductSnapshot product(Long id) {
+        return ProductSnapshot.builder()
+                .id(id)
+                .sku("SKU-" + id)
+                .name("Product " + id)
+                .price(new BigDecimal("9.99"))
+                .currency("USD")
+                .status("ACTIVE")
+                .build();
+    }
+}
@@ -0,0 +1,232 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.client.ProductClient;
+import com.ecommerce.order.client.ProductLookupRequest;
+import com.ecommerce.order.client.ProductLookupResult;
+import com.ecommerce.order.client.ProductSnapshot;
+import com.ecommerce.order.dto.OrderLineRequest;
+import com.ecommerce.order.dto.PlaceOrderRequest;
+import com.ecommerce.order.entity.OrderStatus;
+import com.ecommerce.order.event.StockEvent;
+import com.ecommerce.order.repository.OrderRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the order saga against an embedded Kafka broker and PostgreSQL in a container, with the schema
+ * from the Flyway migrations. The test plays product-service: it reads ORDER_* events from the order
+ * events topic and answers on the stock events topic. Skipped when Docker is not available.
+ */
+@SpringBootTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "eureka.client.enabled=false",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "order.outbox.poll-interval-ms=50",
+        "order.saga.stock-timeout-ms=8000",
+        "order.saga.timeout-check-interval-ms=200",
+        "order.partitioning.maintenance-enabled=false",
+        "order.security.jwt-secret=test-secret-test-secret-test-secret-0123"
+})
+@EmbeddedKafka(partitions = 1, topics = {"order-events", "stock-events"})
+@Testcontainers(disabledWithoutDocker = true)
+class OrderSagaKafkaTests {
+
+    private static final Duration WAIT = Duration.ofSeconds(20);
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @MockitoBean
+    private ProductClient productClient;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Consumer<String, String> orderEvents;
+
+    @BeforeEach
+    void setUp() {
+        when(productClient.lookup(any())).thenAnswer(invocation -> {
+            ProductLookupRequest request = invocation.getArgument(0);
+            return ProductLookupResult.builder()
+                    .products(request.getIds().stream()
+                            .map(id -> ProductSnapshot.builder()
+                                    .id(id)
+                                    .sku("SKU-" + id)
+                                    .name("Product")
+                                    .price(new BigDecimal("10.00"))
+                                    .currency("USD")
+                                    .status("ACTIVE")
+                                    .build())
+                            .toList())
+                    .missingIds(List.of())
+                    .build();
+        });
+
+        Map<String, Object> props = KafkaTestUtils.consumerProps("saga-test-" + System.nanoTime(), "true", embeddedKafka);
+        orderEvents = new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer()).createConsumer();
+        embeddedKafka.consumeFromAnEmbeddedTopic(orderEvents, "order-events");
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderEvents.close();
+    }
+
+    @Test
+    void stockReserved_confirmsOrder() throws Exception {
+        Long orderId = placeOrder();
+        JsonNode placed = awaitOrderEvent(orderId, "ORDER_PLACED");
+        assertThat(placed.get("items")).hasSize(2);
+
+        reply(orderId, StockEvent.STOCK_RESERVED, null);
+
+        await().atMost(WAIT).until(() -> status(orderId) == OrderStatus.CONFIRMED);
+        awaitOrderEvent(orderId, "ORDER_CONFIRMED");
+        assertThat(meterRegistry.find("order.saga.duration").tag("outcome", "confirmed").timer()).isNotNull();
+        assertThat(meterRegistry.find("order.saga.step.latency").tag("step", "stock_reserved").timer().count()).isPositive();
+    }
+
+    @Test
+    void stockRejected_cancelsOrder() throws Exception {
+        Long orderId = placeOrder();
+        awaitOrderEvent(orderId, "ORDER_PLACED");
+
+        reply(orderId, StockEvent.STOCK_REJECTED, "Insufficient stock for product 2: requested 1");
+
+        await().atMost(WAIT).until(() -> status(orderId) == OrderStatus.CANCELLED);
+        JsonNode cancelled = awaitOrderEvent(orderId, "ORDER_CANCELLED");
+        assertThat(cancelled.get("reason").asText()).startsWith("Insufficient stock");
+    }
+
+    @Test
+    void stockExpiredAfterConfirm_cancelsOrder() throws Exception {
+        Long orderId = placeOrder();
+        awaitOrderEvent(orderId, "ORDER_PLACED");
+        reply(orderId, StockEvent.STOCK_RESERVED, null);
+        await().atMost(WAIT).until(() -> status(orderId) == OrderStatus.CONFIRMED);
+        awaitOrderEvent(orderId, "ORDER_CONFIRMED");
+        await().atMost(WAIT).until(() -> "CONFIRMED".equals(summary(orderId).get("status")));
+
+        reply(orderId, StockEvent.STOCK_EXPIRED, "Stock reservation expired: Insufficient stock for product 1");
+
+        await().atMost(WAIT).until(() -> status(orderId) == OrderStatus.CANCELLED);
+        assertThat(awaitOrderEvent(orderId, "ORDER_CANCELLED").get("reason").asText()).startsWith("Stock reservation expired");
+
+        // The read model follows the confirmed order to CANCELLED
+        await().atMost(WAIT).until(() -> "CANCELLED".equals(summary(orderId).get("status")));
+        assertThat((String) summary(orderId).get("status_reason")).startsWith("Stock reservation expired");
+    }
+
+    @Test
+    void noReply_cancelsOrderAfterTimeout_andLateReservationIsReleased() throws Exception {
+        Long orderId = placeOrder();
+        awaitOrderEvent(orderId, "ORDER_PLACED");
+
+        await().atMost(WAIT).until(() -> status(orderId) == OrderStatus.CANCELLED);
+        assertThat(awaitOrderEvent(orderId, "ORDER_CANCELLED").get("reason").asText()).isEqualTo("Stock reservation timed out");
+
+        // Stock reserved after the timeout is handed back with another ORDER_CANCELLED
+        reply(orderId, StockEvent.STOCK_RESERVED, null);
+        awaitOrderEvent(orderId, "ORDER_CANCELLED");
+        assertThat(status(orderId)).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    private Long placeOrder() {
+        PlaceOrderRequest request = PlaceOrderRequest.builder()
+                .userId(7L)
+                .lines(List.of(
+                        OrderLineRequest.builder().productId(1L).quantity(2).build(),
+                        OrderLineRequest.builder().productId(2L).quantity(1).build()))
+                .build();
+        Long orderId = orderService.placeOrder(request, null).getOrder().getId();
+        assertThat(status(orderId)).isEqualTo(OrderStatus.PENDING);
+        return orderId;
+    }
+
+    private void reply(Long orderId, String eventType, String reason) throws Exception {
+        StockEvent event = StockEvent.builder()
+                .orderId(orderId)
+                .eventType(eventType)
+                .source("product-service")
+                .reason(reason)
+                .timestamp(LocalDateTime.now())
+                .build();
+        kafkaTemplate.send("stock-events", orderId.toString(), objectMapper.writeValueAsString(event)).get();
+    }
+
+    private JsonNode awaitOrderEvent(Long orderId, String eventType) throws Exception {
+        long deadline = System.nanoTime() + WAIT.toNanos();
+        while (System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, String> record : KafkaTestUtils.getRecords(orderEvents, Duration.ofMillis(500))) {
+                JsonNode event = objectMapper.readTree(record.value());
+                if (orderId.toString().equals(record.key()) && eventType.equals(event.get("eventType").asText())) {
+                    return event;
+                }
+            }
+        }
+        return fail("No " + eventType + " for order " + orderId);
+    }
+
+    private OrderStatus status(Long orderId) {
+        return orderRepository.findById(orderId).orElseThrow().getStatus();
+    }
+
+    private Map<String, Object> summary(Long orderId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT status, status_reason FROM order_summaries WHERE order_id = ?", orderId);
+        return rows.isEmpty() ? Map.of() : rows.get(0);
+    }
+}
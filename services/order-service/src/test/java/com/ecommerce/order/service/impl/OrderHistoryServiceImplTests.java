@@ -0,0 +1,166 @@
+package com.ecommerce.order.service.impl;
+
+import com.ecommerce.order.dto.CursorPage;
+import com.ecommerce.order.dto.OrderSummaryDTO;
+import com.ecommerce.order.entity.OrderStatus;
+import com.ecommerce.order.event.OrderEvent;
+import com.ecommerce.order.repository.OrderSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Order history read model against PostgreSQL (order_summaries and its ON CONFLICT upsert come from
+ * the Flyway migrations): redelivered and out-of-order events never move an order back, and cursor
+ * pages return every order once when many share a created_at. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({OrderHistoryServiceImpl.class, OrderSummaryRepository.class, OrderHistoryServiceImplTests.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderHistoryServiceImplTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private OrderHistoryServiceImpl orderHistoryService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM order_summaries");
+    }
+
+    @Test
+    void redeliveredEvent_isIgnored() {
+        orderHistoryService.applyOrderEvent(event(1L, OrderStatus.PENDING, null, CREATED_AT));
+        orderHistoryService.applyOrderEvent(event(1L, OrderStatus.CONFIRMED, null, CREATED_AT.plusSeconds(2)));
+        double staleBefore = stale();
+
+        orderHistoryService.applyOrderEvent(event(1L, OrderStatus.CONFIRMED, null, CREATED_AT.plusSeconds(2)));
+        orderHistoryService.applyOrderEvent(event(1L, OrderStatus.PENDING, null, CREATED_AT));
+
+        Map<String, Object> row = row(1L);
+        assertThat(row.get("status")).isEqualTo("CONFIRMED");
+        assertThat(row.get("updated_at").toString()).startsWith("2025-03-01 12:00:02");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM order_summaries", Long.class)).isEqualTo(1);
+        assertThat(stale() - staleBefore).isEqualTo(2);
+    }
+
+    @Test
+    void pendingAfterFinalStatus_doesNotMoveOrderBack() {
+        // ORDER_CANCELLED overtook ORDER_PLACED
+        orderHistoryService.applyOrderEvent(event(2L, OrderStatus.CANCELLED, "Out of stock", CREATED_AT.plusSeconds(1)));
+        orderHistoryService.applyOrderEvent(event(2L, OrderStatus.PENDING, null, CREATED_AT));
+        orderHistoryService.applyOrderEvent(event(2L, OrderStatus.CONFIRMED, null, CREATED_AT.plusSeconds(2)));
+
+        assertThat(row(2L).get("status")).isEqualTo("CANCELLED");
+        assertThat(row(2L).get("status_reason")).isEqualTo("Out of stock");
+
+        // A confirmed order still moves on to CANCELLED, never back to PENDING
+        orderHistoryService.applyOrderEvent(event(3L, OrderStatus.CONFIRMED, null, CREATED_AT.plusSeconds(1)));
+        orderHistoryService.applyOrderEvent(event(3L, OrderStatus.PENDING, null, CREATED_AT));
+        assertThat(row(3L).get("status")).isEqualTo("CONFIRMED");
+        orderHistoryService.applyOrderEvent(event(3L, OrderStatus.CANCELLED, "Stock reservation expired", CREATED_AT.plusSeconds(5)));
+        assertThat(row(3L).get("status")).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    void cursorPages_returnEveryOrderOnce_acrossEqualCreatedAt() {
+        // 25 orders sharing 3 timestamps, so page boundaries fall inside runs of equal created_at
+        List<OrderSummaryDTO> expected = new ArrayList<>();
+        for (long orderId = 100; orderId < 125; orderId++) {
+            LocalDateTime createdAt = CREATED_AT.plusMinutes(orderId % 3);
+            orderHistoryService.applyOrderEvent(placed(orderId, 7L, createdAt));
+            expected.add(OrderSummaryDTO.builder().id(orderId).createdAt(createdAt).build());
+        }
+        // Another user's orders at the same timestamps stay out of the pages
+        orderHistoryService.applyOrderEvent(placed(999L, 8L, CREATED_AT));
+        expected.sort(Comparator.comparing(OrderSummaryDTO::getCreatedAt).thenComparing(OrderSummaryDTO::getId).reversed());
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<OrderSummaryDTO> page = orderHistoryService.getOrderHistory(7L, cursor, 10);
+            page.getContent().forEach(summary -> paged.add(summary.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(paged).containsExactlyElementsOf(expected.stream().map(OrderSummaryDTO::getId).toList());
+    }
+
+    // An event of an order placed at CREATED_AT by user 7, published at the given time
+    private static OrderEvent event(Long orderId, OrderStatus status, String reason, LocalDateTime timestamp) {
+        return OrderEvent.builder()
+                .orderId(orderId)
+                .userId(7L)
+                .status(status)
+                .reason(reason)
+                .currency("USD")
+                .totalAmount(new BigDecimal("30.00"))
+                .itemCount(3)
+                .createdAt(CREATED_AT)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static OrderEvent placed(Long orderId, Long userId, LocalDateTime createdAt) {
+        OrderEvent event = event(orderId, OrderStatus.PENDING, null, createdAt);
+        event.setUserId(userId);
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+
+    private Map<String, Object> row(Long orderId) {
+        return jdbcTemplate.queryForMap("SELECT status, status_reason, updated_at FROM order_summaries WHERE order_id = ?", orderId);
+    }
+
+    private double stale() {
+        var counter = meterRegistry.find("order.summary.updates").tag("outcome", "stale").counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
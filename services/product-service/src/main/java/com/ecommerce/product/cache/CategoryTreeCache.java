@@ -0,0 +1,61 @@
+package com.ecommerce.product.cache;
+
+import com.ecommerce.product.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current CategoryTreeSnapshot.
+ *
+ * The snapshot is rebuilt from a single query and swapped in atomically, so readers always see
+ * a complete, consistent tree without locking. It is rebuilt after every committed hierarchy change
+ * on this instance, and periodically to pick up changes made through other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<CategoryTreeSnapshot> snapshot = new AtomicReference<>();
+
+    public CategoryTreeSnapshot get() {
+        CategoryTreeSnapshot current = snapshot.get();
+        if (current == null) {
+            refresh();
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${product.category-tree.refresh-interval-ms:60000}")
+    public void refresh() {
+        CategoryTreeSnapshot rebuilt = CategoryTreeSnapshot.build(categoryRepository.findAllTreeRows());
+        snapshot.set(rebuilt);
+        log.debug("Category tree snapshot rebuilt: {} categories", rebuilt.size());
+    }
+
+    /**
+     * Rebuild once the current transaction commits (immediately when there is none),
+     * so the snapshot never reflects uncommitted or rolled-back changes.
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.ecommerce.product.cache;
+
+import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.CategoryTreeNodeDTO;
+
+import java.util.*;
+
+/**
+ * Immutable, fully built view of the category hierarchy.
+ *
+ * Built from flat (id, parentId) rows in one pass, then never modified: a change to the
+ * hierarchy produces a new snapshot that replaces this one atomically (see CategoryTreeCache).
+ * Nodes and descendant sets are shared between callers and must be treated as read-only.
+ */
+public final class CategoryTreeSnapshot {
+
+    private static final Comparator<CategoryDTO> BY_NAME =
+            Comparator.comparing(CategoryDTO::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<CategoryTreeNodeDTO> roots;
+    private final Map<Long, CategoryTreeNodeDTO> nodesById;
+    private final Map<Long, Set<Long>> descendantIdsById;
+
+    private CategoryTreeSnapshot(List<CategoryTreeNodeDTO> roots,
+                                 Map<Long, CategoryTreeNodeDTO> nodesById,
+                                 Map<Long, Set<Long>> descendantIdsById) {
+        this.roots = roots;
+        this.nodesById = nodesById;
+        this.descendantIdsById = descendantIdsById;
+    }
+
+    public static CategoryTreeSnapshot build(List<CategoryDTO> rows) {
+        Map<Long, List<CategoryDTO>> childrenByParent = new HashMap<>();
+        List<CategoryDTO> rootRows = new ArrayList<>();
+        for (CategoryDTO row : rows) {
+            if (row.getParentId() == null) {
+                rootRows.add(row);
+            } else {
+                childrenByParent.computeIfAbsent(row.getParentId(), k -> new ArrayList<>()).add(row);
+            }
+        }
+
+        Map<Long, CategoryTreeNodeDTO> nodesById = new HashMap<>();
+        Map<Long, Set<Long>> descendantIdsById = new HashMap<>();
+        List<CategoryTreeNodeDTO> roots = rootRows.stream()
+                .sorted(BY_NAME)
+                .map(row -> buildNode(row, 0, childrenByParent, nodesById, descendantIdsById))
+                .toList();
+
+        return new CategoryTreeSnapshot(roots, Map.copyOf(nodesById), Map.copyOf(descendantIdsById));
+    }
+
+    public static CategoryTreeSnapshot empty() {
+        return new CategoryTreeSnapshot(List.of(), Map.of(), Map.of());
+    }
+
+    public List<CategoryTreeNodeDTO> getRoots() {
+        return roots;
+    }
+
+    public Optional<CategoryTreeNodeDTO> getNode(Long id) {
+        return Optional.ofNullable(nodesById.get(id));
+    }
+
+    /**
+     * IDs of the category and all of its descendants, or empty if the category is unknown.
+     */
+    public Set<Long> getDescendantIds(Long id) {
+        return descendantIdsById.getOrDefault(id, Set.of());
+    }
+
+    public int size() {
+        return nodesById.size();
+    }
+
+    // Depth-first: children are built before their parent so descendant sets can be merged upwards
+    private static CategoryTreeNodeDTO buildNode(CategoryDTO row, int depth,
+                                                 Map<Long, List<CategoryDTO>> childrenByParent,
+                                                 Map<Long, CategoryTreeNodeDTO> nodesById,
+                                                 Map<Long, Set<Long>> descendantIdsById) {
+        Set<Long> descendants = new HashSet<>();
+        descendants.add(row.getId());
+
+        List<CategoryDTO> childRows = new ArrayList<>(childrenByParent.getOrDefault(row.getId(), List.of()));
+        childRows.sort(BY_NAME);
+
+        List<CategoryTreeNodeDTO> children = new ArrayList<>(childRows.size());
+        for (CategoryDTO childRow : childRows) {
+            CategoryTreeNodeDTO child = buildNode(childRow, depth + 1, childrenByParent, nodesById, descendantIdsById);
+            descendants.addAll(descendantIdsById.get(child.getId()));
+            children.add(child);
+        }
+
+        CategoryTreeNodeDTO node = CategoryTreeNodeDTO.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .slug(row.getSlug())
+                .description(row.getDescription())
+                .parentId(row.getParentId())
+                .depth(depth)
+                .children(List.copyOf(children))
+                .build();
+
+        nodesById.put(row.getId(), node);
+        descendantIdsById.put(row.getId(), Set.copyOf(descendants));
+        return node;
+    }
+}
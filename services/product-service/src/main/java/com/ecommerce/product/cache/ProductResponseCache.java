@@ -0,0 +1,95 @@
+package com.ecommerce.product.cache;
+
+import com.ecommerce.product.dto.ProductResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Near-cache for product detail responses.
+ *
+ * Responses are stored once, keyed by product ID. Slug and SKU lookups go through
+ * small index caches (slug/SKU → ID), so invalidating a product only requires evicting its ID:
+ * a stale index entry resolves to a missing or mismatching response and falls back to the database.
+ *
+ * Size, TTL and statistics are configured through spring.cache.caffeine.spec.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductResponseCache {
+
+    public static final String PRODUCTS = "products";
+    public static final String PRODUCT_IDS_BY_SLUG = "productIdsBySlug";
+    public static final String PRODUCT_IDS_BY_SKU = "productIdsBySku";
+
+    private final CacheManager cacheManager;
+
+    public Optional<ProductResponse> getById(Long id) {
+        if (id == null) return Optional.empty();
+        return Optional.ofNullable(cache(PRODUCTS).get(id, ProductResponse.class));
+    }
+
+    public Optional<ProductResponse> getBySlug(String slug) {
+        return getById(cache(PRODUCT_IDS_BY_SLUG).get(slug, Long.class))
+                .filter(response -> Objects.equals(slug, response.getSlug()));
+    }
+
+    public Optional<ProductResponse> getBySku(String sku) {
+        return getById(cache(PRODUCT_IDS_BY_SKU).get(sku, Long.class))
+                .filter(response -> Objects.equals(sku, response.getSku()));
+    }
+
+    /**
+     * Cache a response under its ID, slug and SKU.
+     *
+     * @return the same response, for fluent use in loaders
+     */
+    public ProductResponse put(ProductResponse response) {
+        if (response == null || response.getId() == null) return response;
+
+        cache(PRODUCTS).put(response.getId(), response);
+        if (response.getSlug() != null) {
+            cache(PRODUCT_IDS_BY_SLUG).put(response.getSlug(), response.getId());
+        }
+        if (response.getSku() != null) {
+            cache(PRODUCT_IDS_BY_SKU).put(response.getSku(), response.getId());
+        }
+        return response;
+    }
+
+    public void evict(Long id) {
+        if (id == null) return;
+        log.debug("Evicting cached product ID={}", id);
+        cache(PRODUCTS).evict(id);
+    }
+
+    /**
+     * Evict once the current transaction has committed (immediately if there is none),
+     * so a concurrent read cannot re-cache the pre-commit state.
+     */
+    public void evictAfterCommit(Collection<Long> ids) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(ProductResponseCache.this::evict);
+                }
+            });
+        } else {
+            ids.forEach(this::evict);
+        }
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache not configured: " + name);
+    }
+}
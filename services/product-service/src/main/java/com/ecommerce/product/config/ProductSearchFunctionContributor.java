@@ -0,0 +1,52 @@
+package com.ecommerce.product.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text search functions used by product search.
+ *
+ * Both functions take (name, description, keyword). The document expression is the same one
+ * indexed by V2__product_full_text_search.sql, so keyword searches are served by the GIN index.
+ * Registered through META-INF/services/org.hibernate.boot.model.FunctionContributor.
+ */
+public class ProductSearchFunctionContributor implements FunctionContributor {
+
+    public static final String MATCH_FUNCTION = "product_search_match";
+    public static final String RANK_FUNCTION = "product_search_rank";
+
+    private static final String DOCUMENT =
+            "(setweight(to_tsvector('english', coalesce(?1, '')), 'A')"
+                    + " || setweight(to_tsvector('english', coalesce(?2, '')), 'B'))";
+
+    private static final String QUERY = "websearch_to_tsquery('english', ?3)";
+
+    /**
+     * Native SQL form of {@link #MATCH_FUNCTION}, for queries that cannot go through Criteria.
+     *
+     * @param nameColumn        qualified name column, e.g. "p.name"
+     * @param descriptionColumn qualified description column
+     * @param keywordParameter  bind parameter holding the keyword, e.g. ":keyword"
+     */
+    public static String matchSql(String nameColumn, String descriptionColumn, String keywordParameter) {
+        return "(" + DOCUMENT.replace("?1", nameColumn).replace("?2", descriptionColumn)
+                + " @@ " + QUERY.replace("?3", keywordParameter) + ")";
+    }
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                MATCH_FUNCTION,
+                "(" + DOCUMENT + " @@ " + QUERY + ")",
+                types.resolve(StandardBasicTypes.BOOLEAN));
+
+        functionContributions.getFunctionRegistry().registerPattern(
+                RANK_FUNCTION,
+                "ts_rank_cd(" + DOCUMENT + ", " + QUERY + ")",
+                types.resolve(StandardBasicTypes.DOUBLE));
+    }
+}
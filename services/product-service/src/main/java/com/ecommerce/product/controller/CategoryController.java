@@ -1,6 +1,7 @@
 package com.ecommerce.product.controller;
 
 import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.CategoryTreeNodeDTO;
 import com.ecommerce.product.service.CategoryService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -54,6 +55,24 @@ public class CategoryController {
         return ResponseEntity.ok(rootCategories);
     }
 
+    // ------------------------------------------------------
+    // GET FULL CATEGORY TREE
+    // ------------------------------------------------------
+    @GetMapping("/tree")
+    public ResponseEntity<List<CategoryTreeNodeDTO>> getCategoryTree() {
+        log.debug("API: Get category tree");
+        return ResponseEntity.ok(categoryService.getCategoryTree());
+    }
+
+    // ------------------------------------------------------
+    // GET SUBTREE OF A CATEGORY
+    // ------------------------------------------------------
+    @GetMapping("/{id}/tree")
+    public ResponseEntity<CategoryTreeNodeDTO> getCategorySubtree(@PathVariable Long id) {
+        log.debug("API: Get category subtree for ID={}", id);
+        return ResponseEntity.ok(categoryService.getCategorySubtree(id));
+    }
+
     // ------------------------------------------------------
     // GET SUBCATEGORIES
     // ------------------------------------------------------
@@ -1,9 +1,9 @@
 package com.ecommerce.product.controller;
 
+import com.ecommerce.product.dto.ProductPatchRequest;
 import com.ecommerce.product.dto.ProductRequest;
 import com.ecommerce.product.dto.ProductResponse;
 import com.ecommerce.product.dto.ProductSummaryDTO;
-import com.ecommerce.product.event.ProductEvent;
 import com.ecommerce.product.service.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +19,7 @@ import java.math.BigDecimal;
  * ProductController
  *
  * Exposes REST endpoints for managing products.
- * Integrates with ProductService, ProductSearchService, and EventPublisherService.
+ * Integrates with ProductService and ProductSearchService; product events are published by ProductService.
  */
 @RestController
 @RequestMapping("/api/products")
@@ -29,7 +29,6 @@ public class ProductController {
 
     private final ProductService productService;
     private final ProductSearchService productSearchService;
-    private final EventPublisherService eventPublisherService;
 
     // ------------------------------------------------------
     // CREATE PRODUCT
@@ -38,15 +37,6 @@ public class ProductController {
     public ResponseEntity<ProductResponse> createProduct(@Valid @RequestBody ProductRequest request) {
         log.info("API: Create new product - {}", request.getName());
         ProductResponse created = productService.createProduct(request);
-
-        // Publish event
-        eventPublisherService.publishProductEvent(ProductEvent.builder()
-                .productId(created.getId())
-                .eventType("PRODUCT_CREATED")
-                .source("product-service")
-                .payload(created)
-                .build());
-
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
@@ -80,15 +70,20 @@ public class ProductController {
 
         log.info("API: Update product ID={}", id);
         ProductResponse updated = productService.updateProduct(id, request);
+        return ResponseEntity.ok(updated);
+    }
 
-        eventPublisherService.publishProductEvent(ProductEvent.builder()
-                .productId(updated.getId())
-                .eventType("PRODUCT_UPDATED")
-                .source("product-service")
-                .payload(updated)
-                .build());
+    // ------------------------------------------------------
+    // PATCH PRODUCT
+    // ------------------------------------------------------
+    @PatchMapping("/{id}")
+    public ResponseEntity<ProductResponse> patchProduct(
+            @PathVariable Long id,
+            @Valid @RequestBody ProductPatchRequest request) {
 
-        return ResponseEntity.ok(updated);
+        log.info("API: Patch product ID={}", id);
+        ProductResponse patched = productService.patchProduct(id, request);
+        return ResponseEntity.ok(patched);
     }
 
     // ------------------------------------------------------
@@ -98,13 +93,6 @@ public class ProductController {
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
         log.warn("API: Delete product ID={}", id);
         productService.deleteProduct(id);
-
-        eventPublisherService.publishProductEvent(ProductEvent.builder()
-                .productId(id)
-                .eventType("PRODUCT_DELETED")
-                .source("product-service")
-                .build());
-
         return ResponseEntity.noContent().build();
     }
 
@@ -125,9 +113,10 @@ public class ProductController {
     ) {
         log.debug("API: Searching products");
 
-        // Build pageable dynamically
-        Sort sorting = Sort.by(Sort.Direction.fromString(sort[1]), sort[0]);
-        Pageable pageable = PageRequest.of(page, size, sorting);
+        // Build pageable dynamically ("relevance" leaves ordering to the full-text rank)
+        Pageable pageable = "relevance".equalsIgnoreCase(sort[0])
+                ? PageRequest.of(page, size)
+                : PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(sort[1]), sort[0]));
 
         Page<ProductSummaryDTO> result = productSearchService.searchProducts(
                 keyword, categoryId, brand, status, priceMin, priceMax, pageable);
@@ -0,0 +1,46 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.service.ProductExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+/**
+ * ProductExportController
+ *
+ * Full and incremental catalog export for search-engine and feed partners.
+ */
+@RestController
+@RequestMapping("/api/products/export")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductExportController {
+
+    private final ProductExportService productExportService;
+
+    // ------------------------------------------------------
+    // EXPORT PRODUCTS AS NDJSON
+    // GET /api/products/export
+    // GET /api/products/export?updatedSince=2025-01-31T00:00:00   (incremental)
+    // ------------------------------------------------------
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+
+        log.info("API: Export products [updatedSince={}]", updatedSince);
+        StreamingResponseBody body = output -> productExportService.exportProducts(updatedSince, output);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
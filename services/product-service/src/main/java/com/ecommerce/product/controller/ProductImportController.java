@@ -0,0 +1,72 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.dto.ProductImportJobDTO;
+import com.ecommerce.product.entity.ProductImportFormat;
+import com.ecommerce.product.service.ProductImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * ProductImportController
+ *
+ * Bulk product import from supplier feeds. A job is created first, so the client has its ID
+ * for progress polling and resuming before the upload starts. The feed is read as a stream,
+ * so feeds of any size can be sent without buffering them in memory.
+ */
+@RestController
+@RequestMapping("/api/products/import/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportController {
+
+    private static final String TEXT_CSV = "text/csv";
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final ProductImportService productImportService;
+
+    // ------------------------------------------------------
+    // CREATE IMPORT JOB
+    // POST /api/products/import/jobs?format=CSV   (or NDJSON)
+    // ------------------------------------------------------
+    @PostMapping
+    public ResponseEntity<ProductImportJobDTO> createImportJob(@RequestParam ProductImportFormat format) {
+        log.info("API: Create import job [format={}]", format);
+        ProductImportJobDTO job = productImportService.createImportJob(format);
+        return ResponseEntity.created(URI.create("/api/products/import/jobs/" + job.getId())).body(job);
+    }
+
+    // ------------------------------------------------------
+    // UPLOAD FEED
+    // POST /api/products/import/jobs/{jobId}   (Content-Type: text/csv or application/x-ndjson)
+    // Sending the feed again after a failure or a dropped connection resumes after the last checkpoint
+    // ------------------------------------------------------
+    @PostMapping(value = "/{jobId}", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    public ResponseEntity<ProductImportJobDTO> importProducts(
+            @PathVariable Long jobId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        ProductImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))
+                ? ProductImportFormat.CSV
+                : ProductImportFormat.NDJSON;
+
+        log.info("API: Import products [jobId={}, format={}]", jobId, format);
+        return ResponseEntity.ok(productImportService.importProducts(jobId, body, format));
+    }
+
+    // ------------------------------------------------------
+    // GET IMPORT PROGRESS
+    // ------------------------------------------------------
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ProductImportJobDTO> getImportJob(@PathVariable Long jobId) {
+        log.debug("API: Get import job ID={}", jobId);
+        return ResponseEntity.ok(productImportService.getImportJob(jobId));
+    }
+}
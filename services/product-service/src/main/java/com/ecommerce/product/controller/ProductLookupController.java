@@ -0,0 +1,34 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.dto.ProductLookupRequest;
+import com.ecommerce.product.dto.ProductLookupResponse;
+import com.ecommerce.product.service.ProductLookupService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * ProductLookupController
+ *
+ * Bulk price/availability lookup for service-to-service calls. A POST because a few hundred keys
+ * do not fit comfortably in a query string.
+ */
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductLookupController {
+
+    private final ProductLookupService productLookupService;
+
+    // ------------------------------------------------------
+    // BULK LOOKUP
+    // POST /api/products/lookup   {"ids": [1, 2, 3], "skus": ["A-1"]}
+    // ------------------------------------------------------
+    @PostMapping("/lookup")
+    public ResponseEntity<ProductLookupResponse> lookup(@Valid @RequestBody ProductLookupRequest request) {
+        return ResponseEntity.ok(productLookupService.lookup(request));
+    }
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.dto.*;
+import com.ecommerce.product.service.ProductPriceStockService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * ProductPriceStockController
+ *
+ * Narrow endpoints for price and stock changes. They skip the full product update
+ * (aggregate load, mapping, collections) and write with a single UPDATE statement.
+ */
+@RestController
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductPriceStockController {
+
+    private final ProductPriceStockService productPriceStockService;
+
+    // ------------------------------------------------------
+    // UPDATE PRICE / STOCK OF ONE PRODUCT
+    // ------------------------------------------------------
+    @PutMapping("/{id}/price")
+    public ResponseEntity<PriceStockDTO> updatePrice(
+            @PathVariable Long id,
+            @Valid @RequestBody PriceUpdateRequest request) {
+
+        log.debug("API: Update price of product ID={}", id);
+        return ResponseEntity.ok(productPriceStockService.updatePrice(id, request));
+    }
+
+    @PutMapping("/{id}/stock")
+    public ResponseEntity<PriceStockDTO> updateStock(
+            @PathVariable Long id,
+            @Valid @RequestBody StockUpdateRequest request) {
+
+        log.debug("API: Update stock of product ID={}", id);
+        return ResponseEntity.ok(productPriceStockService.updateStock(id, request));
+    }
+
+    // ------------------------------------------------------
+    // BATCH UPDATES BY SKU (up to 5000 items per call)
+    // PUT /api/products/batch/prices   {"items": [{"sku": "A-1", "price": 19.99, "discountPrice": null}, ...]}
+    // PUT /api/products/batch/stock    {"items": [{"sku": "A-1", "stockQuantity": 12}, ...]}
+    // ------------------------------------------------------
+    @PutMapping("/batch/prices")
+    public ResponseEntity<BatchUpdateResultDTO> updatePrices(
+            @Valid @RequestBody BatchUpdateRequest<PriceUpdateRequest> request) {
+
+        log.info("API: Batch price update of {} items", request.getItems().size());
+        return ResponseEntity.ok(productPriceStockService.updatePrices(request.getItems()));
+    }
+
+    @PutMapping("/batch/stock")
+    public ResponseEntity<BatchUpdateResultDTO> updateStock(
+            @Valid @RequestBody BatchUpdateRequest<StockUpdateRequest> request) {
+
+        log.info("API: Batch stock update of {} items", request.getItems().size());
+        return ResponseEntity.ok(productPriceStockService.updateStock(request.getItems()));
+    }
+}
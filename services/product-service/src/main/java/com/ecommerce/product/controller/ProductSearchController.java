@@ -1,5 +1,8 @@
 package com.ecommerce.product.controller;
 
+import com.ecommerce.product.dto.CountMode;
+import com.ecommerce.product.dto.CursorPage;
+import com.ecommerce.product.dto.ProductFacetsDTO;
 import com.ecommerce.product.dto.ProductSummaryDTO;
 import com.ecommerce.product.service.ProductSearchService;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +19,9 @@ import java.math.BigDecimal;
 @Slf4j
 public class ProductSearchController {
 
+    private static final String RELEVANCE_SORT = "relevance";
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final ProductSearchService productSearchService;
 
     /**
@@ -23,6 +29,8 @@ public class ProductSearchController {
      *
      * Example:
      * GET /api/search/products?keyword=iphone&categoryId=2&brand=Apple&priceMin=500&priceMax=1000&page=0&size=20&sort=price,asc
+     *
+     * Use sort=relevance together with a keyword to rank results by full-text relevance.
      */
     @GetMapping
     public ResponseEntity<Page<ProductSummaryDTO>> searchProducts(
@@ -48,12 +56,76 @@ public class ProductSearchController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * Search with cursor (keyset) pagination, for infinite scroll and crawlers.
+     * Every page costs the same regardless of depth.
+     *
+     * Example:
+     * GET /api/search/products/scroll?brand=Apple&size=50&sort=price,asc&count=EXACT
+     * GET /api/search/products/scroll?brand=Apple&size=50&sort=price,asc&cursor={nextCursor}
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<ProductSummaryDTO>> scrollProducts(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) BigDecimal priceMin,
+            @RequestParam(required = false) BigDecimal priceMax,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(defaultValue = "NONE") CountMode count
+    ) {
+        log.debug("API: Scroll products [keyword={}, category={}, brand={}, status={}, size={}, sort={}, count={}]",
+                keyword, categoryId, brand, status, size, sort, count);
+
+        Sort.Order order = buildPageRequest(0, size, sort).getSort().stream()
+                .findFirst()
+                .orElse(Sort.Order.desc("createdAt"));
+
+        CursorPage<ProductSummaryDTO> results = productSearchService.scrollProducts(
+                keyword, categoryId, brand, status, priceMin, priceMax, cursor, Math.min(size, MAX_SCROLL_SIZE), order, count
+        );
+
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Facet counts for the same filters as the search endpoint, in one call.
+     *
+     * Example:
+     * GET /api/search/products/facets?keyword=phone&priceMax=1000
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ProductFacetsDTO> getFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String brand,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) BigDecimal priceMin,
+            @RequestParam(required = false) BigDecimal priceMax
+    ) {
+        log.debug("API: Product facets [keyword={}, category={}, brand={}, status={}, priceMin={}, priceMax={}]",
+                keyword, categoryId, brand, status, priceMin, priceMax);
+
+        ProductFacetsDTO facets = productSearchService.getFacets(
+                keyword, categoryId, brand, status, priceMin, priceMax
+        );
+
+        return ResponseEntity.ok(facets);
+    }
+
     // ----------------------------
     // UTILITIES
     // ----------------------------
     private Pageable buildPageRequest(int page, int size, String sort) {
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
+        if (RELEVANCE_SORT.equalsIgnoreCase(sortField)) {
+            return PageRequest.of(page, size);
+        }
+
         Sort.Direction direction = sortParams.length > 1
                 ? Sort.Direction.fromOptionalString(sortParams[1]).orElse(Sort.Direction.ASC)
                 : Sort.Direction.ASC;
@@ -0,0 +1,59 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.dto.StockReservationDTO;
+import com.ecommerce.product.dto.StockReservationRequest;
+import com.ecommerce.product.service.StockReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * StockReservationController
+ *
+ * Holds stock for pending orders. A reservation is created, then either confirmed (sold)
+ * or released; unconfirmed reservations expire after their TTL and give their stock back.
+ * Insufficient stock is answered with 409 Conflict.
+ */
+@RestController
+@RequestMapping("/api/stock/reservations")
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationController {
+
+    private final StockReservationService stockReservationService;
+
+    // ------------------------------------------------------
+    // RESERVE (idempotent per reference)
+    // ------------------------------------------------------
+    @PostMapping
+    public ResponseEntity<StockReservationDTO> reserve(@Valid @RequestBody StockReservationRequest request) {
+        log.info("API: Reserve stock [reference={}, items={}]", request.getReference(), request.getItems().size());
+        return ResponseEntity.status(HttpStatus.CREATED).body(stockReservationService.reserve(request));
+    }
+
+    // ------------------------------------------------------
+    // GET RESERVATION
+    // ------------------------------------------------------
+    @GetMapping("/{reference}")
+    public ResponseEntity<StockReservationDTO> getReservation(@PathVariable String reference) {
+        return ResponseEntity.ok(stockReservationService.getReservation(reference));
+    }
+
+    // ------------------------------------------------------
+    // CONFIRM / RELEASE
+    // ------------------------------------------------------
+    @PostMapping("/{reference}/confirm")
+    public ResponseEntity<StockReservationDTO> confirm(@PathVariable String reference) {
+        log.info("API: Confirm reservation {}", reference);
+        return ResponseEntity.ok(stockReservationService.confirm(reference));
+    }
+
+    @PostMapping("/{reference}/release")
+    public ResponseEntity<StockReservationDTO> release(@PathVariable String reference) {
+        log.info("API: Release reservation {}", reference);
+        return ResponseEntity.ok(stockReservationService.release(reference));
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.dto.StockStripingDTO;
+import com.ecommerce.product.dto.StockStripingRequest;
+import com.ecommerce.product.service.ProductStockService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * StockStripingController
+ *
+ * Switches hot products (e.g. flash-sale items) to striped stock, so concurrent reservations
+ * no longer queue on the product row, and back to a single row afterwards.
+ */
+@RestController
+@RequestMapping("/api/products/{id}/stock/striping")
+@RequiredArgsConstructor
+@Slf4j
+public class StockStripingController {
+
+    private final ProductStockService productStockService;
+
+    @GetMapping
+    public ResponseEntity<StockStripingDTO> getStriping(@PathVariable Long id) {
+        return ResponseEntity.ok(productStockService.getStriping(id));
+    }
+
+    @PutMapping
+    public ResponseEntity<StockStripingDTO> enableStriping(
+            @PathVariable Long id,
+            @Valid @RequestBody StockStripingRequest request) {
+
+        log.info("API: Stripe stock of product ID={} over {} stripes", id, request.getStripes());
+        return ResponseEntity.ok(productStockService.enableStriping(id, request.getStripes()));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<StockStripingDTO> disableStriping(@PathVariable Long id) {
+        log.info("API: Fold stock stripes of product ID={}", id);
+        return ResponseEntity.ok(productStockService.disableStriping(id));
+    }
+}
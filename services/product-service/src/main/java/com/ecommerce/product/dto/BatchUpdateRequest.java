@@ -0,0 +1,23 @@
+package com.ecommerce.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Batch of price or stock updates keyed by SKU, applied with one statement.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUpdateRequest<T> {
+
+    @NotEmpty(message = "At least one item is required.")
+    @Size(max = 5000, message = "A batch can contain up to 5000 items.")
+    private List<@Valid T> items;
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch price or stock update.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUpdateResultDTO {
+
+    private int requested;
+    private int updated;              // rows whose values actually changed
+    private int unchanged;            // already at the requested values
+    private List<String> unknownSkus; // no product with this SKU
+}
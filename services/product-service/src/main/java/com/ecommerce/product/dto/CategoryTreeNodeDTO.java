@@ -0,0 +1,24 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A category together with its full subtree, used for navigation menus.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryTreeNodeDTO {
+
+    private Long id;
+    private String name;
+    private String slug;
+    private String description;
+    private Long parentId;
+    private int depth; // 0 for root categories
+    private List<CategoryTreeNodeDTO> children;
+}
@@ -0,0 +1,10 @@
+package com.ecommerce.product.dto;
+
+/**
+ * How the total number of matches is reported for cursor-paged results.
+ */
+public enum CountMode {
+    NONE,     // skip the count entirely (constant-cost pages)
+    EXACT,    // run COUNT(*) with the same filters
+    ESTIMATE  // planner statistic for the products table, only reported when no filters are applied
+}
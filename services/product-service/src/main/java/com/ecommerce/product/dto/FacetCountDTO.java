@@ -0,0 +1,15 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCountDTO {
+
+    private String value;  // facet key (brand name, status, category ID)
+    private String label;  // display name where it differs from the value (category name)
+    private long count;
+}
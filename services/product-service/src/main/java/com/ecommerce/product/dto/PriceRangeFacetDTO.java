@@ -0,0 +1,16 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceRangeFacetDTO {
+
+    private BigDecimal from; // inclusive, null for the lowest bucket
+    private BigDecimal to;   // exclusive, null for the highest bucket
+    private long count;
+}
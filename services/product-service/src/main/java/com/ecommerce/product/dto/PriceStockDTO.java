@@ -0,0 +1,23 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Price and stock of a product after a fast-path update.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceStockDTO {
+
+    private Long id;
+    private String sku;
+    private BigDecimal price;
+    private BigDecimal discountPrice;
+    private Integer stockQuantity;
+    private boolean changed; // false when the product already had the requested values
+}
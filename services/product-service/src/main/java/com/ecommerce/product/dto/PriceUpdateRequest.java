@@ -0,0 +1,30 @@
+package com.ecommerce.product.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+import java.math.BigDecimal;
+
+/**
+ * New price of one product for the price fast path.
+ * The SKU identifies the product in batch updates and is ignored when the product ID is in the path.
+ * A null discountPrice removes the discount.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceUpdateRequest {
+
+    @Size(max = 100, message = "SKU cannot exceed 100 characters.")
+    private String sku;
+
+    @NotNull(message = "Price is required.")
+    @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than zero.")
+    @Digits(integer = 8, fraction = 2, message = "Price format is invalid.")
+    private BigDecimal price;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Discount price cannot be negative.")
+    @Digits(integer = 8, fraction = 2, message = "Discount price format is invalid.")
+    private BigDecimal discountPrice;
+}
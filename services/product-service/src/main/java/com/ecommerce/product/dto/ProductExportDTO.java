@@ -0,0 +1,36 @@
+package com.ecommerce.product.dto;
+
+import com.ecommerce.product.entity.ProductStatus;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One line of the NDJSON catalog export. Built directly by a constructor projection,
+ * so exported rows never enter the persistence context.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductExportDTO {
+
+    private Long id;
+    private String sku;
+    private String name;
+    private String slug;
+    private String description;
+    private String shortDescription;
+    private BigDecimal price;
+    private BigDecimal discountPrice;
+    private String currency;
+    private Integer stockQuantity;
+    private ProductStatus status;
+    private String brand;
+    private BigDecimal weight;
+    private String primaryImageUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+import java.util.List;
+
+/**
+ * Facet counts for a product search, computed for the same filters as the result list.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsDTO {
+
+    private long total;
+    private List<FacetCountDTO> brands;
+    private List<FacetCountDTO> categories;
+    private List<FacetCountDTO> statuses;
+    private List<PriceRangeFacetDTO> priceRanges;
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a bulk import run, returned by the import endpoints.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportJobDTO {
+
+    private Long id;
+    private String format;
+    private String status;
+    private long processedRecords;
+    private long importedRecords;
+    private long skippedRecords;
+    private long failedRecords;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    // Throughput of the request that produced this response (null when only reading progress)
+    private Double recordsPerSecond;
+}
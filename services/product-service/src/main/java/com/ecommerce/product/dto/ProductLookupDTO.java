@@ -0,0 +1,26 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Price and availability of a product, for pricing carts and orders.
+ * stockQuantity is the live stock (summed over stripes for striped products).
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupDTO {
+
+    private Long id;
+    private String sku;
+    private String name;
+    private BigDecimal price;
+    private BigDecimal discountPrice;
+    private String currency;
+    private Integer stockQuantity;
+    private String status;
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.product.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Products to look up by ID and/or SKU; at least one of the two lists must be non-empty.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupRequest {
+
+    @Size(max = 1000, message = "Up to 1000 IDs can be looked up at once.")
+    private List<@NotNull Long> ids;
+
+    @Size(max = 1000, message = "Up to 1000 SKUs can be looked up at once.")
+    private List<@NotBlank String> skus;
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Result of a bulk lookup: the products found (each once, even if matched by ID and SKU)
+ * and the requested keys that matched nothing.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductLookupResponse {
+
+    private List<ProductLookupDTO> products;
+    private List<Long> missingIds;
+    private List<String> missingSkus;
+}
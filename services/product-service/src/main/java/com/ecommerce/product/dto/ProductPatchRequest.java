@@ -0,0 +1,74 @@
+package com.ecommerce.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO for partially updating a product (PATCH).
+ * Null fields are left untouched. A collection that is present is the desired final state:
+ * - images are matched by ID (entries without ID are added, missing IDs are removed)
+ * - attributes are matched by attribute name
+ * - categoryIds replace the category set
+ * Children that already match are not rewritten.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPatchRequest {
+
+    @Size(max = 100, message = "SKU cannot exceed 100 characters.")
+    private String sku;
+
+    @Size(max = 255, message = "Product name cannot exceed 255 characters.")
+    private String name;
+
+    @Pattern(regexp = "^[a-z0-9]+(?:-[a-z0-9]+)*$",
+            message = "Slug must be lowercase and can only contain letters, numbers, and hyphens.")
+    @Size(max = 255, message = "Slug cannot exceed 255 characters.")
+    private String slug;
+
+    private String description;
+
+    @Size(max = 500, message = "Short description cannot exceed 500 characters.")
+    private String shortDescription;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Price must be greater than zero.")
+    @Digits(integer = 8, fraction = 2, message = "Price format is invalid.")
+    private BigDecimal price;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Discount price cannot be negative.")
+    @Digits(integer = 8, fraction = 2, message = "Discount price format is invalid.")
+    private BigDecimal discountPrice;
+
+    @Pattern(regexp = "^[A-Z]{3}$", message = "Currency must be a 3-letter ISO code (e.g., USD, EUR).")
+    private String currency;
+
+    @PositiveOrZero(message = "Stock quantity cannot be negative.")
+    private Integer stockQuantity;
+
+    @Pattern(regexp = "ACTIVE|INACTIVE|OUT_OF_STOCK|DISCONTINUED",
+            message = "Status must be one of: ACTIVE, INACTIVE, OUT_OF_STOCK, DISCONTINUED.")
+    private String status;
+
+    @Size(max = 100, message = "Brand name cannot exceed 100 characters.")
+    private String brand;
+
+    @DecimalMin(value = "0.0", inclusive = true, message = "Weight cannot be negative.")
+    @Digits(integer = 6, fraction = 2, message = "Weight format is invalid.")
+    private BigDecimal weight;
+
+    // Relationships
+    @Size(min = 1, message = "At least one category is required.")
+    private List<Long> categoryIds;
+
+    @Size(max = 10, message = "A product can have up to 10 images.")
+    private List<@Valid ProductImageDTO> images;
+
+    @Size(max = 20, message = "A product can have up to 20 attributes.")
+    private List<@Valid ProductAttributeDTO> attributes;
+}
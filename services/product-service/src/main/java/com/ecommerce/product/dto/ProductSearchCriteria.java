@@ -0,0 +1,24 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+import java.util.Collection;
+
+/**
+ * Search filters shared by listing and facet queries. Null fields are ignored.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchCriteria {
+
+    private String keyword;
+    // Requested category plus all of its descendants
+    private Collection<Long> categoryIds;
+    private String brand;
+    private String status;
+    private BigDecimal priceMin;
+    private BigDecimal priceMax;
+}
@@ -2,6 +2,7 @@ package com.ecommerce.product.dto;
 
 import lombok.*;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
@@ -18,4 +19,5 @@ public class ProductSummaryDTO {
     private String currency;
     private String brand;
     private String thumbnailUrl;
+    private LocalDateTime createdAt;
 }
@@ -0,0 +1,26 @@
+package com.ecommerce.product.dto;
+
+import com.ecommerce.product.entity.StockReservationStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for returning a stock reservation.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationDTO {
+
+    private Long id;
+    private String reference;
+    private StockReservationStatus status;
+    private LocalDateTime expiresAt;
+    private List<StockReservationItemDTO> items;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
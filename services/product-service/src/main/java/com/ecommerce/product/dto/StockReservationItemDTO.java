@@ -0,0 +1,23 @@
+package com.ecommerce.product.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+/**
+ * Quantity of one product in a stock reservation.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationItemDTO {
+
+    @NotNull(message = "Product ID is required.")
+    private Long productId;
+
+    @NotNull(message = "Quantity is required.")
+    @Positive(message = "Quantity must be at least 1.")
+    private Integer quantity;
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.product.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Request to hold stock for several products at once (all or nothing).
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationRequest {
+
+    // Idempotency key chosen by the caller, e.g. the order number
+    @NotBlank(message = "Reference is required.")
+    @Size(max = 100, message = "Reference cannot exceed 100 characters.")
+    private String reference;
+
+    @NotEmpty(message = "At least one item is required.")
+    @Size(max = 100, message = "A reservation can contain up to 100 items.")
+    private List<@Valid StockReservationItemDTO> items;
+
+    // Optional; defaults to product.stock.reservation.default-ttl-seconds
+    @Positive(message = "TTL must be positive.")
+    private Long ttlSeconds;
+}
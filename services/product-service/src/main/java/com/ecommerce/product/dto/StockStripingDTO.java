@@ -0,0 +1,21 @@
+package com.ecommerce.product.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Stock layout of a product: a single row, or stripes with their current quantities.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockStripingDTO {
+
+    private Long productId;
+    private boolean striped;
+    private int stockQuantity;             // live total
+    private List<Integer> stripeQuantities; // by stripe number; empty when not striped
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.product.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * Switches a product to striped stock with the given number of stripes.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockStripingRequest {
+
+    @NotNull(message = "Number of stripes is required.")
+    @Min(value = 2, message = "At least 2 stripes are required.")
+    @Max(value = 64, message = "At most 64 stripes are allowed.")
+    private Integer stripes;
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.product.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+
+/**
+ * New stock level of one product for the stock fast path.
+ * The SKU identifies the product in batch updates and is ignored when the product ID is in the path.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockUpdateRequest {
+
+    @Size(max = 100, message = "SKU cannot exceed 100 characters.")
+    private String sku;
+
+    @NotNull(message = "Stock quantity is required.")
+    @PositiveOrZero(message = "Stock quantity cannot be negative.")
+    private Integer stockQuantity;
+}
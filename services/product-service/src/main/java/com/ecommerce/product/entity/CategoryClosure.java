@@ -0,0 +1,24 @@
+package com.ecommerce.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Closure-table row of the category hierarchy: one row per (ancestor, descendant) pair,
+ * including a depth-0 row for every category itself.
+ */
+@Entity
+@Table(name = "category_closure")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryClosure {
+
+    @EmbeddedId
+    private CategoryClosureId id;
+
+    @Column(nullable = false)
+    private Integer depth;
+}
@@ -2,13 +2,27 @@ package com.ecommerce.product.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "products")
+@DynamicUpdate
+@NamedEntityGraph(
+        name = Product.DETAIL_GRAPH,
+        attributeNodes = @NamedAttributeNode(value = "productCategories", subgraph = "productCategories.category"),
+        subgraphs = @NamedSubgraph(
+                name = "productCategories.category",
+                attributeNodes = @NamedAttributeNode("category")
+        )
+)
 @Getter
 @Setter
 @Builder
@@ -16,8 +30,16 @@ import java.util.Set;
 @AllArgsConstructor
 public class Product {
 
+    /**
+     * Loads the categories together with the product row. Only one collection is fetch-joined:
+     * images, attributes and reviews are batch fetched, one query each, so the join never
+     * multiplies the rows of two collections.
+     */
+    public static final String DETAIL_GRAPH = "Product.detail";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -47,6 +69,10 @@ public class Product {
     @Column(nullable = false)
     private Integer stockQuantity;
 
+    // Stock is split across product_stock_stripes; stockQuantity is then only a periodically consolidated copy
+    @Column(nullable = false)
+    private boolean stockStriped;
+
     @Enumerated(EnumType.STRING)
     @Column(length = 30)
     private ProductStatus status;
@@ -57,18 +83,33 @@ public class Product {
     @Column(precision = 10, scale = 2)
     private BigDecimal weight;
 
+    // Denormalized from product_images so listings never touch that table
+    @Column(length = 500)
+    private String primaryImageUrl;
+
+    // Keyset sort key: NOT NULL so cursor seeks stay index range scans (V15)
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Optimistic lock: a stale full update fails instead of overwriting concurrent stock/price writes.
+    // The single-statement stock and price updates bump it as well.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ProductCategory> productCategories = new HashSet<>();
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ProductImage> images = new HashSet<>();
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<ProductAttribute> attributes = new HashSet<>();
 
+    @BatchSize(size = 50)
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Review> reviews = new HashSet<>();
 
@@ -92,4 +133,13 @@ public class Product {
         this.productCategories.removeIf(pc -> pc.getCategory().equals(category));
         category.getProductCategories().removeIf(pc -> pc.getProduct().equals(this));
     }
+
+    // Recompute the denormalized thumbnail: primary image first, otherwise the lowest position
+    public void updatePrimaryImageUrl(Collection<ProductImage> currentImages) {
+        this.primaryImageUrl = currentImages == null ? null : currentImages.stream()
+                .min(Comparator.comparing(ProductImage::isPrimary).reversed()
+                        .thenComparing(ProductImage::getPosition, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(ProductImage::getImageUrl)
+                .orElse(null);
+    }
 }
@@ -2,11 +2,13 @@ package com.ecommerce.product.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "product_attributes")
+@DynamicUpdate
 @Getter
 @Setter
 @Builder
@@ -15,7 +17,8 @@ import java.time.LocalDateTime;
 public class ProductAttribute {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_attributes_seq")
+    @SequenceGenerator(name = "product_attributes_seq", sequenceName = "product_attributes_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,9 +2,11 @@ package com.ecommerce.product.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "product_category")
+@DynamicUpdate
 @Getter
 @Setter
 @Builder
@@ -13,7 +15,8 @@ import lombok.*;
 public class ProductCategory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_category_seq")
+    @SequenceGenerator(name = "product_category_seq", sequenceName = "product_category_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
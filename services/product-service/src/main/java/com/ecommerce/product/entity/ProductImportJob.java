@@ -0,0 +1,53 @@
+package com.ecommerce.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress and checkpoint of a bulk product import run.
+ */
+@Entity
+@Table(name = "product_import_jobs")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProductImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProductImportStatus status;
+
+    // Number of input records already handled; a resumed run skips this many records
+    @Column(nullable = false)
+    private long processedRecords;
+
+    @Column(nullable = false)
+    private long importedRecords;
+
+    // Records whose SKU already exists
+    @Column(nullable = false)
+    private long skippedRecords;
+
+    // Records rejected by validation
+    @Column(nullable = false)
+    private long failedRecords;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,8 @@
+package com.ecommerce.product.entity;
+
+public enum ProductImportStatus {
+    PENDING,    // created, waiting for the feed to be uploaded
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
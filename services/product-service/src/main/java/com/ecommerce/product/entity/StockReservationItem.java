@@ -0,0 +1,33 @@
+package com.ecommerce.product.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Quantity of one product held by a reservation.
+ */
+@Entity
+@Table(name = "stock_reservation_items")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_reservation_items_seq")
+    @SequenceGenerator(name = "stock_reservation_items_seq", sequenceName = "stock_reservation_items_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private StockReservation reservation;
+
+    // Plain ID: stock is changed with conditional UPDATEs, the product is never loaded
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private int quantity;
+}
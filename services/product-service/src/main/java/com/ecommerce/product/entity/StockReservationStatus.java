@@ -0,0 +1,8 @@
+package com.ecommerce.product.entity;
+
+public enum StockReservationStatus {
+    RESERVED,   // stock is held until expiresAt
+    CONFIRMED,  // sold: the held stock is not returned
+    RELEASED,   // cancelled by the caller, stock returned
+    EXPIRED     // not confirmed in time, stock returned
+}
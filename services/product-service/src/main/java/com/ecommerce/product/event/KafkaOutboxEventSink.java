@@ -0,0 +1,58 @@
+package com.ecommerce.product.event;
+
+import com.ecommerce.product.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends outbox events to Kafka. The whole batch is handed to the producer first (so it can group records
+ * per partition), then acknowledgements are awaited together.
+ */
+@Component
+@ConditionalOnProperty(name = "product.outbox.sink", havingValue = "kafka", matchIfMissing = true)
+@RequiredArgsConstructor
+public class KafkaOutboxEventSink implements OutboxEventSink {
+
+    public static final String EVENT_TYPE_HEADER = "eventType";
+    public static final String EVENT_ID_HEADER = "eventId";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @Value("${product.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        CompletableFuture<?>[] sends = events.stream()
+                .map(event -> kafkaTemplate.send(toRecord(event)))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing outbox events", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("Failed to publish outbox events to Kafka", ex);
+        }
+    }
+
+    private ProducerRecord<String, String> toRecord(OutboxEvent event) {
+        ProducerRecord<String, String> record =
+                new ProducerRecord<>(event.getTopic(), event.getMessageKey(), event.getPayload());
+        // Consumers can deduplicate redeliveries on the outbox ID
+        record.headers().add(EVENT_ID_HEADER, event.getId().toString().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(EVENT_TYPE_HEADER, event.getEventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+}
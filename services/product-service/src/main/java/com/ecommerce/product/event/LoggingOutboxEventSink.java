@@ -0,0 +1,23 @@
+package com.ecommerce.product.event;
+
+import com.ecommerce.product.entity.OutboxEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes outbox events to the log instead of a broker, for local runs and tests (product.outbox.sink=log).
+ */
+@Component
+@ConditionalOnProperty(name = "product.outbox.sink", havingValue = "log")
+@Slf4j
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        events.forEach(event -> log.info("Outbox event id={} topic={} key={} type={}: {}",
+                event.getId(), event.getTopic(), event.getMessageKey(), event.getEventType(), event.getPayload()));
+    }
+}
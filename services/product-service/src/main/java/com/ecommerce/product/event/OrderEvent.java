@@ -0,0 +1,30 @@
+package com.ecommerce.product.event;
+
+import com.ecommerce.product.dto.StockReservationItemDTO;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Order saga event published by order-service (order events topic, keyed by order ID).
+ * Only the fields the stock side of the saga needs are mapped.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEvent {
+
+    public static final String ORDER_PLACED = "ORDER_PLACED";
+    public static final String ORDER_CONFIRMED = "ORDER_CONFIRMED";
+    public static final String ORDER_CANCELLED = "ORDER_CANCELLED";
+
+    private Long orderId;
+    private String eventType;
+    private List<StockReservationItemDTO> items; // ORDER_PLACED: the stock to reserve
+    private String reason;
+    private LocalDateTime createdAt; // order creation time, echoed in the reply (order-service partitions by it)
+    private LocalDateTime timestamp;
+}
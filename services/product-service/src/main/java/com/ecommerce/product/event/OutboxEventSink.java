@@ -0,0 +1,19 @@
+package com.ecommerce.product.event;
+
+import com.ecommerce.product.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination of relayed outbox events. Selected with product.outbox.sink
+ * (kafka by default, log for running without a broker); any other bean can be plugged in the same way.
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Deliver the events in order, returning only once all of them are acknowledged.
+     *
+     * @throws RuntimeException if any event could not be delivered; the whole batch is retried later
+     */
+    void publish(List<OutboxEvent> events);
+}
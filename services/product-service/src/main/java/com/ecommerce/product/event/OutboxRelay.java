@@ -0,0 +1,133 @@
+package com.ecommerce.product.event;
+
+import com.ecommerce.product.entity.OutboxEvent;
+import com.ecommerce.product.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox to the configured OutboxEventSink.
+ *
+ * Each batch is locked with FOR UPDATE SKIP LOCKED, delivered, and marked published in one transaction,
+ * so several instances can relay concurrently without sending a row twice. Delivery is at-least-once:
+ * a crash between the broker acknowledgement and the commit resends the batch.
+ *
+ * Metrics:
+ *   product.outbox.published / product.outbox.failures  throughput and failed deliveries
+ *   product.outbox.batch                                time to lock, deliver and mark one batch
+ *   product.outbox.pending / product.outbox.lag         backlog size and age of the oldest pending event (seconds)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventSink outboxEventSink;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.outbox.batch-size:500}")
+    private int batchSize;
+
+    // Upper bound of batches per run, so one run cannot hold the scheduler thread indefinitely
+    @Value("${product.outbox.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${product.outbox.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+
+    @Value("${product.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private Counter published;
+    private Counter failures;
+    private Timer batchTimer;
+
+    @PostConstruct
+    void registerMetrics() {
+        published = meterRegistry.counter("product.outbox.published");
+        failures = meterRegistry.counter("product.outbox.failures");
+        batchTimer = meterRegistry.timer("product.outbox.batch");
+        Gauge.builder("product.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("product.outbox.lag", lagSeconds, AtomicLong::get).baseUnit("seconds").register(meterRegistry);
+    }
+
+    // ----------------------------
+    // RELAY
+    // ----------------------------
+    @Scheduled(fixedDelayString = "${product.outbox.poll-interval-ms:500}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Integer sent = transactionTemplate.execute(status -> relayBatch());
+            sample.stop(batchTimer);
+            // A short batch does not mean the backlog is drained: later events of an aggregate wait for the next batch
+            if (sent == null || sent <= 0) {
+                break;
+            }
+        }
+        updateBacklogMetrics();
+    }
+
+    /**
+     * @return number of delivered events, or -1 if delivery failed
+     */
+    private int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(now, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        try {
+            outboxEventSink.publish(batch);
+        } catch (RuntimeException ex) {
+            log.warn("Outbox delivery of {} events failed, retrying in {} ms: {}", batch.size(), retryBackoffMs, ex.getMessage());
+            outboxEventRepository.reschedule(ids, now.plus(Duration.ofMillis(retryBackoffMs)));
+            failures.increment(batch.size());
+            return -1;
+        }
+
+        outboxEventRepository.markPublished(ids, LocalDateTime.now());
+        published.increment(batch.size());
+        log.debug("Relayed {} outbox events (ids {}..{})", batch.size(), ids.get(0), ids.get(ids.size() - 1));
+        return batch.size();
+    }
+
+    // ----------------------------
+    // CLEANUP
+    // ----------------------------
+    @Scheduled(fixedDelayString = "${product.outbox.cleanup-interval-ms:3600000}")
+    public void deletePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} published outbox events older than {} h", deleted, retentionHours);
+        }
+    }
+
+    private void updateBacklogMetrics() {
+        pending.set(outboxEventRepository.countByPublishedAtIsNull());
+        LocalDateTime oldest = outboxEventRepository.findOldestPendingCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds()));
+    }
+}
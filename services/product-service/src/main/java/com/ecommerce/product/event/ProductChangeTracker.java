@@ -0,0 +1,119 @@
+package com.ecommerce.product.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Field-level diffs between two versions of a product, used as the compact PRODUCT_UPDATED payload:
+ *
+ *   { "price": { "from": 19.99, "to": 17.49 }, "stockQuantity": { "from": 3, "to": 12 } }
+ *
+ * Numbers are compared by value (10.5 equals 10.50). Collections are compared as unordered sets
+ * ignoring element IDs and timestamps, so re-creating identical images or attributes is not a change;
+ * a changed collection carries its complete new content.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangeTracker {
+
+    public static final String FROM = "from";
+    public static final String TO = "to";
+
+    // Not part of a product edit, or bumped on every write
+    private static final Set<String> IGNORED_FIELDS = Set.of("createdAt", "updatedAt", "reviews");
+    private static final Set<String> IGNORED_ELEMENT_FIELDS = Set.of("id", "createdAt", "updatedAt");
+
+    private static final Comparator<JsonNode> BY_VALUE = (left, right) -> {
+        if (left.isNumber() && right.isNumber()) {
+            return left.decimalValue().compareTo(right.decimalValue());
+        }
+        return left.equals(right) ? 0 : 1;
+    };
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Changed fields between two snapshots of the same product (empty when nothing changed).
+     */
+    public ObjectNode diff(Object before, Object after) {
+        ObjectNode from = objectMapper.valueToTree(before);
+        ObjectNode to = objectMapper.valueToTree(after);
+
+        Set<String> fields = new TreeSet<>();
+        from.fieldNames().forEachRemaining(fields::add);
+        to.fieldNames().forEachRemaining(fields::add);
+
+        ObjectNode changes = objectMapper.createObjectNode();
+        for (String field : fields) {
+            if (IGNORED_FIELDS.contains(field)) {
+                continue;
+            }
+            JsonNode oldValue = from.has(field) ? from.get(field) : NullNode.getInstance();
+            JsonNode newValue = to.has(field) ? to.get(field) : NullNode.getInstance();
+            if (!sameValue(oldValue, newValue)) {
+                changes.set(field, change(oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Combine two consecutive diffs into one: the first "from" and the last "to" of every field.
+     * Fields that end up back at their original value disappear.
+     */
+    public ObjectNode merge(JsonNode earlier, JsonNode later) {
+        ObjectNode merged = earlier != null && earlier.isObject() ? ((ObjectNode) earlier).deepCopy() : objectMapper.createObjectNode();
+
+        later.fields().forEachRemaining(entry -> {
+            JsonNode previous = merged.get(entry.getKey());
+            JsonNode oldValue = previous != null ? previous.get(FROM) : entry.getValue().get(FROM);
+            JsonNode newValue = entry.getValue().get(TO);
+            if (sameValue(oldValue, newValue)) {
+                merged.remove(entry.getKey());
+            } else {
+                merged.set(entry.getKey(), change(oldValue, newValue));
+            }
+        });
+        return merged;
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private ObjectNode change(JsonNode oldValue, JsonNode newValue) {
+        ObjectNode change = objectMapper.createObjectNode();
+        change.set(FROM, oldValue);
+        change.set(TO, newValue);
+        return change;
+    }
+
+    private boolean sameValue(JsonNode left, JsonNode right) {
+        if (left.isArray() && right.isArray()) {
+            return normalize((ArrayNode) left).equals(normalize((ArrayNode) right));
+        }
+        return left.equals(BY_VALUE, right);
+    }
+
+    // Order-insensitive view of a collection without identity fields
+    private List<String> normalize(ArrayNode array) {
+        List<String> elements = new ArrayList<>(array.size());
+        for (JsonNode element : array) {
+            if (element.isObject()) {
+                ObjectNode copy = ((ObjectNode) element).deepCopy();
+                copy.remove(IGNORED_ELEMENT_FIELDS);
+                elements.add(copy.toString());
+            } else {
+                elements.add(element.toString());
+            }
+        }
+        Collections.sort(elements);
+        return elements;
+    }
+}
@@ -0,0 +1,168 @@
+package com.ecommerce.product.event;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+
+/**
+ * Hands product events to the registered ProductEventHandlers.
+ *
+ * In async mode every worker is a single thread with its own bounded queue, and an event is routed by
+ * product ID, so events of one product are handled in order while different products proceed in parallel.
+ * When a worker's queue is full the overflow policy applies:
+ *   BLOCK        the publisher waits up to block-timeout-ms for space, then the event is dropped
+ *   CALLER_RUNS  the publisher handles the event itself (may overtake queued events of the same product)
+ *   DROP         the event is dropped immediately
+ *
+ * Metrics: product.events.dispatch.queue.depth, product.events.dispatch.wait (enqueue to start),
+ * product.events.dispatch.handle (handler time, per event type), product.events.dispatch.dropped / .failures.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductEventDispatcher {
+
+    public enum Mode { SYNC, ASYNC }
+
+    public enum OverflowPolicy { BLOCK, CALLER_RUNS, DROP }
+
+    private final List<ProductEventHandler> handlers;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.events.dispatch.mode:ASYNC}")
+    private Mode mode;
+
+    @Value("${product.events.dispatch.workers:4}")
+    private int workers;
+
+    // Per worker
+    @Value("${product.events.dispatch.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${product.events.dispatch.overflow:BLOCK}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${product.events.dispatch.block-timeout-ms:1000}")
+    private long blockTimeoutMs;
+
+    private final List<ThreadPoolExecutor> executors = new ArrayList<>();
+    private Timer waitTimer;
+
+    @PostConstruct
+    void start() {
+        waitTimer = meterRegistry.timer("product.events.dispatch.wait");
+        if (mode == Mode.SYNC || handlers.isEmpty()) {
+            log.info("Product event dispatch: mode={}, handlers={}", mode, handlers.size());
+            return;
+        }
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("product-events-");
+        threadFactory.setDaemon(true);
+        for (int i = 0; i < workers; i++) {
+            executors.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory, this::onQueueFull));
+        }
+        Gauge.builder("product.events.dispatch.queue.depth", executors,
+                        list -> list.stream().mapToInt(executor -> executor.getQueue().size()).sum())
+                .register(meterRegistry);
+
+        log.info("Product event dispatch: mode={}, handlers={}, workers={}, queueCapacity={}, overflow={}",
+                mode, handlers.size(), workers, queueCapacity, overflowPolicy);
+    }
+
+    public void dispatch(ProductEvent event) {
+        if (handlers.isEmpty()) {
+            return;
+        }
+        if (executors.isEmpty()) {
+            handleAll(event);
+            return;
+        }
+
+        long enqueuedAt = System.nanoTime();
+        executor(event).execute(new DispatchTask(event, () -> {
+            waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+            handleAll(event);
+        }));
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        executors.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor executor : executors) {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Product event worker did not drain in time, {} events left", executor.getQueue().size());
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private ThreadPoolExecutor executor(ProductEvent event) {
+        return executors.get(Math.floorMod(Objects.hashCode(event.getProductId()), executors.size()));
+    }
+
+    private void handleAll(ProductEvent event) {
+        Timer handleTimer = meterRegistry.timer("product.events.dispatch.handle", "eventType", String.valueOf(event.getEventType()));
+        for (ProductEventHandler handler : handlers) {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                handler.handle(event);
+            } catch (RuntimeException ex) {
+                meterRegistry.counter("product.events.dispatch.failures").increment();
+                log.error("{} failed on {} for product ID={}",
+                        handler.getClass().getSimpleName(), event.getEventType(), event.getProductId(), ex);
+            } finally {
+                sample.stop(handleTimer);
+            }
+        }
+    }
+
+    private void onQueueFull(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            drop(task, "dispatcher is shutting down");
+            return;
+        }
+        switch (overflowPolicy) {
+            case CALLER_RUNS -> task.run();
+            case DROP -> drop(task, "queue full");
+            case BLOCK -> {
+                try {
+                    if (!executor.getQueue().offer(task, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        drop(task, "queue still full after " + blockTimeoutMs + " ms");
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    drop(task, "interrupted while waiting for queue space");
+                }
+            }
+        }
+    }
+
+    private void drop(Runnable task, String reason) {
+        meterRegistry.counter("product.events.dispatch.dropped").increment();
+        ProductEvent event = ((DispatchTask) task).event();
+        log.warn("Dropped {} for product ID={}: {}", event.getEventType(), event.getProductId(), reason);
+    }
+
+    private record DispatchTask(ProductEvent event, Runnable work) implements Runnable {
+        @Override
+        public void run() {
+            work.run();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.product.event;
+
+/**
+ * In-process consumer of product events (search indexing, notifications, ...).
+ *
+ * Every bean implementing this interface receives committed product events through ProductEventDispatcher,
+ * off the request thread when dispatch mode is async. Events of one product arrive in publication order,
+ * with two exceptions under overload: BLOCK and DROP may drop an event, and CALLER_RUNS handles the overflowing
+ * event on the publishing thread, possibly before events of the same product still queued. Handlers that need
+ * strict order should compare event timestamps rather than rely on arrival order.
+ */
+public interface ProductEventHandler {
+
+    void handle(ProductEvent event);
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.product.event;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reply to ORDER_PLACED (or STOCK_EXPIRED for a late ORDER_CONFIRMED), published to the stock events topic
+ * keyed by order ID.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockEvent {
+
+    public static final String STOCK_RESERVED = "STOCK_RESERVED";
+    public static final String STOCK_REJECTED = "STOCK_REJECTED";
+    public static final String STOCK_EXPIRED = "STOCK_EXPIRED";
+
+    private Long orderId;
+    private String eventType;
+    private String source;    // "product-service"
+    private Long productId;   // STOCK_REJECTED / STOCK_EXPIRED: the product that was short, if known
+    private String reason;    // STOCK_REJECTED / STOCK_EXPIRED: why
+    private LocalDateTime orderCreatedAt; // from ORDER_PLACED, lets order-service find the order's partition
+    private LocalDateTime timestamp;
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.product.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -43,6 +44,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    // ---------------------------
+    // Handle InsufficientStockException
+    // ---------------------------
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<Map<String, Object>> handleInsufficientStock(InsufficientStockException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Insufficient Stock");
+        body.put("message", ex.getMessage());
+        body.put("productId", ex.getProductId());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    // ---------------------------
+    // Handle concurrent modification (stale @Version)
+    // ---------------------------
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Map<String, Object>> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.CONFLICT.value());
+        body.put("error", "Conflict");
+        body.put("message", "The resource was modified concurrently. Reload it and retry.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     // ---------------------------
     // Handle Validation Errors (from @Valid)
     // ---------------------------
@@ -0,0 +1,19 @@
+package com.ecommerce.product.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a product does not have enough stock left for a reservation.
+ */
+@Getter
+public class InsufficientStockException extends RuntimeException {
+
+    private final Long productId;
+    private final int requested;
+
+    public InsufficientStockException(Long productId, int requested) {
+        super("Insufficient stock for product " + productId + ": requested " + requested);
+        this.productId = productId;
+        this.requested = requested;
+    }
+}
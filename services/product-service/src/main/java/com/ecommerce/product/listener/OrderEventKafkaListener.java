@@ -0,0 +1,41 @@
+package com.ecommerce.product.listener;
+
+import com.ecommerce.product.event.OrderEvent;
+import com.ecommerce.product.service.OrderStockSagaService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes order-service's saga events and reserves, confirms or releases stock for them.
+ * Offsets are committed after each event is handled, so a crash redelivers it; the saga steps are idempotent.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventKafkaListener {
+
+    private final OrderStockSagaService orderStockSagaService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(topics = "${product.saga.order-events-topic:order-events}", groupId = "${spring.application.name}")
+    public void onOrderEvent(ConsumerRecord<String, String> record) {
+        OrderEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), OrderEvent.class);
+        } catch (JsonProcessingException ex) {
+            // A malformed message can never succeed, retrying it would only block the partition
+            log.error("Skipping unreadable order event at offset {} of {}: {}", record.offset(), record.topic(), ex.getMessage());
+            return;
+        }
+        if (event.getOrderId() == null || event.getEventType() == null) {
+            log.error("Skipping order event without order ID or type at offset {} of {}", record.offset(), record.topic());
+            return;
+        }
+        orderStockSagaService.handleOrderEvent(event);
+    }
+}
@@ -1,21 +1,41 @@
 package com.ecommerce.product.listener;
 
+import com.ecommerce.product.cache.ProductResponseCache;
 import com.ecommerce.product.event.ProductEvent;
+import com.ecommerce.product.event.ProductEventDispatcher;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 /**
  * Example listener for internal product events.
- * You can later replace this with a Kafka listener or external subscriber.
+ * Runs after the publishing transaction commits; external subscribers consume the Kafka topic fed by the outbox.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class ProductEventListener {
 
-    @EventListener
+    private static final Set<String> EVICTING_EVENT_TYPES = Set.of(
+            "PRODUCT_UPDATED", "PRODUCT_DELETED", "PRODUCT_PRICE_CHANGED", "PRODUCT_STOCK_CHANGED");
+
+    private final ProductResponseCache productResponseCache;
+    private final ProductEventDispatcher productEventDispatcher;
+
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleProductEvent(ProductEvent event) {
         log.info("Received internal event: {} for product ID={}", event.getEventType(), event.getProductId());
-        // TODO: implement custom logic (e.g., indexing, notification, etc.)
+
+        // Keep the detail near-cache consistent with writes
+        if (EVICTING_EVENT_TYPES.contains(event.getEventType())) {
+            productResponseCache.evict(event.getProductId());
+        }
+
+        // Custom logic (e.g., indexing, notification, etc.) goes into ProductEventHandler beans,
+        // which run off the request thread
+        productEventDispatcher.dispatch(event);
     }
 }
@@ -49,6 +49,18 @@ public interface ProductMapper {
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateProductFromRequest(ProductRequest request, @MappingTarget Product product);
 
+    // Scalar fields only; child collections are reconciled in the service
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "productCategories", ignore = true)
+    @Mapping(target = "images", ignore = true)
+    @Mapping(target = "attributes", ignore = true)
+    @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "primaryImageUrl", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    void patchProduct(ProductPatchRequest patch, @MappingTarget Product product);
+
     // ----------------------------
     // CUSTOM CATEGORY MAPPING
     // ----------------------------
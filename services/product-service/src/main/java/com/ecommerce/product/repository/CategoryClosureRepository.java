@@ -0,0 +1,61 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.CategoryClosure;
+import com.ecommerce.product.entity.CategoryClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosureId> {
+
+    boolean existsByIdAncestorIdAndIdDescendantId(Long ancestorId, Long descendantId);
+
+    // All descendants of a category, including the category itself
+    @Query("select c.id.descendantId from CategoryClosure c where c.id.ancestorId = :ancestorId")
+    List<Long> findDescendantIds(@Param("ancestorId") Long ancestorId);
+
+    // Self row plus one row per ancestor of the (optional) parent
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT ancestor_id, :id, depth + 1 FROM category_closure WHERE descendant_id = :parentId
+            UNION ALL
+            SELECT :id, :id, 0
+            """, nativeQuery = true)
+    void insertPaths(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // Cut the subtree rooted at :id loose from all of its current ancestors
+    @Modifying
+    @Query(value = """
+            DELETE FROM category_closure
+            WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :id)
+              AND ancestor_id IN (SELECT ancestor_id FROM category_closure WHERE descendant_id = :id AND ancestor_id <> :id)
+            """, nativeQuery = true)
+    void detachSubtree(@Param("id") Long id);
+
+    // Connect every node of the subtree rooted at :id to every ancestor-or-self of :parentId
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT parent_paths.ancestor_id, subtree.descendant_id, parent_paths.depth + subtree.depth + 1
+            FROM category_closure parent_paths
+            CROSS JOIN category_closure subtree
+            WHERE parent_paths.descendant_id = :parentId
+              AND subtree.ancestor_id = :id
+            """, nativeQuery = true)
+    void attachSubtree(@Param("id") Long id, @Param("parentId") Long parentId);
+
+    // Remove a category from the hierarchy; its children become roots of their own subtrees
+    @Modifying
+    @Query(value = """
+            DELETE FROM category_closure
+            WHERE descendant_id IN (SELECT descendant_id FROM category_closure WHERE ancestor_id = :id)
+              AND ancestor_id IN (SELECT ancestor_id FROM category_closure WHERE descendant_id = :id)
+            """, nativeQuery = true)
+    void removeNode(@Param("id") Long id);
+}
@@ -1,7 +1,9 @@
 package com.ecommerce.product.repository;
 
+import com.ecommerce.product.dto.CategoryDTO;
 import com.ecommerce.product.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +17,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     List<Category> findByParentIsNull(); // Top-level categories
 
     List<Category> findByParentId(Long parentId);
+
+    // Flat rows of the whole hierarchy, loaded in one query to build the in-memory tree
+    @Query("select new com.ecommerce.product.dto.CategoryDTO(c.id, c.name, c.slug, c.description, p.id) "
+            + "from Category c left join c.parent p")
+    List<CategoryDTO> findAllTreeRows();
 }
@@ -0,0 +1,92 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Oldest due events; rows locked by another relay instance are skipped instead of waited for.
+     *
+     * Pooled IDs are handed out in blocks per instance, so id order is not the order in which events were
+     * written: they are ordered by created_at, with the id only breaking ties within one transaction.
+     * An event is held back while an earlier one of its aggregate on the same topic is unpublished (not yet
+     * due, rescheduled after a failure, or locked by another relay), so the events of one aggregate never
+     * overtake each other. Topics are ordered independently: a stuck event on one does not hold back another.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_events o
+            WHERE o.published_at IS NULL AND o.available_at <= :now
+              AND NOT EXISTS (
+                  SELECT 1 FROM outbox_events e
+                  WHERE e.topic = o.topic AND e.aggregate_id = o.aggregate_id AND e.published_at IS NULL
+                    AND (e.created_at, e.id) < (o.created_at, o.id))
+            ORDER BY o.created_at, o.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Pending event of the same kind still inside its coalescing window (not yet due for the relay)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select e from OutboxEvent e
+            where e.topic = :topic and e.aggregateId = :aggregateId and e.eventType = :eventType
+              and e.publishedAt is null and e.availableAt > :now
+            order by e.id desc
+            """)
+    List<OutboxEvent> findCoalescable(@Param("topic") String topic,
+                                      @Param("aggregateId") Long aggregateId,
+                                      @Param("eventType") String eventType,
+                                      @Param("now") LocalDateTime now);
+
+    // Make events still waiting in a window due now, so a following event cannot overtake them
+    @Modifying
+    @Query("""
+            update OutboxEvent e set e.availableAt = :now
+            where e.topic = :topic and e.aggregateId = :aggregateId
+              and e.publishedAt is null and e.availableAt > :now
+            """)
+    int releasePending(@Param("topic") String topic,
+                       @Param("aggregateId") Long aggregateId,
+                       @Param("now") LocalDateTime now);
+
+    // Same for many aggregates at once (batch writes)
+    @Modifying
+    @Query("""
+            update OutboxEvent e set e.availableAt = :now
+            where e.topic = :topic and e.aggregateId in :aggregateIds
+              and e.publishedAt is null and e.availableAt > :now
+            """)
+    int releasePending(@Param("topic") String topic,
+                       @Param("aggregateIds") Collection<Long> aggregateIds,
+                       @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.publishedAt = :publishedAt where e.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1, e.availableAt = :availableAt where e.id in :ids")
+    int reschedule(@Param("ids") Collection<Long> ids, @Param("availableAt") LocalDateTime availableAt);
+
+    long countByPublishedAtIsNull();
+
+    @Query("select min(e.createdAt) from OutboxEvent e where e.publishedAt is null")
+    LocalDateTime findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("delete from OutboxEvent e where e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,181 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.dto.ProductAttributeDTO;
+import com.ecommerce.product.dto.ProductImageDTO;
+import com.ecommerce.product.dto.ProductRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.LongStream;
+
+/**
+ * Plain JDBC writes for the bulk import.
+ *
+ * Each call is a single batched statement, so a batch of N products costs a handful of round trips
+ * instead of one INSERT per row and collection element. IDs are reserved up front from the same pooled
+ * sequences Hibernate uses, which lets the child rows reference their product without INSERT ... RETURNING.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkInsertRepository {
+
+    // Must match allocationSize on the entities: each nextval() owns the block [value - 49, value]
+    private static final int SEQUENCE_INCREMENT = 50;
+
+    private static final String INSERT_PRODUCT = """
+            INSERT INTO products (id, sku, name, slug, description, short_description, price, discount_price,
+                                  currency, stock_quantity, status, brand, weight, primary_image_url, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int[] PRODUCT_TYPES = {
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC,
+            Types.NUMERIC, Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.VARCHAR, Types.NUMERIC, Types.VARCHAR,
+            Types.TIMESTAMP
+    };
+
+    private static final String INSERT_CATEGORY_LINK = """
+            INSERT INTO product_category (id, product_id, category_id, display_order, primary_category)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final int[] CATEGORY_LINK_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.BOOLEAN
+    };
+
+    private static final String INSERT_IMAGE = """
+            INSERT INTO product_images (id, product_id, image_url, alt_text, is_primary, position, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int[] IMAGE_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.BOOLEAN, Types.INTEGER, Types.TIMESTAMP
+    };
+
+    private static final String INSERT_ATTRIBUTE = """
+            INSERT INTO product_attributes (id, product_id, attribute_name, attribute_value, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+    private static final int[] ATTRIBUTE_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<String> findExistingSkus(Collection<String> skus) {
+        return findExisting("SELECT sku FROM products WHERE sku = ANY(?)", skus);
+    }
+
+    public Set<String> findExistingSlugs(Collection<String> slugs) {
+        return findExisting("SELECT slug FROM products WHERE slug = ANY(?)", slugs);
+    }
+
+    /**
+     * Insert products with their category links, images and attributes.
+     *
+     * @param requests validated products with unique SKUs and slugs
+     * @return the new product IDs, in the order of requests
+     */
+    public List<Long> insertProducts(List<ProductRequest> requests, LocalDateTime createdAt) {
+        PrimitiveIterator.OfLong ids = reserveIds("products_seq", requests.size());
+        Timestamp now = Timestamp.valueOf(createdAt);
+        List<Long> productIds = new ArrayList<>(requests.size());
+        List<Object[]> products = new ArrayList<>(requests.size());
+        List<Object[]> categoryLinks = new ArrayList<>();
+        List<Object[]> images = new ArrayList<>();
+        List<Object[]> attributes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            long id = ids.nextLong();
+            productIds.add(id);
+            ProductRequest request = requests.get(i);
+
+            products.add(new Object[]{
+                    id, request.getSku(), request.getName(), request.getSlug(), request.getDescription(),
+                    request.getShortDescription(), request.getPrice(), request.getDiscountPrice(),
+                    request.getCurrency(), request.getStockQuantity(), request.getStatus(), request.getBrand(),
+                    request.getWeight(), primaryImageUrl(request.getImages()), now
+            });
+
+            for (Long categoryId : new LinkedHashSet<>(request.getCategoryIds())) {
+                categoryLinks.add(new Object[]{null, id, categoryId, 0, false});
+            }
+            if (request.getImages() != null) {
+                for (ProductImageDTO image : request.getImages()) {
+                    images.add(new Object[]{
+                            null, id, image.getImageUrl(), image.getAltText(), image.isPrimary(), image.getPosition(), now
+                    });
+                }
+            }
+            if (request.getAttributes() != null) {
+                for (ProductAttributeDTO attribute : request.getAttributes()) {
+                    attributes.add(new Object[]{null, id, attribute.getAttributeName(), attribute.getAttributeValue(), now});
+                }
+            }
+        }
+
+        assignIds(categoryLinks, "product_category_seq");
+        assignIds(images, "product_images_seq");
+        assignIds(attributes, "product_attributes_seq");
+
+        // Parents first so the foreign keys are satisfied
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, products, PRODUCT_TYPES);
+        jdbcTemplate.batchUpdate(INSERT_CATEGORY_LINK, categoryLinks, CATEGORY_LINK_TYPES);
+        jdbcTemplate.batchUpdate(INSERT_IMAGE, images, IMAGE_TYPES);
+        jdbcTemplate.batchUpdate(INSERT_ATTRIBUTE, attributes, ATTRIBUTE_TYPES);
+        return productIds;
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+
+    /**
+     * Reserve at least count IDs with one round trip: every nextval() yields a block of SEQUENCE_INCREMENT IDs.
+     */
+    private PrimitiveIterator.OfLong reserveIds(String sequence, int count) {
+        int blocks = (count + SEQUENCE_INCREMENT - 1) / SEQUENCE_INCREMENT;
+        List<Long> blockEnds = blocks == 0 ? List.of() : jdbcTemplate.queryForList(
+                "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)", Long.class, sequence, blocks);
+        return blockEnds.stream()
+                .flatMapToLong(end -> LongStream.rangeClosed(end - SEQUENCE_INCREMENT + 1, end))
+                .iterator();
+    }
+
+    // Fill the leading id column of each row
+    private void assignIds(List<Object[]> rows, String sequence) {
+        PrimitiveIterator.OfLong ids = reserveIds(sequence, rows.size());
+        for (Object[] row : rows) {
+            row[0] = ids.nextLong();
+        }
+    }
+
+    private Set<String> findExisting(String sql, Collection<String> values) {
+        if (values.isEmpty()) {
+            return new HashSet<>();
+        }
+        List<String> existing = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql);
+                    statement.setArray(1, connection.createArrayOf("varchar", values.toArray()));
+                    return statement;
+                },
+                (rs, rowNum) -> rs.getString(1));
+        return new HashSet<>(existing);
+    }
+
+    // Same rule as Product.updatePrimaryImageUrl: primary image first, otherwise the lowest position
+    private String primaryImageUrl(List<ProductImageDTO> images) {
+        if (images == null) {
+            return null;
+        }
+        return images.stream()
+                .min(Comparator.comparing(ProductImageDTO::isPrimary).reversed()
+                        .thenComparing(ProductImageDTO::getPosition, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(ProductImageDTO::getImageUrl)
+                .orElse(null);
+    }
+}
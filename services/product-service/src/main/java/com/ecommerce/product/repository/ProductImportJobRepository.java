@@ -0,0 +1,34 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.ProductImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ProductImportJobRepository extends JpaRepository<ProductImportJob, Long> {
+
+    // Checkpoint written in the same transaction as the batch it describes
+    @Modifying
+    @Query("""
+            update ProductImportJob j
+            set j.processedRecords = :processed,
+                j.importedRecords = :imported,
+                j.skippedRecords = :skipped,
+                j.failedRecords = :failed,
+                j.lastError = coalesce(:lastError, j.lastError),
+                j.updatedAt = :updatedAt
+            where j.id = :id
+            """)
+    int updateCheckpoint(@Param("id") Long id,
+                         @Param("processed") long processed,
+                         @Param("imported") long imported,
+                         @Param("skipped") long skipped,
+                         @Param("failed") long failed,
+                         @Param("lastError") String lastError,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+}
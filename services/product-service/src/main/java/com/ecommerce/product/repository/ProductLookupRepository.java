@@ -0,0 +1,53 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.dto.ProductLookupDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Price/availability projection for many products in one statement.
+ *
+ * Reads only the product row and the live stock (product_stock view), none of the collections the
+ * detail endpoint loads. Both key lists are bound as arrays, so the statement text is the same for any
+ * number of keys and can use the primary key and the unique SKU index.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductLookupRepository {
+
+    private static final String LOOKUP = """
+            SELECT p.id, p.sku, p.name, p.price, p.discount_price, p.currency, s.stock_quantity, p.status
+            FROM products p
+            JOIN product_stock s ON s.product_id = p.id
+            WHERE p.id = ANY(?) OR p.sku = ANY(?)
+            ORDER BY p.id
+            """;
+
+    private static final RowMapper<ProductLookupDTO> LOOKUP_MAPPER = (rs, rowNum) -> ProductLookupDTO.builder()
+            .id(rs.getLong("id"))
+            .sku(rs.getString("sku"))
+            .name(rs.getString("name"))
+            .price(rs.getBigDecimal("price"))
+            .discountPrice(rs.getBigDecimal("discount_price"))
+            .currency(rs.getString("currency"))
+            .stockQuantity(rs.getInt("stock_quantity"))
+            .status(rs.getString("status"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<ProductLookupDTO> lookup(Collection<Long> ids, Collection<String> skus) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOOKUP);
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar", skus.toArray()));
+            return statement;
+        }, LOOKUP_MAPPER);
+    }
+}
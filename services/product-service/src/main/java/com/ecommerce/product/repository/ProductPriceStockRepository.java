@@ -0,0 +1,181 @@
+package com.ecommerce.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Single-statement price and stock writes, bypassing the aggregate load of the regular update.
+ *
+ * Every write is one UPDATE ... RETURNING: a CTE locks the target rows in ID order (so concurrent batches
+ * cannot deadlock) and keeps their previous values for the change event. Rows that already hold the
+ * requested values are filtered out, so they are neither written nor reported as changed.
+ * Written rows get a new version, so a concurrent JPA update of the same product fails instead of overwriting them.
+ *
+ * Stock is read from the product_stock view: for striped products products.stock_quantity is only a consolidated
+ * copy, so comparing against it (or reporting it as the previous value) would be stale.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductPriceStockRepository {
+
+    // A price write leaves the stock alone, so its live value is the one read in prev
+    private static final String PRICE_RETURNING = """
+            RETURNING p.id, p.sku, p.price, p.discount_price, prev.stock_quantity,
+                      prev.price AS old_price, prev.discount_price AS old_discount_price, prev.stock_quantity AS old_stock_quantity
+            """;
+
+    private static final String STOCK_RETURNING = """
+            RETURNING p.id, p.sku, p.price, p.discount_price, p.stock_quantity,
+                      prev.price AS old_price, prev.discount_price AS old_discount_price, prev.stock_quantity AS old_stock_quantity
+            """;
+
+    private static final String UPDATE_PRICE_BY_ID = """
+            WITH prev AS (
+                SELECT p.id, p.price, p.discount_price, ps.stock_quantity
+                FROM products p JOIN product_stock ps ON ps.product_id = p.id
+                WHERE p.id = ? AND (p.price IS DISTINCT FROM ? OR p.discount_price IS DISTINCT FROM ?)
+                FOR UPDATE OF p
+            )
+            UPDATE products p SET price = ?, discount_price = ?, updated_at = ?, version = p.version + 1
+            FROM prev WHERE p.id = prev.id
+            """ + PRICE_RETURNING;
+
+    private static final String UPDATE_STOCK_BY_ID = """
+            WITH prev AS (
+                SELECT p.id, p.price, p.discount_price, ps.stock_quantity
+                FROM products p JOIN product_stock ps ON ps.product_id = p.id
+                WHERE p.id = ? AND ps.stock_quantity IS DISTINCT FROM ?
+                FOR UPDATE OF p
+            )
+            UPDATE products p SET stock_quantity = ?, updated_at = ?, version = p.version + 1
+            FROM prev WHERE p.id = prev.id
+            """ + STOCK_RETURNING;
+
+    private static final String UPDATE_PRICES_BY_SKU = """
+            WITH input AS (
+                SELECT * FROM unnest(CAST(? AS varchar[]), CAST(? AS numeric[]), CAST(? AS numeric[]))
+                    AS u(sku, price, discount_price)
+            ), prev AS (
+                SELECT p.id, p.price, p.discount_price, ps.stock_quantity,
+                       i.price AS new_price, i.discount_price AS new_discount_price
+                FROM products p JOIN input i ON i.sku = p.sku JOIN product_stock ps ON ps.product_id = p.id
+                WHERE p.price IS DISTINCT FROM i.price OR p.discount_price IS DISTINCT FROM i.discount_price
+                ORDER BY p.id
+                FOR UPDATE OF p
+            )
+            UPDATE products p SET price = prev.new_price, discount_price = prev.new_discount_price, updated_at = ?, version = p.version + 1
+            FROM prev WHERE p.id = prev.id
+            """ + PRICE_RETURNING;
+
+    private static final String UPDATE_STOCK_BY_SKU = """
+            WITH input AS (
+                SELECT * FROM unnest(CAST(? AS varchar[]), CAST(? AS integer[])) AS u(sku, stock_quantity)
+            ), prev AS (
+                SELECT p.id, p.price, p.discount_price, ps.stock_quantity, i.stock_quantity AS new_stock_quantity
+                FROM products p JOIN input i ON i.sku = p.sku JOIN product_stock ps ON ps.product_id = p.id
+                WHERE ps.stock_quantity IS DISTINCT FROM i.stock_quantity
+                ORDER BY p.id
+                FOR UPDATE OF p
+            )
+            UPDATE products p SET stock_quantity = prev.new_stock_quantity, updated_at = ?, version = p.version + 1
+            FROM prev WHERE p.id = prev.id
+            """ + STOCK_RETURNING;
+
+    private static final RowMapper<PriceStockChange> CHANGE_MAPPER = (rs, rowNum) -> new PriceStockChange(
+            rs.getLong("id"),
+            rs.getString("sku"),
+            rs.getBigDecimal("price"),
+            rs.getBigDecimal("discount_price"),
+            rs.getInt("stock_quantity"),
+            rs.getBigDecimal("old_price"),
+            rs.getBigDecimal("old_discount_price"),
+            rs.getInt("old_stock_quantity"));
+
+    /**
+     * A row written by the fast path, with the values it had before.
+     */
+    public record PriceStockChange(long id, String sku,
+                                   BigDecimal price, BigDecimal discountPrice, int stockQuantity,
+                                   BigDecimal previousPrice, BigDecimal previousDiscountPrice, int previousStockQuantity) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the change, or empty if the product does not exist or already has this price
+     */
+    public Optional<PriceStockChange> updatePrice(long id, BigDecimal price, BigDecimal discountPrice, LocalDateTime now) {
+        List<PriceStockChange> changes = jdbcTemplate.query(UPDATE_PRICE_BY_ID,
+                new Object[]{id, price, discountPrice, price, discountPrice, Timestamp.valueOf(now)},
+                new int[]{Types.BIGINT, Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.TIMESTAMP},
+                CHANGE_MAPPER);
+        return changes.stream().findFirst();
+    }
+
+    /**
+     * @return the change, or empty if the product does not exist or already has this stock level
+     */
+    public Optional<PriceStockChange> updateStock(long id, int stockQuantity, LocalDateTime now) {
+        List<PriceStockChange> changes = jdbcTemplate.query(UPDATE_STOCK_BY_ID,
+                new Object[]{id, stockQuantity, stockQuantity, Timestamp.valueOf(now)},
+                new int[]{Types.BIGINT, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP},
+                CHANGE_MAPPER);
+        return changes.stream().findFirst();
+    }
+
+    /**
+     * Apply many prices in one statement. SKUs must be unique.
+     *
+     * @return the rows that changed (unknown SKUs and unchanged rows are absent)
+     */
+    public List<PriceStockChange> updatePrices(List<String> skus, List<BigDecimal> prices,
+                                               List<BigDecimal> discountPrices, LocalDateTime now) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPDATE_PRICES_BY_SKU);
+            statement.setArray(1, connection.createArrayOf("varchar", skus.toArray()));
+            statement.setArray(2, connection.createArrayOf("numeric", prices.toArray()));
+            statement.setArray(3, connection.createArrayOf("numeric", discountPrices.toArray()));
+            statement.setTimestamp(4, Timestamp.valueOf(now));
+            return statement;
+        }, CHANGE_MAPPER);
+    }
+
+    /**
+     * Apply many stock levels in one statement. SKUs must be unique.
+     *
+     * @return the rows that changed (unknown SKUs and unchanged rows are absent)
+     */
+    public List<PriceStockChange> updateStock(List<String> skus, List<Integer> stockQuantities, LocalDateTime now) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPDATE_STOCK_BY_SKU);
+            statement.setArray(1, connection.createArrayOf("varchar", skus.toArray()));
+            statement.setArray(2, connection.createArrayOf("integer", stockQuantities.toArray()));
+            statement.setTimestamp(3, Timestamp.valueOf(now));
+            return statement;
+        }, CHANGE_MAPPER);
+    }
+
+    /**
+     * Current price and stock, for requests that turned out to change nothing.
+     */
+    public Optional<PriceStockChange> findById(long id) {
+        List<PriceStockChange> rows = jdbcTemplate.query("""
+                        SELECT p.id, p.sku, p.price, p.discount_price, ps.stock_quantity,
+                               p.price AS old_price, p.discount_price AS old_discount_price, ps.stock_quantity AS old_stock_quantity
+                        FROM products p JOIN product_stock ps ON ps.product_id = p.id
+                        WHERE p.id = ?
+                        """,
+                CHANGE_MAPPER, id);
+        return rows.stream().findFirst();
+    }
+}
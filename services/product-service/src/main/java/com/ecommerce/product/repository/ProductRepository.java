@@ -1,17 +1,116 @@
 package com.ecommerce.product.repository;
 
+import com.ecommerce.product.dto.ProductExportDTO;
 import com.ecommerce.product.entity.Product;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductSearchRepository {
 
     Optional<Product> findBySlug(String slug);
 
     Optional<Product> findBySku(String sku);
+
+    // ----------------------------
+    // DETAIL LOOKUPS (full aggregate in a bounded number of queries)
+    // ----------------------------
+    @EntityGraph(Product.DETAIL_GRAPH)
+    Optional<Product> findWithDetailsById(Long id);
+
+    @EntityGraph(Product.DETAIL_GRAPH)
+    Optional<Product> findWithDetailsBySlug(String slug);
+
+    @EntityGraph(Product.DETAIL_GRAPH)
+    Optional<Product> findWithDetailsBySku(String sku);
+
+    // ----------------------------
+    // EXPORT (server-side cursor; must be consumed inside a transaction)
+    // ----------------------------
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.ecommerce.product.dto.ProductExportDTO(
+                p.id, p.sku, p.name, p.slug, p.description, p.shortDescription, p.price, p.discountPrice,
+                p.currency, p.stockQuantity, p.status, p.brand, p.weight, p.primaryImageUrl, p.createdAt, p.updatedAt)
+            from Product p
+            order by p.id
+            """)
+    Stream<ProductExportDTO> streamForExport();
+
+    // A separate query rather than ":updatedSince is null or ...", which the planner cannot match to the V9 index
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.ecommerce.product.dto.ProductExportDTO(
+                p.id, p.sku, p.name, p.slug, p.description, p.shortDescription, p.price, p.discountPrice,
+                p.currency, p.stockQuantity, p.status, p.brand, p.weight, p.primaryImageUrl, p.createdAt, p.updatedAt)
+            from Product p
+            where coalesce(p.updatedAt, p.createdAt) >= :updatedSince
+            order by p.id
+            """)
+    Stream<ProductExportDTO> streamForExport(@Param("updatedSince") LocalDateTime updatedSince);
+
+    // ----------------------------
+    // STOCK (conditional single-row updates, bypass the persistence context)
+    // ----------------------------
+
+    /**
+     * Take stock only if enough is left; the check and the write are one atomic statement.
+     *
+     * Striped products are never matched: their stock lives in product_stock_stripes.
+     *
+     * @return 1 if decremented, 0 if the product does not exist, is striped or has less than quantity in stock
+     */
+    @Modifying
+    @Query("""
+            update Product p
+            set p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1, p.updatedAt = :now
+            where p.id = :id and p.stockQuantity >= :quantity and p.stockStriped = false
+            """)
+    int decrementStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update Product p
+            set p.stockQuantity = p.stockQuantity + :quantity, p.version = p.version + 1, p.updatedAt = :now
+            where p.id = :id and p.stockStriped = false
+            """)
+    int incrementStock(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    @Query("select p.stockStriped from Product p where p.id = :id")
+    Optional<Boolean> findStockStripedById(@Param("id") Long id);
+
+    // Serializes switching a product between row and striped stock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Product p where p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    // Consolidated copy of striped stock; deliberately not versioned, it is derived data
+    @Modifying
+    @Query("""
+            update Product p set p.stockQuantity = :total
+            where p.id = :id and p.stockStriped = true and p.stockQuantity <> :total
+            """)
+    int updateConsolidatedStock(@Param("id") Long id, @Param("total") int total);
+
+    // Planner row estimate, a constant-cost alternative to COUNT(*) for unfiltered listings.
+    // CAST rather than ::, which the native query parser would read as a named parameter.
+    @Query(value = "SELECT CAST(GREATEST(reltuples, 0) AS bigint) FROM pg_class WHERE oid = CAST('products' AS regclass)",
+            nativeQuery = true)
+    Long estimateRowCount();
 }
 
@@ -0,0 +1,40 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.dto.ProductFacetsDTO;
+import com.ecommerce.product.dto.ProductSearchCriteria;
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.entity.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Custom repository fragment for listing products as ProductSummaryDTO projections.
+ * Only the summary columns (including the denormalized primary image URL) are selected,
+ * instead of materializing Product entities and lazily loading their images.
+ */
+public interface ProductSearchRepository {
+
+    /**
+     * Offset-paginated summaries matching the specification.
+     */
+    Page<ProductSummaryDTO> findSummaries(Specification<Product> spec, Pageable pageable);
+
+    /**
+     * First {@code limit} summaries matching the specification, without a count query.
+     */
+    List<ProductSummaryDTO> findSummaries(Specification<Product> spec, Sort sort, int limit);
+
+    /**
+     * Brand, category, status and price-range counts for the products matching the criteria,
+     * computed in one round trip over a single scan of the filtered set.
+     *
+     * @param criteria        search filters (same semantics as the listing specification)
+     * @param priceBoundaries ascending bucket boundaries for the price-range facet
+     */
+    ProductFacetsDTO findFacets(ProductSearchCriteria criteria, List<BigDecimal> priceBoundaries);
+}
@@ -0,0 +1,205 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.dto.*;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.entity.ProductStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.ecommerce.product.config.ProductSearchFunctionContributor.matchSql;
+
+/**
+ * Criteria-based implementation of ProductSearchRepository.
+ * Picked up by Spring Data through the "Impl" suffix.
+ */
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductSummaryDTO> findSummaries(Specification<Product> spec, Pageable pageable) {
+        TypedQuery<ProductSummaryDTO> query = createSummaryQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        // Skips the count when the page itself tells us the total (first/last page)
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<ProductSummaryDTO> findSummaries(Specification<Product> spec, Sort sort, int limit) {
+        return createSummaryQuery(spec, sort)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ProductFacetsDTO findFacets(ProductSearchCriteria criteria, List<BigDecimal> priceBoundaries) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = buildFacetFilter(criteria, parameters);
+
+        // Boundaries come from configuration, never from the request, so they are rendered inline
+        String thresholds = priceBoundaries.stream()
+                .map(BigDecimal::toPlainString)
+                .collect(Collectors.joining(",", "CAST(ARRAY[", "] AS numeric[])"));
+
+        // The filtered set is materialized once and every facet is grouped from it
+        String sql = """
+                WITH filtered AS MATERIALIZED (
+                    SELECT p.id, p.brand, p.status, p.price FROM products p %s
+                )
+                SELECT 'total', CAST(NULL AS text), CAST(NULL AS text), count(*) FROM filtered
+                UNION ALL
+                SELECT 'brand', brand, CAST(NULL AS text), count(*) FROM filtered WHERE brand IS NOT NULL GROUP BY brand
+                UNION ALL
+                SELECT 'status', status, CAST(NULL AS text), count(*) FROM filtered WHERE status IS NOT NULL GROUP BY status
+                UNION ALL
+                SELECT 'price', CAST(width_bucket(price, %s) AS text), CAST(NULL AS text), count(*) FROM filtered GROUP BY 2
+                UNION ALL
+                SELECT 'category', CAST(c.id AS text), c.name, count(DISTINCT f.id)
+                FROM filtered f
+                JOIN product_category pc ON pc.product_id = f.id
+                JOIN categories c ON c.id = pc.category_id
+                GROUP BY c.id, c.name
+                """.formatted(where, thresholds);
+
+        Query query = entityManager.createNativeQuery(sql);
+        parameters.forEach(query::setParameter);
+
+        ProductFacetsDTO facets = ProductFacetsDTO.builder()
+                .brands(new ArrayList<>())
+                .categories(new ArrayList<>())
+                .statuses(new ArrayList<>())
+                .priceRanges(new ArrayList<>())
+                .build();
+
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            String facet = (String) row[0];
+            String value = (String) row[1];
+            long count = ((Number) row[3]).longValue();
+
+            switch (facet) {
+                case "total" -> facets.setTotal(count);
+                case "brand" -> facets.getBrands().add(new FacetCountDTO(value, value, count));
+                case "status" -> facets.getStatuses().add(new FacetCountDTO(value, value, count));
+                case "category" -> facets.getCategories().add(new FacetCountDTO(value, (String) row[2], count));
+                case "price" -> facets.getPriceRanges().add(toPriceRange(Integer.parseInt(value), priceBoundaries, count));
+                default -> throw new IllegalStateException("Unexpected facet: " + facet);
+            }
+        }
+
+        facets.getBrands().sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+        facets.getCategories().sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+        facets.getPriceRanges().sort(Comparator.comparing(PriceRangeFacetDTO::getFrom, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return facets;
+    }
+
+    // ----------------------------
+    // QUERY BUILDING
+    // ----------------------------
+
+    // Native counterpart of the listing Specification in ProductSearchServiceImpl; keep both in sync
+    private String buildFacetFilter(ProductSearchCriteria criteria, Map<String, Object> parameters) {
+        List<String> conditions = new ArrayList<>();
+
+        if (criteria.getKeyword() != null && !criteria.getKeyword().isBlank()) {
+            conditions.add(matchSql("p.name", "p.description", ":keyword"));
+            parameters.put("keyword", criteria.getKeyword().trim());
+        }
+        if (criteria.getCategoryIds() != null && !criteria.getCategoryIds().isEmpty()) {
+            conditions.add("EXISTS (SELECT 1 FROM product_category pc WHERE pc.product_id = p.id AND pc.category_id IN (:categoryIds))");
+            parameters.put("categoryIds", criteria.getCategoryIds());
+        }
+        if (criteria.getBrand() != null && !criteria.getBrand().isBlank()) {
+            conditions.add("lower(p.brand) = :brand");
+            parameters.put("brand", criteria.getBrand().toLowerCase());
+        }
+        if (criteria.getStatus() != null && !criteria.getStatus().isBlank()) {
+            conditions.add("p.status = :status");
+            parameters.put("status", ProductStatus.valueOf(criteria.getStatus().toUpperCase()).name());
+        }
+        if (criteria.getPriceMin() != null) {
+            conditions.add("p.price >= :priceMin");
+            parameters.put("priceMin", criteria.getPriceMin());
+        }
+        if (criteria.getPriceMax() != null) {
+            conditions.add("p.price <= :priceMax");
+            parameters.put("priceMax", criteria.getPriceMax());
+        }
+
+        return conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+    }
+
+    // width_bucket: 0 is below the first boundary, n is at or above the last one
+    private PriceRangeFacetDTO toPriceRange(int bucket, List<BigDecimal> boundaries, long count) {
+        return PriceRangeFacetDTO.builder()
+                .from(bucket == 0 ? null : boundaries.get(bucket - 1))
+                .to(bucket == boundaries.size() ? null : boundaries.get(bucket))
+                .count(count)
+                .build();
+    }
+
+    private TypedQuery<ProductSummaryDTO> createSummaryQuery(Specification<Product> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummaryDTO> query = cb.createQuery(ProductSummaryDTO.class);
+        Root<Product> root = query.from(Product.class);
+
+        query.select(cb.construct(ProductSummaryDTO.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("slug"),
+                root.get("price"),
+                root.get("discountPrice"),
+                root.get("currency"),
+                root.get("brand"),
+                root.get("primaryImageUrl"),
+                root.get("createdAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        // An explicit sort wins over any ordering the specification applied (e.g. relevance)
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
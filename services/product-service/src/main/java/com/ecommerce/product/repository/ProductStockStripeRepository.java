@@ -0,0 +1,143 @@
+package com.ecommerce.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.*;
+
+/**
+ * Stock sub-rows of striped products (product_stock_stripes).
+ *
+ * A decrement locks one stripe only, and SKIP LOCKED moves it on to another stripe when its first
+ * choice is busy, so concurrent buyers of the same product rarely wait for each other.
+ * Stripes are numbered 0..N-1 without gaps.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductStockStripeRepository {
+
+    /**
+     * Quantity held by one stripe.
+     */
+    public record Stripe(int stripe, int quantity) {
+    }
+
+    private static final String TAKE_FROM_ONE_STRIPE = """
+            WITH s AS (
+                SELECT stripe FROM product_stock_stripes
+                WHERE product_id = ? AND quantity >= ?
+                ORDER BY random()
+                LIMIT 1
+                FOR UPDATE SKIP LOCKED
+            )
+            UPDATE product_stock_stripes t SET quantity = t.quantity - ?
+            FROM s WHERE t.product_id = ? AND t.stripe = s.stripe
+            """;
+
+    private static final String ADD_TO_RANDOM_STRIPE = """
+            UPDATE product_stock_stripes SET quantity = quantity + ?
+            WHERE product_id = ?
+              AND stripe = (SELECT CAST(floor(random() * count(*)) AS integer) FROM product_stock_stripes WHERE product_id = ?)
+            """;
+
+    // Spread products.stock_quantity evenly over the existing stripes (the first stripes take the remainder)
+    private static final String DISTRIBUTE = """
+            UPDATE product_stock_stripes s
+            SET quantity = p.stock_quantity / c.stripes + CASE WHEN s.stripe < p.stock_quantity % c.stripes THEN 1 ELSE 0 END
+            FROM products p,
+                 (SELECT product_id, count(*) AS stripes FROM product_stock_stripes
+                  WHERE product_id = ANY(?) GROUP BY product_id) c
+            WHERE p.id = s.product_id AND c.product_id = s.product_id AND p.stock_striped
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Take quantity from a single stripe that has enough and is not locked by another transaction.
+     *
+     * @return false if no such stripe exists right now (the caller may fall back to {@link #lockStripes})
+     */
+    public boolean takeFromOneStripe(long productId, int quantity) {
+        return jdbcTemplate.update(TAKE_FROM_ONE_STRIPE, productId, quantity, quantity, productId) == 1;
+    }
+
+    /**
+     * @return false if the product has no stripes (striping was switched off or is being rebuilt)
+     */
+    public boolean addToRandomStripe(long productId, int quantity) {
+        return jdbcTemplate.update(ADD_TO_RANDOM_STRIPE, quantity, productId, productId) == 1;
+    }
+
+    public List<Stripe> findStripes(long productId) {
+        return jdbcTemplate.query(
+                "SELECT stripe, quantity FROM product_stock_stripes WHERE product_id = ? ORDER BY stripe",
+                (rs, rowNum) -> new Stripe(rs.getInt("stripe"), rs.getInt("quantity")),
+                productId);
+    }
+
+    /**
+     * Lock all stripes of a product, in stripe order, for a multi-stripe change.
+     */
+    public List<Stripe> lockStripes(long productId) {
+        return jdbcTemplate.query(
+                "SELECT stripe, quantity FROM product_stock_stripes WHERE product_id = ? ORDER BY stripe FOR UPDATE",
+                (rs, rowNum) -> new Stripe(rs.getInt("stripe"), rs.getInt("quantity")),
+                productId);
+    }
+
+    public void updateQuantities(long productId, List<Stripe> stripes) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE product_stock_stripes SET quantity = ? WHERE product_id = ? AND stripe = ?",
+                stripes.stream().map(s -> new Object[]{s.quantity(), productId, s.stripe()}).toList());
+    }
+
+    public void createStripes(long productId, List<Stripe> stripes) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO product_stock_stripes (product_id, stripe, quantity) VALUES (?, ?, ?)",
+                stripes.stream().map(s -> new Object[]{productId, s.stripe(), s.quantity()}).toList());
+    }
+
+    public void deleteStripes(long productId) {
+        jdbcTemplate.update("DELETE FROM product_stock_stripes WHERE product_id = ?", productId);
+    }
+
+    /**
+     * Reset the stripes of the given products (non-striped ones are ignored) from products.stock_quantity,
+     * after that column was set directly.
+     */
+    public void distribute(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DISTRIBUTE);
+            statement.setArray(1, connection.createArrayOf("bigint", productIds.toArray()));
+            return statement;
+        });
+    }
+
+    public List<Long> findStripedProductIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM products WHERE stock_striped ORDER BY id", Long.class);
+    }
+
+    /**
+     * Live stock (sum of stripes for striped products) from the product_stock view.
+     */
+    public Map<Long, Integer> findCurrentStock(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        List<Map.Entry<Long, Integer>> rows = jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT product_id, stock_quantity FROM product_stock WHERE product_id = ANY(?)");
+            statement.setArray(1, connection.createArrayOf("bigint", productIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> Map.entry(rs.getLong("product_id"), rs.getInt("stock_quantity")));
+
+        Map<Long, Integer> stock = new HashMap<>();
+        rows.forEach(row -> stock.put(row.getKey(), row.getValue()));
+        return stock;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.StockReservation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    @EntityGraph(attributePaths = "items")
+    Optional<StockReservation> findByReference(String reference);
+
+    // Serializes confirm / release / expiry of one reservation
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from StockReservation r where r.reference = :reference")
+    Optional<StockReservation> findByReferenceForUpdate(@Param("reference") String reference);
+
+    // Due reservations; rows locked by a concurrent confirm/release or another instance are skipped
+    @Query(value = """
+            SELECT id FROM stock_reservations
+            WHERE status = 'RESERVED' AND expires_at <= :now
+            ORDER BY expires_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @EntityGraph(attributePaths = "items")
+    List<StockReservation> findAllByIdIn(List<Long> ids);
+}
@@ -1,6 +1,7 @@
 package com.ecommerce.product.service;
 
 import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.CategoryTreeNodeDTO;
 
 import java.util.List;
 
@@ -49,6 +50,21 @@ public interface CategoryService {
      */
     List<CategoryDTO> getSubcategories(Long parentId);
 
+    /**
+     * Retrieve the whole category hierarchy as nested nodes.
+     * Served from an in-memory snapshot that is rebuilt whenever the hierarchy changes.
+     */
+    List<CategoryTreeNodeDTO> getCategoryTree();
+
+    /**
+     * Retrieve a category together with all of its descendants.
+     *
+     * @param id root category of the subtree
+     * @return the subtree
+     * @throws com.ecommerce.product.exception.NotFoundException if not found
+     */
+    CategoryTreeNodeDTO getCategorySubtree(Long id);
+
     /**
      * Update a category by ID.
      *
@@ -2,6 +2,8 @@ package com.ecommerce.product.service;
 
 import com.ecommerce.product.event.ProductEvent;
 
+import java.util.List;
+
 /**
  * EventPublisherService
  *
@@ -12,8 +14,18 @@ public interface EventPublisherService {
 
     /**
      * Publish a product domain event (create, update, delete, etc.).
+     * Must be called inside the transaction that makes the change, so the event is stored atomically with it.
      *
      * @param event product event object
      */
     void publishProductEvent(ProductEvent event);
+
+    /**
+     * Publish many events written by one batch operation, with a constant number of statements
+     * instead of a few per event. Events published this way are never coalesced.
+     * Must be called inside the transaction that makes the change.
+     *
+     * @param events product event objects
+     */
+    void publishProductEvents(List<ProductEvent> events);
 }
@@ -0,0 +1,20 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.event.OrderEvent;
+
+/**
+ * OrderStockSagaService
+ *
+ * Stock side of the order placement saga. The reservation of an order uses the reference "order-{orderId}":
+ *
+ *   ORDER_PLACED    -> reserve all items, reply STOCK_RESERVED or STOCK_REJECTED
+ *   ORDER_CONFIRMED -> confirm the reservation (the stock is sold); an expired reservation takes its stock
+ *                      again, or replies STOCK_EXPIRED when the stock is gone
+ *   ORDER_CANCELLED -> release the reservation, if there is one
+ *
+ * Events may be delivered more than once; each step is idempotent through the reservation reference.
+ */
+public interface OrderStockSagaService {
+
+    void handleOrderEvent(OrderEvent event);
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.product.service;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * ProductExportService
+ *
+ * Writes the catalog as NDJSON for search-engine and feed partners.
+ */
+public interface ProductExportService {
+
+    /**
+     * Stream products, ordered by ID, to the given output as one JSON object per line.
+     *
+     * @param updatedSince only products created or updated at/after this instant; null exports everything
+     * @param output       destination, written incrementally
+     * @return number of exported products
+     */
+    long exportProducts(LocalDateTime updatedSince, OutputStream output);
+}
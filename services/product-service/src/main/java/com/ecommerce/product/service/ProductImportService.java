@@ -0,0 +1,47 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductImportJobDTO;
+import com.ecommerce.product.entity.ProductImportFormat;
+
+import java.io.InputStream;
+
+/**
+ * ProductImportService
+ *
+ * Streams large supplier feeds (CSV or NDJSON) into the catalog in JDBC batches,
+ * with progress tracking and resumable checkpoints.
+ */
+public interface ProductImportService {
+
+    /**
+     * Create an import job for a feed that has not been sent yet. Clients poll progress and resume
+     * uploads with its ID, so they hold it before the first record is read.
+     *
+     * @param format format of the feed that will be uploaded
+     * @return the new PENDING job
+     */
+    ProductImportJobDTO createImportJob(ProductImportFormat format);
+
+    /**
+     * Import products from the given input into an existing job, committing one batch at a time.
+     *
+     * Records whose SKU already exists are skipped, so re-sending a feed is safe.
+     * The first processedRecords records of the input are skipped and counting continues on the job,
+     * so sending the same feed again after a failure resumes after the last checkpoint.
+     *
+     * @param jobId  job created by createImportJob
+     * @param input  raw CSV or NDJSON body
+     * @param format input format, must match the job's
+     * @return final state of the job (COMPLETED, or FAILED with the last error)
+     * @throws com.ecommerce.product.exception.NotFoundException if the job does not exist
+     * @throws com.ecommerce.product.exception.BadRequestException if the job is completed or has another format
+     */
+    ProductImportJobDTO importProducts(Long jobId, InputStream input, ProductImportFormat format);
+
+    /**
+     * Current progress of an import job.
+     *
+     * @throws com.ecommerce.product.exception.NotFoundException if not found
+     */
+    ProductImportJobDTO getImportJob(Long id);
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductLookupRequest;
+import com.ecommerce.product.dto.ProductLookupResponse;
+
+/**
+ * ProductLookupService
+ *
+ * Bulk price/availability reads for other services (e.g. order-service pricing a cart),
+ * so a cart of N products costs one request and one query instead of N detail loads.
+ */
+public interface ProductLookupService {
+
+    /**
+     * Look up products by ID and/or SKU.
+     *
+     * @param request validated ProductLookupRequest DTO
+     * @return the products found, and the IDs and SKUs that do not exist
+     * @throws com.ecommerce.product.exception.BadRequestException if neither IDs nor SKUs are given
+     */
+    ProductLookupResponse lookup(ProductLookupRequest request);
+}
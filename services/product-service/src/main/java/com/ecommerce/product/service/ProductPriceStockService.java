@@ -0,0 +1,56 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.BatchUpdateResultDTO;
+import com.ecommerce.product.dto.PriceStockDTO;
+import com.ecommerce.product.dto.PriceUpdateRequest;
+import com.ecommerce.product.dto.StockUpdateRequest;
+
+import java.util.List;
+
+/**
+ * ProductPriceStockService
+ *
+ * Fast path for the two most frequent writes, price and stock changes.
+ * Each call is a single UPDATE statement and emits PRODUCT_PRICE_CHANGED / PRODUCT_STOCK_CHANGED events
+ * carrying only the changed fields, instead of going through the full product update.
+ */
+public interface ProductPriceStockService {
+
+    /**
+     * Set price and discount price of one product.
+     *
+     * @param id product ID
+     * @param request validated PriceUpdateRequest (SKU is ignored)
+     * @return resulting price and stock
+     * @throws com.ecommerce.product.exception.NotFoundException if not found
+     */
+    PriceStockDTO updatePrice(Long id, PriceUpdateRequest request);
+
+    /**
+     * Set the stock level of one product.
+     *
+     * @param id product ID
+     * @param request validated StockUpdateRequest (SKU is ignored)
+     * @return resulting price and stock
+     * @throws com.ecommerce.product.exception.NotFoundException if not found
+     */
+    PriceStockDTO updateStock(Long id, StockUpdateRequest request);
+
+    /**
+     * Set prices of many products, identified by SKU, in one statement.
+     * If a SKU is listed more than once, its last entry wins.
+     *
+     * @param items validated updates, each with a SKU
+     * @return counts of changed and unchanged products, and the SKUs that do not exist
+     */
+    BatchUpdateResultDTO updatePrices(List<PriceUpdateRequest> items);
+
+    /**
+     * Set stock levels of many products, identified by SKU, in one statement.
+     * If a SKU is listed more than once, its last entry wins.
+     *
+     * @param items validated updates, each with a SKU
+     * @return counts of changed and unchanged products, and the SKUs that do not exist
+     */
+    BatchUpdateResultDTO updateStock(List<StockUpdateRequest> items);
+}
@@ -1,8 +1,12 @@
 package com.ecommerce.product.service;
 
+import com.ecommerce.product.dto.CountMode;
+import com.ecommerce.product.dto.CursorPage;
+import com.ecommerce.product.dto.ProductFacetsDTO;
 import com.ecommerce.product.dto.ProductSummaryDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 
@@ -17,13 +21,14 @@ public interface ProductSearchService {
     /**
      * Search products with optional filters.
      *
-     * @param keyword search text (matches name or description)
-     * @param categoryId filter by category
+     * @param keyword search text, matched against name and description through the full-text index
+     *                (web-search syntax: quoted phrases, OR, -exclusion)
+     * @param categoryId filter by category, including all of its subcategories
      * @param brand filter by brand
      * @param status product status (ACTIVE, INACTIVE, etc.)
      * @param priceMin minimum price
      * @param priceMax maximum price
-     * @param pageable pagination + sorting info
+     * @param pageable pagination + sorting info; when unsorted, keyword results are ordered by relevance
      * @return paginated list of ProductSummaryDTO
      */
     Page<ProductSummaryDTO> searchProducts(
@@ -35,4 +40,44 @@ public interface ProductSearchService {
             BigDecimal priceMax,
             Pageable pageable
     );
+
+    /**
+     * Search products with keyset (seek) pagination.
+     * Cost per page is constant regardless of depth: rows are located by the last seen (sort key, id)
+     * instead of an OFFSET, and no COUNT(*) runs unless requested.
+     *
+     * @param cursor    opaque token from the previous page's nextCursor (null for the first page)
+     * @param size      page size
+     * @param order     sort key and direction (id, createdAt, price or name)
+     * @param countMode whether and how to report the total number of matches
+     * @return page of ProductSummaryDTO with the cursor for the next page
+     * @throws com.ecommerce.product.exception.BadRequestException if the cursor is invalid or was issued for another sort
+     */
+    CursorPage<ProductSummaryDTO> scrollProducts(
+            String keyword,
+            Long categoryId,
+            String brand,
+            String status,
+            BigDecimal priceMin,
+            BigDecimal priceMax,
+            String cursor,
+            int size,
+            Sort.Order order,
+            CountMode countMode
+    );
+
+    /**
+     * Facet counts (brand, category, status, price range) for the same filters as searchProducts,
+     * computed in a single database round trip.
+     *
+     * @return total number of matches plus the count per facet value
+     */
+    ProductFacetsDTO getFacets(
+            String keyword,
+            Long categoryId,
+            String brand,
+            String status,
+            BigDecimal priceMin,
+            BigDecimal priceMax
+    );
 }
@@ -1,5 +1,6 @@
 package com.ecommerce.product.service;
 
+import com.ecommerce.product.dto.ProductPatchRequest;
 import com.ecommerce.product.dto.ProductRequest;
 import com.ecommerce.product.dto.ProductResponse;
 import com.ecommerce.product.dto.ProductSummaryDTO;
@@ -56,6 +57,19 @@ public interface ProductService {
      */
     ProductResponse updateProduct(Long id, ProductRequest request);
 
+    /**
+     * Partially update a product (PATCH semantics).
+     * Null fields are left untouched; child collections that are present are reconciled in place,
+     * so unchanged images, attributes and category links are not rewritten.
+     *
+     * @param id product ID
+     * @param request validated ProductPatchRequest DTO
+     * @return updated ProductResponse
+     * @throws com.ecommerce.product.exception.NotFoundException if the product or a category is not found
+     * @throws com.ecommerce.product.exception.BadRequestException if an image ID does not belong to the product
+     */
+    ProductResponse patchProduct(Long id, ProductPatchRequest request);
+
     /**
      * Delete a product by ID.
      *
@@ -0,0 +1,62 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.StockStripingDTO;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * ProductStockService
+ *
+ * Single entry point for taking and returning stock, whether a product keeps it in its own row
+ * or, for hot SKUs, in several stripes (see product_stock_stripes).
+ */
+public interface ProductStockService {
+
+    /**
+     * Atomically take quantity, never below zero. Must run inside the caller's transaction.
+     *
+     * @throws com.ecommerce.product.exception.InsufficientStockException if less than quantity is left
+     * @throws com.ecommerce.product.exception.NotFoundException if the product does not exist
+     */
+    void take(Long productId, int quantity, LocalDateTime now);
+
+    /**
+     * Put quantity back (released or expired reservation). Must run inside the caller's transaction.
+     */
+    void giveBack(Long productId, int quantity, LocalDateTime now);
+
+    /**
+     * Live stock: the stripe total for striped products, the row value otherwise.
+     * Products that do not exist are absent from the result.
+     */
+    Map<Long, Integer> getCurrentStock(Collection<Long> productIds);
+
+    /**
+     * Reset the stripes of striped products after products.stock_quantity was set directly
+     * (full update or stock fast path). Other products are ignored.
+     */
+    void distribute(Collection<Long> productIds);
+
+    StockStripingDTO getStriping(Long productId);
+
+    /**
+     * Split the product's stock across the given number of stripes (or re-split an already striped product).
+     *
+     * @throws com.ecommerce.product.exception.NotFoundException if the product does not exist
+     */
+    StockStripingDTO enableStriping(Long productId, int stripes);
+
+    /**
+     * Fold the stripes back into the product row.
+     *
+     * @throws com.ecommerce.product.exception.NotFoundException if the product does not exist
+     */
+    StockStripingDTO disableStriping(Long productId);
+
+    /**
+     * Even out the stripes of a striped product and write the total back to products.stock_quantity.
+     */
+    void rebalance(Long productId);
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.StockReservationDTO;
+import com.ecommerce.product.dto.StockReservationRequest;
+
+/**
+ * StockReservationService
+ *
+ * Holds stock for pending orders without overselling. Every item is taken with a conditional
+ * decrement (stock_quantity >= quantity), and a reservation either holds all of its items or none.
+ * Unconfirmed reservations give their stock back when their TTL runs out.
+ */
+public interface StockReservationService {
+
+    /**
+     * Reserve stock for all items. Reserving again with the same reference returns the existing reservation.
+     *
+     * @param request validated StockReservationRequest DTO
+     * @return the reservation
+     * @throws com.ecommerce.product.exception.InsufficientStockException if any item is short (nothing is reserved)
+     * @throws com.ecommerce.product.exception.NotFoundException if a product does not exist
+     */
+    StockReservationDTO reserve(StockReservationRequest request);
+
+    /**
+     * Get a reservation by its reference.
+     *
+     * @throws com.ecommerce.product.exception.NotFoundException if not found
+     */
+    StockReservationDTO getReservation(String reference);
+
+    /**
+     * Turn a reservation into a sale: the held stock is kept. Idempotent.
+     *
+     * @throws com.ecommerce.product.exception.BadRequestException if the reservation was released or has expired
+     */
+    StockReservationDTO confirm(String reference);
+
+    /**
+     * Confirm the reservation of an order that has already been accepted. Unlike confirm, an expired
+     * reservation takes its stock again instead of failing. Idempotent.
+     *
+     * @throws com.ecommerce.product.exception.InsufficientStockException if the stock of an expired reservation
+     *         is gone (nothing is taken)
+     * @throws com.ecommerce.product.exception.BadRequestException if the reservation was released
+     */
+    StockReservationDTO confirmOrRetake(String reference);
+
+    /**
+     * Cancel a reservation and return its stock. Idempotent.
+     *
+     * @throws com.ecommerce.product.exception.BadRequestException if the reservation was already confirmed
+     */
+    StockReservationDTO release(String reference);
+
+    /**
+     * Return the stock of up to limit reservations whose TTL has run out.
+     *
+     * @return number of expired reservations
+     */
+    int expireReservations(int limit);
+}
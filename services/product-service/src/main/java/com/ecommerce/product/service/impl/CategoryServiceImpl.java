@@ -1,9 +1,13 @@
 package com.ecommerce.product.service.impl;
 
+import com.ecommerce.product.cache.CategoryTreeCache;
 import com.ecommerce.product.dto.CategoryDTO;
+import com.ecommerce.product.dto.CategoryTreeNodeDTO;
 import com.ecommerce.product.entity.Category;
+import com.ecommerce.product.exception.BadRequestException;
 import com.ecommerce.product.exception.NotFoundException;
 import com.ecommerce.product.mapper.CategoryMapper;
+import com.ecommerce.product.repository.CategoryClosureRepository;
 import com.ecommerce.product.repository.CategoryRepository;
 import com.ecommerce.product.service.CategoryService;
 import lombok.RequiredArgsConstructor;
@@ -13,11 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of CategoryService.
  * Handles CRUD operations and category hierarchy logic.
+ * Every hierarchy change also maintains the category_closure table and refreshes the in-memory tree.
  */
 @Service
 @RequiredArgsConstructor
@@ -27,6 +33,8 @@ public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CategoryClosureRepository categoryClosureRepository;
+    private final CategoryTreeCache categoryTreeCache;
 
     // ---------------------------------
     // CREATE CATEGORY
@@ -47,7 +55,9 @@ public class CategoryServiceImpl implements CategoryService {
         category.setCreatedAt(LocalDateTime.now());
         category.setUpdatedAt(LocalDateTime.now());
 
-        Category saved = categoryRepository.save(category);
+        Category saved = categoryRepository.saveAndFlush(category);
+        categoryClosureRepository.insertPaths(saved.getId(), dto.getParentId());
+        categoryTreeCache.refreshAfterCommit();
         log.info("Category created successfully: id={}, name={}", saved.getId(), saved.getName());
 
         return categoryMapper.toCategoryDTO(saved);
@@ -104,6 +114,22 @@ public class CategoryServiceImpl implements CategoryService {
                 .collect(Collectors.toList());
     }
 
+    // ---------------------------------
+    // GET CATEGORY TREE (in-memory snapshot)
+    // ---------------------------------
+    @Override
+    @Transactional(readOnly = true)
+    public List<CategoryTreeNodeDTO> getCategoryTree() {
+        return categoryTreeCache.get().getRoots();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CategoryTreeNodeDTO getCategorySubtree(Long id) {
+        return categoryTreeCache.get().getNode(id)
+                .orElseThrow(() -> new NotFoundException("Category not found with ID: " + id));
+    }
+
     // ---------------------------------
     // UPDATE CATEGORY
     // ---------------------------------
@@ -114,12 +140,18 @@ public class CategoryServiceImpl implements CategoryService {
         Category existing = categoryRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Category not found with ID: " + id));
 
+        Long previousParentId = existing.getParent() != null ? existing.getParent().getId() : null;
+
         existing.setName(dto.getName());
         existing.setSlug(dto.getSlug());
         existing.setDescription(dto.getDescription());
         existing.setUpdatedAt(LocalDateTime.now());
 
         if (dto.getParentId() != null) {
+            // The closure table tells us in one lookup whether the new parent sits inside this subtree
+            if (categoryClosureRepository.existsByIdAncestorIdAndIdDescendantId(id, dto.getParentId())) {
+                throw new BadRequestException("A category cannot be moved under itself or one of its subcategories.");
+            }
             Category parent = categoryRepository.findById(dto.getParentId())
                     .orElseThrow(() -> new NotFoundException("Parent category not found with ID: " + dto.getParentId()));
             existing.setParent(parent);
@@ -128,6 +160,15 @@ public class CategoryServiceImpl implements CategoryService {
         }
 
         Category updated = categoryRepository.save(existing);
+
+        // Move the whole subtree in the closure table when the parent changed
+        if (!Objects.equals(previousParentId, dto.getParentId())) {
+            categoryClosureRepository.detachSubtree(id);
+            if (dto.getParentId() != null) {
+                categoryClosureRepository.attachSubtree(id, dto.getParentId());
+            }
+        }
+        categoryTreeCache.refreshAfterCommit();
         log.info("Category updated successfully: id={}", updated.getId());
 
         return categoryMapper.toCategoryDTO(updated);
@@ -147,7 +188,9 @@ public class CategoryServiceImpl implements CategoryService {
             category.getSubcategories().forEach(sub -> sub.setParent(null));
         }
 
+        categoryClosureRepository.removeNode(id);
         categoryRepository.delete(category);
+        categoryTreeCache.refreshAfterCommit();
     }
 
     // ---------------------------------
@@ -1,18 +1,39 @@
 package com.ecommerce.product.service.impl;
 
+import com.ecommerce.product.entity.OutboxEvent;
+import com.ecommerce.product.event.ProductChangeTracker;
 import com.ecommerce.product.event.ProductEvent;
+import com.ecommerce.product.repository.OutboxEventRepository;
 import com.ecommerce.product.service.EventPublisherService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Implementation of EventPublisherService.
  * Publishes product-related domain events.
  *
- * This implementation uses Spring’s ApplicationEventPublisher,
- * but can be extended later for Kafka or RabbitMQ integration.
+ * Events are written to the outbox table inside the caller's transaction (relayed to Kafka by OutboxRelay),
+ * and published in-process for local listeners, which run once the transaction has committed.
+ *
+ * Coalescing: a PRODUCT_UPDATED event (payload = field-level diff) is held in the outbox for
+ * product.outbox.coalesce-window-ms. Further updates of the same product inside that window are merged into
+ * the pending row instead of adding rows, so a burst of edits reaches Kafka as one event with one combined diff.
  */
 @Service
 @RequiredArgsConstructor
@@ -20,22 +41,139 @@ import org.springframework.stereotype.Service;
 public class EventPublisherServiceImpl implements EventPublisherService {
 
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ProductChangeTracker productChangeTracker;
+
+    private static final Set<String> COALESCED_EVENT_TYPES = Set.of("PRODUCT_UPDATED");
+
+    @Value("${product.outbox.topic:product-events}")
+    private String topic;
+
+    // 0 disables coalescing
+    @Value("${product.outbox.coalesce-window-ms:2000}")
+    private long coalesceWindowMs;
 
     @Override
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishProductEvent(ProductEvent event) {
         if (event == null) {
             log.warn("Attempted to publish a null event.");
             return;
         }
 
-        event.setTimestamp(java.time.LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        event.setTimestamp(now);
         log.info("Publishing event: type={}, productId={}, source={}",
                 event.getEventType(), event.getProductId(), event.getSource());
 
+        // Failures here roll back the product change: there is no change without its event
+        if (isCoalesced(event)) {
+            coalesce(event, (ObjectNode) event.getPayload(), now);
+        } else {
+            // Nothing may overtake an update still waiting in its window (e.g. a delete right after an edit)
+            if (event.getProductId() != null) {
+                outboxEventRepository.releasePending(topic, event.getProductId(), now);
+            }
+            outboxEventRepository.save(toOutboxEvent(event, now));
+        }
+
+        eventPublisher.publishEvent(event);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishProductEvents(List<ProductEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        events.forEach(event -> event.setTimestamp(now));
+        log.info("Publishing {} events: type={}", events.size(), events.get(0).getEventType());
+
+        List<Long> productIds = events.stream()
+                .map(ProductEvent::getProductId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (!productIds.isEmpty()) {
+            outboxEventRepository.releasePending(topic, productIds, now);
+        }
+        // Pooled IDs + JDBC batching: one insert statement per hibernate.jdbc.batch_size rows
+        outboxEventRepository.saveAll(events.stream().map(event -> toOutboxEvent(event, now)).toList());
+
+        events.forEach(eventPublisher::publishEvent);
+    }
+
+    // ----------------------------
+    // COALESCING
+    // ----------------------------
+    private boolean isCoalesced(ProductEvent event) {
+        return coalesceWindowMs > 0
+                && event.getProductId() != null
+                && COALESCED_EVENT_TYPES.contains(event.getEventType())
+                && event.getPayload() instanceof ObjectNode;
+    }
+
+    private void coalesce(ProductEvent event, ObjectNode changes, LocalDateTime now) {
+        Optional<OutboxEvent> pending = outboxEventRepository
+                .findCoalescable(topic, event.getProductId(), event.getEventType(), now)
+                .stream()
+                .findFirst();
+
+        if (pending.isEmpty()) {
+            if (!changes.isEmpty()) {
+                outboxEventRepository.save(toOutboxEvent(event, now.plus(Duration.ofMillis(coalesceWindowMs))));
+            }
+            return;
+        }
+
+        // The window is fixed at the first update, so a steady stream of edits still goes out regularly
+        OutboxEvent row = pending.get();
+        ObjectNode merged = productChangeTracker.merge(readPayload(row), changes);
+        if (merged.isEmpty()) {
+            log.debug("Coalesced updates of product ID={} cancel out, dropping pending event", event.getProductId());
+            outboxEventRepository.delete(row);
+            return;
+        }
+
+        ProductEvent combined = ProductEvent.builder()
+                .productId(event.getProductId())
+                .eventType(event.getEventType())
+                .source(event.getSource())
+                .payload(merged)
+                .timestamp(event.getTimestamp())
+                .build();
+        row.setPayload(toJson(combined));
+        log.debug("Coalesced {} for product ID={} into outbox event {}", event.getEventType(), event.getProductId(), row.getId());
+    }
+
+    private JsonNode readPayload(OutboxEvent row) {
+        try {
+            return objectMapper.readTree(row.getPayload()).get("payload");
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable outbox event " + row.getId(), ex);
+        }
+    }
+
+    private OutboxEvent toOutboxEvent(ProductEvent event, LocalDateTime availableAt) {
+        return OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(event.getProductId() != null ? event.getProductId().toString() : null)
+                .eventType(event.getEventType())
+                .aggregateId(event.getProductId())
+                .payload(toJson(event))
+                .createdAt(event.getTimestamp())
+                .availableAt(availableAt)
+                .build();
+    }
+
+    private String toJson(ProductEvent event) {
         try {
-            eventPublisher.publishEvent(event);
-        } catch (Exception ex) {
-            log.error("Failed to publish product event: {}", ex.getMessage(), ex);
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize product event " + event.getEventType(), ex);
         }
     }
 }
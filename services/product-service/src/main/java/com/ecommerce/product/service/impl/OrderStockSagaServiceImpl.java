@@ -0,0 +1,184 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.dto.StockReservationDTO;
+import com.ecommerce.product.dto.StockReservationRequest;
+import com.ecommerce.product.entity.OutboxEvent;
+import com.ecommerce.product.entity.StockReservationStatus;
+import com.ecommerce.product.event.OrderEvent;
+import com.ecommerce.product.event.StockEvent;
+import com.ecommerce.product.exception.BadRequestException;
+import com.ecommerce.product.exception.InsufficientStockException;
+import com.ecommerce.product.exception.NotFoundException;
+import com.ecommerce.product.repository.OutboxEventRepository;
+import com.ecommerce.product.service.OrderStockSagaService;
+import com.ecommerce.product.service.StockReservationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of OrderStockSagaService.
+ *
+ * A successful reservation and its STOCK_RESERVED reply are written in one transaction (reply via the outbox).
+ * A failed reservation rolls back completely, and STOCK_REJECTED is then written in a transaction of its own.
+ *
+ * Saga reservations live for product.saga.reservation-ttl-seconds, far longer than order-service waits for
+ * a reply. Should ORDER_CONFIRMED still arrive after the reservation expired, its stock is taken again;
+ * if that is no longer possible, STOCK_EXPIRED tells order-service to cancel the order.
+ *
+ * Metrics:
+ *   product.saga.steps         order events handled, tagged by step and outcome; the rate is the per-step throughput
+ *   product.saga.step.latency  from the moment order-service published the event to its handling here, tagged by step
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStockSagaServiceImpl implements OrderStockSagaService {
+
+    private static final String REFERENCE_PREFIX = "order-";
+
+    private final StockReservationService stockReservationService;
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.saga.stock-events-topic:stock-events}")
+    private String stockEventsTopic;
+
+    // Must outlive order-service's order.saga.stock-timeout-ms by a wide margin
+    @Value("${product.saga.reservation-ttl-seconds:3600}")
+    private long reservationTtlSeconds;
+
+    @Override
+    public void handleOrderEvent(OrderEvent event) {
+        String step = event.getEventType().toLowerCase();
+        if (event.getTimestamp() != null) {
+            Duration latency = Duration.between(event.getTimestamp(), LocalDateTime.now());
+            meterRegistry.timer("product.saga.step.latency", "step", step).record(latency.isNegative() ? Duration.ZERO : latency);
+        }
+
+        String outcome = switch (event.getEventType()) {
+            case OrderEvent.ORDER_PLACED -> reserve(event);
+            case OrderEvent.ORDER_CONFIRMED -> confirm(event);
+            case OrderEvent.ORDER_CANCELLED -> release(event);
+            default -> "ignored";
+        };
+        meterRegistry.counter("product.saga.steps", "step", step, "outcome", outcome).increment();
+    }
+
+    // ----------------------------
+    // ORDER_PLACED
+    // ----------------------------
+    private String reserve(OrderEvent event) {
+        StockReservationRequest request = StockReservationRequest.builder()
+                .reference(reference(event))
+                .items(event.getItems())
+                .ttlSeconds(reservationTtlSeconds)
+                .build();
+        if (request.getItems() == null || request.getItems().isEmpty()) {
+            return reject(event, null, "Order has no items.");
+        }
+
+        try {
+            String outcome = transactionTemplate.execute(status -> {
+                StockReservationDTO reservation = stockReservationService.reserve(request);
+                // A redelivered ORDER_PLACED finds the reservation of the first delivery, possibly released by now
+                if (reservation.getStatus() == StockReservationStatus.RELEASED
+                        || reservation.getStatus() == StockReservationStatus.EXPIRED) {
+                    return null;
+                }
+                reply(event, StockEvent.STOCK_RESERVED, null, null);
+                return "reserved";
+            });
+            return outcome != null ? outcome : reject(event, null, "Stock reservation was already released.");
+        } catch (InsufficientStockException ex) {
+            return reject(event, ex.getProductId(), ex.getMessage());
+        } catch (NotFoundException | BadRequestException ex) {
+            return reject(event, null, ex.getMessage());
+        }
+    }
+
+    private String reject(OrderEvent event, Long productId, String reason) {
+        transactionTemplate.executeWithoutResult(status -> reply(event, StockEvent.STOCK_REJECTED, productId, reason));
+        log.info("Rejected stock for order ID={}: {}", event.getOrderId(), reason);
+        return "rejected";
+    }
+
+    // ----------------------------
+    // ORDER_CONFIRMED / ORDER_CANCELLED
+    // ----------------------------
+    private String confirm(OrderEvent event) {
+        try {
+            stockReservationService.confirmOrRetake(reference(event));
+            return "confirmed";
+        } catch (InsufficientStockException ex) {
+            // Compensation: the reservation expired and its stock has been sold since, the order must be cancelled
+            transactionTemplate.executeWithoutResult(status ->
+                    reply(event, StockEvent.STOCK_EXPIRED, ex.getProductId(), "Stock reservation expired: " + ex.getMessage()));
+            log.warn("Stock of confirmed order ID={} expired and is gone: {}", event.getOrderId(), ex.getMessage());
+            return "expired";
+        } catch (NotFoundException | BadRequestException ex) {
+            log.error("Could not confirm stock of confirmed order ID={}: {}", event.getOrderId(), ex.getMessage());
+            return "failed";
+        }
+    }
+
+    private String release(OrderEvent event) {
+        try {
+            stockReservationService.release(reference(event));
+            return "released";
+        } catch (NotFoundException ex) {
+            // Cancelled before any stock was reserved (rejected, or ORDER_PLACED not handled yet)
+            return "nothing_reserved";
+        } catch (BadRequestException ex) {
+            log.warn("Could not release stock of cancelled order ID={}: {}", event.getOrderId(), ex.getMessage());
+            return "failed";
+        }
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private static String reference(OrderEvent event) {
+        return REFERENCE_PREFIX + event.getOrderId();
+    }
+
+    private void reply(OrderEvent event, String eventType, Long productId, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        StockEvent reply = StockEvent.builder()
+                .orderId(event.getOrderId())
+                .eventType(eventType)
+                .source("product-service")
+                .productId(productId)
+                .reason(reason)
+                .orderCreatedAt(event.getCreatedAt())
+                .timestamp(now)
+                .build();
+        outboxEventRepository.save(OutboxEvent.builder()
+                .topic(stockEventsTopic)
+                .messageKey(event.getOrderId().toString())
+                .eventType(eventType)
+                .aggregateId(event.getOrderId())
+                .payload(toJson(reply))
+                .createdAt(now)
+                .availableAt(now)
+                .build());
+    }
+
+    private String toJson(StockEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize stock event " + event.getEventType(), ex);
+        }
+    }
+}
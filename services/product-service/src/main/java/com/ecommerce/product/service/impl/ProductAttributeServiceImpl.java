@@ -1,5 +1,6 @@
 package com.ecommerce.product.service.impl;
 
+import com.ecommerce.product.cache.ProductResponseCache;
 import com.ecommerce.product.dto.ProductAttributeDTO;
 import com.ecommerce.product.entity.Product;
 import com.ecommerce.product.entity.ProductAttribute;
@@ -29,6 +30,7 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
     private final ProductRepository productRepository;
     private final ProductAttributeRepository productAttributeRepository;
     private final ProductAttributeMapper productAttributeMapper;
+    private final ProductResponseCache productResponseCache;
 
     // ---------------------------------
     // ADD ATTRIBUTES TO PRODUCT
@@ -46,6 +48,7 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
                 .collect(Collectors.toList());
 
         List<ProductAttribute> saved = productAttributeRepository.saveAll(attributeEntities);
+        productResponseCache.evictAfterCommit(List.of(productId));
 
         log.info("Successfully added {} attribute(s) to product {}", saved.size(), productId);
         return saved.stream().map(productAttributeMapper::toProductAttributeDTO).collect(Collectors.toList());
@@ -91,6 +94,7 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
         attribute.setAttributeValue(dto.getAttributeValue());
 
         ProductAttribute updated = productAttributeRepository.save(attribute);
+        productResponseCache.evictAfterCommit(List.of(updated.getProduct().getId()));
         log.info("Attribute updated successfully: id={}, name={}", updated.getId(), updated.getAttributeName());
 
         return productAttributeMapper.toProductAttributeDTO(updated);
@@ -106,6 +110,7 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
                 .orElseThrow(() -> new NotFoundException("Product attribute not found with ID: " + attributeId));
 
         productAttributeRepository.delete(attribute);
+        productResponseCache.evictAfterCommit(List.of(attribute.getProduct().getId()));
         log.info("Attribute deleted successfully: id={}", attributeId);
     }
 
@@ -120,6 +125,7 @@ public class ProductAttributeServiceImpl implements ProductAttributeService {
         }
         List<ProductAttribute> attributes = productAttributeRepository.findByProductId(productId);
         productAttributeRepository.deleteAll(attributes);
+        productResponseCache.evictAfterCommit(List.of(productId));
         log.info("{} attribute(s) deleted for product ID={}", attributes.size(), productId);
     }
 }
@@ -0,0 +1,72 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.dto.ProductExportDTO;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.service.ProductExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of ProductExportService.
+ *
+ * Rows come from a server-side cursor (fixed JDBC fetch size) as unmanaged DTOs and are written as soon as
+ * they are read, so memory use is the same for ten products or ten million. The export runs on the
+ * response-writing thread, which is why it opens its own read-only transaction instead of using @Transactional.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductExportServiceImpl implements ProductExportService {
+
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public long exportProducts(LocalDateTime updatedSince, OutputStream output) {
+        long startedNanos = System.nanoTime();
+        ObjectWriter writer = objectMapper.writerFor(ProductExportDTO.class);
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        Long exported = transaction.execute(status -> {
+            long count = 0;
+            try (Stream<ProductExportDTO> rows = updatedSince == null
+                    ? productRepository.streamForExport()
+                    : productRepository.streamForExport(updatedSince)) {
+                BufferedOutputStream buffered = new BufferedOutputStream(output);
+                Iterator<ProductExportDTO> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    buffered.write(writer.writeValueAsBytes(iterator.next()));
+                    buffered.write(LINE_SEPARATOR);
+                    count++;
+                }
+                buffered.flush();
+            } catch (IOException ex) {
+                // Typically the client went away; rolling back just closes the cursor
+                throw new UncheckedIOException(ex);
+            }
+            return count;
+        });
+
+        log.info("Exported {} products (updatedSince={}) in {} ms",
+                exported, updatedSince, (System.nanoTime() - startedNanos) / 1_000_000);
+        return exported != null ? exported : 0;
+    }
+}
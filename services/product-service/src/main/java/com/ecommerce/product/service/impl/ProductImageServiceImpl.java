@@ -1,5 +1,6 @@
 package com.ecommerce.product.service.impl;
 
+import com.ecommerce.product.cache.ProductResponseCache;
 import com.ecommerce.product.dto.ProductImageDTO;
 import com.ecommerce.product.entity.Product;
 import com.ecommerce.product.entity.ProductImage;
@@ -29,6 +30,7 @@ public class ProductImageServiceImpl implements ProductImageService {
     private final ProductRepository productRepository;
     private final ProductImageRepository productImageRepository;
     private final ProductImageMapper productImageMapper;
+    private final ProductResponseCache productResponseCache;
 
     // -----------------------------------
     // ADD IMAGES TO PRODUCT
@@ -46,6 +48,8 @@ public class ProductImageServiceImpl implements ProductImageService {
                 .collect(Collectors.toList());
 
         List<ProductImage> savedImages = productImageRepository.saveAll(imageEntities);
+        refreshPrimaryImageUrl(product);
+        productResponseCache.evictAfterCommit(List.of(productId));
 
         log.info("Successfully added {} image(s) to product {}", savedImages.size(), productId);
         return savedImages.stream().map(productImageMapper::toProductImageDTO).collect(Collectors.toList());
@@ -96,9 +100,14 @@ public class ProductImageServiceImpl implements ProductImageService {
 
         ProductImage updated = productImageRepository.save(image);
 
-        // Ensure only one primary image per product
+        // Ensure only one primary image per product (also refreshes the product thumbnail)
         if (dto.isPrimary() && updated.getProduct() != null) {
             setPrimaryImage(updated.getProduct().getId(), updated.getId());
+        } else if (updated.getProduct() != null) {
+            refreshPrimaryImageUrl(updated.getProduct());
+        }
+        if (updated.getProduct() != null) {
+            productResponseCache.evictAfterCommit(List.of(updated.getProduct().getId()));
         }
 
         log.info("Image updated successfully: id={}, productId={}", updated.getId(), updated.getProduct().getId());
@@ -114,7 +123,10 @@ public class ProductImageServiceImpl implements ProductImageService {
         ProductImage image = productImageRepository.findById(imageId)
                 .orElseThrow(() -> new NotFoundException("Product image not found with ID: " + imageId));
 
+        Product product = image.getProduct();
         productImageRepository.delete(image);
+        refreshPrimaryImageUrl(product);
+        productResponseCache.evictAfterCommit(List.of(product.getId()));
     }
 
     // -----------------------------------
@@ -142,6 +154,8 @@ public class ProductImageServiceImpl implements ProductImageService {
         }
 
         productImageRepository.saveAll(productImages);
+        product.updatePrimaryImageUrl(productImages);
+        productResponseCache.evictAfterCommit(List.of(productId));
         log.info("Primary image set successfully: productId={}, imageId={}", productId, imageId);
     }
 
@@ -156,6 +170,17 @@ public class ProductImageServiceImpl implements ProductImageService {
         }
         List<ProductImage> images = productImageRepository.findByProductId(productId);
         productImageRepository.deleteAll(images);
+        productRepository.findById(productId).ifPresent(product -> product.setPrimaryImageUrl(null));
+        productResponseCache.evictAfterCommit(List.of(productId));
         log.info("{} image(s) deleted for product ID={}", images.size(), productId);
     }
+
+    // -----------------------------------
+    // PRIVATE UTILITIES
+    // -----------------------------------
+
+    // Keep products.primary_image_url in line with the product's current images
+    private void refreshPrimaryImageUrl(Product product) {
+        product.updatePrimaryImageUrl(productImageRepository.findByProductId(product.getId()));
+    }
 }
@@ -0,0 +1,279 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.dto.ProductAttributeDTO;
+import com.ecommerce.product.dto.ProductImageDTO;
+import com.ecommerce.product.dto.ProductRequest;
+import com.ecommerce.product.entity.ProductImportFormat;
+import com.ecommerce.product.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Incremental reader for bulk import input: one record is parsed at a time, so memory use does not
+ * depend on the size of the feed.
+ *
+ * NDJSON: one ProductRequest JSON object per line.
+ * CSV: a header row naming the ProductRequest fields (sku, name, slug, description, shortDescription,
+ * price, discountPrice, currency, stockQuantity, status, brand, weight) plus three multi-valued columns
+ * separated by '|': categoryIds ("3|7"), imageUrls (first one is primary) and attributes ("color=red|size=M").
+ */
+abstract class ProductImportReader implements Closeable {
+
+    private static final String MULTI_VALUE_SEPARATOR = "\\|";
+
+    /**
+     * One input record: either a parsed request or the reason it could not be parsed.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    static final class Row {
+        private final long number;
+        private final ProductRequest request;
+        private final String error;
+    }
+
+    protected final BufferedReader reader;
+    private long recordCount;
+
+    protected ProductImportReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    static ProductImportReader open(ProductImportFormat format, InputStream input, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(input);
+            case NDJSON -> new Ndjson(input, objectMapper);
+        };
+    }
+
+    /**
+     * Next record, or null at the end of the input.
+     */
+    Row next() throws IOException {
+        long number = recordCount + 1;
+        try {
+            ProductRequest request = readRequest();
+            if (request == null) {
+                return null;
+            }
+            recordCount = number;
+            return new Row(number, request, null);
+        } catch (MalformedRecordException ex) {
+            recordCount = number;
+            return new Row(number, null, ex.getMessage());
+        }
+    }
+
+    /**
+     * Skip records already handled by an earlier run (resume from checkpoint).
+     */
+    void skip(long count) throws IOException {
+        for (long i = 0; i < count; i++) {
+            if (next() == null) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected abstract ProductRequest readRequest() throws IOException;
+
+    private static final class MalformedRecordException extends RuntimeException {
+        MalformedRecordException(String message) {
+            super(message);
+        }
+    }
+
+    // ----------------------------
+    // NDJSON
+    // ----------------------------
+    private static final class Ndjson extends ProductImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        private Ndjson(InputStream input, ObjectMapper objectMapper) {
+            super(input);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected ProductRequest readRequest() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            try {
+                return objectMapper.readValue(line, ProductRequest.class);
+            } catch (JsonProcessingException ex) {
+                throw new MalformedRecordException("Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+
+    // ----------------------------
+    // CSV (RFC 4180 quoting, quoted fields may span lines)
+    // ----------------------------
+    static final class Csv extends ProductImportReader {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        Csv(InputStream input) throws IOException {
+            super(input);
+            List<String> header = readFields();
+            if (header == null) {
+                throw new BadRequestException("CSV input is empty.");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim(), i);
+            }
+            if (!columns.containsKey("sku")) {
+                throw new BadRequestException("CSV header must contain a 'sku' column.");
+            }
+        }
+
+        @Override
+        protected ProductRequest readRequest() throws IOException {
+            List<String> fields;
+            do {
+                fields = readFields();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            try {
+                return ProductRequest.builder()
+                        .sku(value(fields, "sku"))
+                        .name(value(fields, "name"))
+                        .slug(value(fields, "slug"))
+                        .description(value(fields, "description"))
+                        .shortDescription(value(fields, "shortDescription"))
+                        .price(decimal(fields, "price"))
+                        .discountPrice(decimal(fields, "discountPrice"))
+                        .currency(value(fields, "currency"))
+                        .stockQuantity(integer(fields, "stockQuantity"))
+                        .status(value(fields, "status"))
+                        .brand(value(fields, "brand"))
+                        .weight(decimal(fields, "weight"))
+                        .categoryIds(multiValue(fields, "categoryIds").stream().map(Long::valueOf).toList())
+                        .images(images(multiValue(fields, "imageUrls")))
+                        .attributes(attributes(multiValue(fields, "attributes")))
+                        .build();
+            } catch (NumberFormatException ex) {
+                throw new MalformedRecordException("Invalid number: " + ex.getMessage());
+            }
+        }
+
+        /**
+         * Fields of the next physical record, or null at the end of the input.
+         */
+        List<String> readFields() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    if (c == '"') {
+                        int next = reader.read();
+                        if (next != '"') {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    }
+                    field.append((char) c);
+                } else if (c == -1 || c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        private String value(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private BigDecimal decimal(List<String> fields, String column) {
+            String value = value(fields, column);
+            return value != null ? new BigDecimal(value) : null;
+        }
+
+        private Integer integer(List<String> fields, String column) {
+            String value = value(fields, column);
+            return value != null ? Integer.valueOf(value) : null;
+        }
+
+        private List<String> multiValue(List<String> fields, String column) {
+            String value = value(fields, column);
+            if (value == null) {
+                return List.of();
+            }
+            return Arrays.stream(value.split(MULTI_VALUE_SEPARATOR))
+                    .map(String::trim)
+                    .filter(part -> !part.isEmpty())
+                    .toList();
+        }
+
+        private List<ProductImageDTO> images(List<String> urls) {
+            List<ProductImageDTO> images = new ArrayList<>(urls.size());
+            for (int i = 0; i < urls.size(); i++) {
+                images.add(ProductImageDTO.builder().imageUrl(urls.get(i)).isPrimary(i == 0).position(i).build());
+            }
+            return images;
+        }
+
+        private List<ProductAttributeDTO> attributes(List<String> pairs) {
+            List<ProductAttributeDTO> attributes = new ArrayList<>(pairs.size());
+            for (String pair : pairs) {
+                int separator = pair.indexOf('=');
+                if (separator < 0) {
+                    throw new MalformedRecordException("Attribute must be written as name=value: " + pair);
+                }
+                attributes.add(ProductAttributeDTO.builder()
+                        .attributeName(pair.substring(0, separator).trim())
+                        .attributeValue(pair.substring(separator + 1).trim())
+                        .build());
+            }
+            return attributes;
+        }
+    }
+}
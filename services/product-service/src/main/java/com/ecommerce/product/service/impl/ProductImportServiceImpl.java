@@ -0,0 +1,291 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.cache.CategoryTreeCache;
+import com.ecommerce.product.cache.CategoryTreeSnapshot;
+import com.ecommerce.product.dto.ProductImportJobDTO;
+import com.ecommerce.product.dto.ProductRequest;
+import com.ecommerce.product.entity.ProductImportFormat;
+import com.ecommerce.product.entity.ProductImportJob;
+import com.ecommerce.product.entity.ProductImportStatus;
+import com.ecommerce.product.event.ProductEvent;
+import com.ecommerce.product.exception.BadRequestException;
+import com.ecommerce.product.exception.NotFoundException;
+import com.ecommerce.product.repository.ProductBulkInsertRepository;
+import com.ecommerce.product.repository.ProductImportJobRepository;
+import com.ecommerce.product.service.EventPublisherService;
+import com.ecommerce.product.service.ProductImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ProductImportService.
+ *
+ * Not @Transactional on purpose: every batch commits on its own, together with the job checkpoint,
+ * so a failure loses at most one batch and a resumed run continues right after the last commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ProductImportJobRepository productImportJobRepository;
+    private final ProductBulkInsertRepository productBulkInsertRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final EventPublisherService eventPublisherService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Records written per transaction / JDBC batch
+    @Value("${product.import.batch-size:1000}")
+    private int batchSize;
+
+    // ----------------------------
+    // CREATE JOB
+    // ----------------------------
+    @Override
+    public ProductImportJobDTO createImportJob(ProductImportFormat format) {
+        ProductImportJob job = productImportJobRepository.save(ProductImportJob.builder()
+                .format(format)
+                .status(ProductImportStatus.PENDING)
+                .updatedAt(LocalDateTime.now())
+                .build());
+        log.info("Product import job={} created: format={}", job.getId(), format);
+        return toDTO(job);
+    }
+
+    // ----------------------------
+    // IMPORT
+    // ----------------------------
+    @Override
+    public ProductImportJobDTO importProducts(Long jobId, InputStream input, ProductImportFormat format) {
+        ProductImportJob job = startUpload(jobId, format);
+        long resumedFrom = job.getProcessedRecords();
+        long startedNanos = System.nanoTime();
+        log.info("Product import job={} started: format={}, resuming after {} records", job.getId(), format, resumedFrom);
+
+        try (ProductImportReader reader = ProductImportReader.open(format, input, objectMapper)) {
+            reader.skip(resumedFrom);
+
+            List<ProductImportReader.Row> batch = new ArrayList<>(batchSize);
+            ProductImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    writeBatch(job, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(job, batch);
+            }
+
+            job.setStatus(ProductImportStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+        } catch (BadRequestException ex) {
+            finish(job, ProductImportStatus.FAILED, ex.getMessage());
+            throw ex;
+        } catch (IOException | RuntimeException ex) {
+            log.error("Product import job={} failed after {} records", job.getId(), job.getProcessedRecords(), ex);
+            job.setStatus(ProductImportStatus.FAILED);
+            job.setLastError(truncate(ex.getMessage()));
+        }
+
+        ProductImportJob saved = finish(job, job.getStatus(), job.getLastError());
+        double seconds = Math.max((System.nanoTime() - startedNanos) / 1_000_000_000d, 0.001);
+        double recordsPerSecond = (saved.getProcessedRecords() - resumedFrom) / seconds;
+        log.info("Product import job={} {}: processed={}, imported={}, skipped={}, failed={}, {} records/s",
+                saved.getId(), saved.getStatus(), saved.getProcessedRecords(), saved.getImportedRecords(),
+                saved.getSkippedRecords(), saved.getFailedRecords(), Math.round(recordsPerSecond));
+
+        ProductImportJobDTO dto = toDTO(saved);
+        dto.setRecordsPerSecond(recordsPerSecond);
+        return dto;
+    }
+
+    // ----------------------------
+    // GET JOB
+    // ----------------------------
+    @Override
+    public ProductImportJobDTO getImportJob(Long id) {
+        return productImportJobRepository.findById(id)
+                .map(this::toDTO)
+                .orElseThrow(() -> new NotFoundException("Import job not found with ID: " + id));
+    }
+
+    // ----------------------------
+    // BATCH WRITE
+    // ----------------------------
+    private void writeBatch(ProductImportJob job, List<ProductImportReader.Row> rows) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CategoryTreeSnapshot categories = categoryTreeCache.get();
+
+        long failed = 0;
+        String lastError = null;
+
+        // Step 1: Parse errors, bean validation and category lookup (in memory)
+        Map<String, ProductRequest> bySku = new LinkedHashMap<>();
+        int duplicates = 0;
+        for (ProductImportReader.Row row : rows) {
+            String error = row.getError() != null ? row.getError() : validate(row.getRequest(), categories);
+            if (error != null) {
+                failed++;
+                lastError = "Record " + row.getNumber() + ": " + error;
+            } else if (bySku.putIfAbsent(row.getRequest().getSku(), row.getRequest()) != null) {
+                duplicates++;
+            }
+        }
+
+        // Step 2: SKUs that already exist are skipped; slugs must be unique across the catalog
+        Set<String> existingSkus = productBulkInsertRepository.findExistingSkus(bySku.keySet());
+        Set<String> takenSlugs = productBulkInsertRepository.findExistingSlugs(
+                bySku.values().stream().map(ProductRequest::getSlug).toList());
+
+        List<ProductRequest> toInsert = new ArrayList<>(bySku.size());
+        Set<String> batchSlugs = new HashSet<>();
+        for (ProductRequest request : bySku.values()) {
+            if (existingSkus.contains(request.getSku())) {
+                duplicates++;
+            } else if (takenSlugs.contains(request.getSlug()) || !batchSlugs.add(request.getSlug())) {
+                failed++;
+                lastError = "SKU " + request.getSku() + ": slug already in use: " + request.getSlug();
+            } else {
+                toInsert.add(request);
+            }
+        }
+
+        // Step 3: Insert, write the PRODUCT_CREATED outbox rows and move the checkpoint in one transaction
+        long processed = job.getProcessedRecords() + rows.size();
+        long imported = job.getImportedRecords() + toInsert.size();
+        long skipped = job.getSkippedRecords() + duplicates;
+        long failedTotal = job.getFailedRecords() + failed;
+        String error = truncate(lastError);
+        LocalDateTime now = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!toInsert.isEmpty()) {
+                List<Long> ids = productBulkInsertRepository.insertProducts(toInsert, now);
+                eventPublisherService.publishProductEvents(createdEvents(ids, toInsert, now));
+            }
+            productImportJobRepository.updateCheckpoint(job.getId(), processed, imported, skipped, failedTotal, error, now);
+        });
+
+        job.setProcessedRecords(processed);
+        job.setImportedRecords(imported);
+        job.setSkippedRecords(skipped);
+        job.setFailedRecords(failedTotal);
+        if (error != null) {
+            job.setLastError(error);
+        }
+
+        meterRegistry.counter("product.import.records", "outcome", "imported").increment(toInsert.size());
+        meterRegistry.counter("product.import.records", "outcome", "skipped").increment(duplicates);
+        meterRegistry.counter("product.import.records", "outcome", "failed").increment(failed);
+        sample.stop(meterRegistry.timer("product.import.batch"));
+        log.debug("Product import job={} checkpoint: processed={}, imported={}", job.getId(), processed, imported);
+    }
+
+    // Same event type as a single create; the payload is the imported record with its new ID
+    private List<ProductEvent> createdEvents(List<Long> ids, List<ProductRequest> requests, LocalDateTime createdAt) {
+        List<ProductEvent> events = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            ObjectNode payload = objectMapper.valueToTree(requests.get(i));
+            payload.put("id", ids.get(i));
+            payload.put("createdAt", createdAt.toString());
+            events.add(ProductEvent.builder()
+                    .productId(ids.get(i))
+                    .eventType("PRODUCT_CREATED")
+                    .source("product-service")
+                    .payload(payload)
+                    .build());
+        }
+        return events;
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    // The first upload starts the job, later ones resume it after its last checkpoint
+    private ProductImportJob startUpload(Long jobId, ProductImportFormat format) {
+        ProductImportJob job = productImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException("Import job not found with ID: " + jobId));
+        if (job.getStatus() == ProductImportStatus.COMPLETED) {
+            throw new BadRequestException("Import job " + jobId + " is already completed.");
+        }
+        if (job.getFormat() != format) {
+            throw new BadRequestException("Import job " + jobId + " was started with format " + job.getFormat() + ".");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(now);
+        }
+        job.setStatus(ProductImportStatus.RUNNING);
+        job.setCompletedAt(null);
+        job.setUpdatedAt(now);
+        return productImportJobRepository.save(job);
+    }
+
+    private ProductImportJob finish(ProductImportJob job, ProductImportStatus status, String lastError) {
+        job.setStatus(status);
+        job.setLastError(truncate(lastError));
+        job.setUpdatedAt(LocalDateTime.now());
+        return productImportJobRepository.save(job);
+    }
+
+    private String validate(ProductRequest request, CategoryTreeSnapshot categories) {
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+
+        return request.getCategoryIds().stream()
+                .filter(id -> id == null || categories.getNode(id).isEmpty())
+                .findFirst()
+                .map(id -> "Unknown category ID: " + id)
+                .orElse(null);
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private ProductImportJobDTO toDTO(ProductImportJob job) {
+        return ProductImportJobDTO.builder()
+                .id(job.getId())
+                .format(job.getFormat().name())
+                .status(job.getStatus().name())
+                .processedRecords(job.getProcessedRecords())
+                .importedRecords(job.getImportedRecords())
+                .skippedRecords(job.getSkippedRecords())
+                .failedRecords(job.getFailedRecords())
+                .lastError(job.getLastError())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
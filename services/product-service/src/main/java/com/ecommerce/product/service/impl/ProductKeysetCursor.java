@@ -0,0 +1,133 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.exception.BadRequestException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Position of the last row returned by a keyset (seek) page: the sort key value and the product ID
+ * used as tie-breaker. Serialized as an opaque, URL-safe token handed back to clients.
+ *
+ * Every sort key is a NOT NULL column, so a position always has a value and there is no null
+ * segment to page through.
+ */
+@Getter
+@RequiredArgsConstructor
+class ProductKeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Sort keys that can be used for keyset paging. Each one is backed by a (key, id) index.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    enum Field {
+        ID("id", Long::valueOf, ProductSummaryDTO::getId),
+        CREATED_AT("createdAt", LocalDateTime::parse, ProductSummaryDTO::getCreatedAt),
+        PRICE("price", BigDecimal::new, ProductSummaryDTO::getPrice),
+        NAME("name", value -> value, ProductSummaryDTO::getName);
+
+        private final String property;
+        private final Function<String, Comparable<?>> parser;
+        private final Function<ProductSummaryDTO, Comparable<?>> extractor;
+
+        static Field of(String property) {
+            return Arrays.stream(values())
+                    .filter(field -> field.property.equals(property))
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestException(
+                            "Cursor pagination supports sorting by: id, createdAt, price, name."));
+        }
+    }
+
+    private final Field field;
+    private final Sort.Direction direction;
+    private final Comparable<?> value;
+    private final Long lastId;
+
+    static ProductKeysetCursor after(ProductSummaryDTO last, Field field, Sort.Direction direction) {
+        return new ProductKeysetCursor(field, direction, field.getExtractor().apply(last), last.getId());
+    }
+
+    String encode() {
+        String raw = String.join(SEPARATOR, VERSION, field.name(), direction.name(), lastId.toString(), value.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token, checking that it was issued for the same sort as the current request.
+     */
+    static ProductKeysetCursor decode(String token, Field expectedField, Sort.Direction expectedDirection) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 5);
+
+            if (parts.length < 5 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid cursor.");
+            }
+
+            Field field = Field.valueOf(parts[1]);
+            Sort.Direction direction = Sort.Direction.valueOf(parts[2]);
+            if (field != expectedField || direction != expectedDirection) {
+                throw new BadRequestException("Cursor does not match the requested sort order.");
+            }
+
+            return new ProductKeysetCursor(field, direction, field.getParser().apply(parts[4]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException | java.time.DateTimeException ex) {
+            throw new BadRequestException("Invalid cursor.");
+        }
+    }
+
+    /**
+     * Rows strictly after this position: (key, id) > (value, lastId) for ascending order,
+     * (key, id) < (value, lastId) for descending order.
+     *
+     * Written as key >= value AND (key > value OR id > lastId). The first conjunct is a range condition
+     * on the (key, id) index, so the scan starts at the cursor; the OR only filters the rows that share
+     * the cursor's key. The OR alone would be a filter over the index from its start.
+     */
+    Specification<Product> toPredicate() {
+        boolean ascending = direction.isAscending();
+        return (root, query, cb) -> {
+            Expression<Long> id = root.get(Field.ID.getProperty());
+            Predicate afterId = compare(cb, id, lastId, ascending, false);
+            if (field == Field.ID) {
+                return afterId;
+            }
+
+            Expression<?> key = root.get(field.getProperty());
+            return cb.and(
+                    compare(cb, key, value, ascending, true),
+                    cb.or(compare(cb, key, value, ascending, false), afterId));
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate compare(CriteriaBuilder cb, Expression path, Comparable value, boolean ascending, boolean inclusive) {
+        if (ascending) {
+            return inclusive ? cb.greaterThanOrEqualTo(path, value) : cb.greaterThan(path, value);
+        }
+        return inclusive ? cb.lessThanOrEqualTo(path, value) : cb.lessThan(path, value);
+    }
+
+    @Override
+    public String toString() {
+        return field.getProperty() + " " + direction + " after (" + value + ", " + lastId + ")";
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.dto.ProductLookupDTO;
+import com.ecommerce.product.dto.ProductLookupRequest;
+import com.ecommerce.product.dto.ProductLookupResponse;
+import com.ecommerce.product.exception.BadRequestException;
+import com.ecommerce.product.repository.ProductLookupRepository;
+import com.ecommerce.product.service.ProductLookupService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Implementation of ProductLookupService.
+ *
+ * Metrics:
+ *   product.lookup.keys  IDs + SKUs per lookup request (how much each request batches)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ProductLookupServiceImpl implements ProductLookupService {
+
+    private final ProductLookupRepository productLookupRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public ProductLookupResponse lookup(ProductLookupRequest request) {
+        Set<Long> ids = request.getIds() != null ? new LinkedHashSet<>(request.getIds()) : Set.of();
+        Set<String> skus = request.getSkus() != null ? new LinkedHashSet<>(request.getSkus()) : Set.of();
+        if (ids.isEmpty() && skus.isEmpty()) {
+            throw new BadRequestException("At least one product ID or SKU is required.");
+        }
+
+        List<ProductLookupDTO> products = productLookupRepository.lookup(ids, skus);
+
+        Set<Long> foundIds = new HashSet<>();
+        Set<String> foundSkus = new HashSet<>();
+        products.forEach(product -> {
+            foundIds.add(product.getId());
+            foundSkus.add(product.getSku());
+        });
+
+        DistributionSummary.builder("product.lookup.keys").register(meterRegistry).record(ids.size() + skus.size());
+        log.debug("Looked up {} IDs and {} SKUs: {} products found", ids.size(), skus.size(), products.size());
+        return ProductLookupResponse.builder()
+                .products(products)
+                .missingIds(ids.stream().filter(id -> !foundIds.contains(id)).toList())
+                .missingSkus(skus.stream().filter(sku -> !foundSkus.contains(sku)).toList())
+                .build();
+    }
+}
@@ -0,0 +1,197 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.dto.BatchUpdateResultDTO;
+import com.ecommerce.product.dto.PriceStockDTO;
+import com.ecommerce.product.dto.PriceUpdateRequest;
+import com.ecommerce.product.dto.StockUpdateRequest;
+import com.ecommerce.product.event.ProductChangeTracker;
+import com.ecommerce.product.event.ProductEvent;
+import com.ecommerce.product.exception.BadRequestException;
+import com.ecommerce.product.exception.NotFoundException;
+import com.ecommerce.product.repository.ProductBulkInsertRepository;
+import com.ecommerce.product.repository.ProductPriceStockRepository;
+import com.ecommerce.product.repository.ProductPriceStockRepository.PriceStockChange;
+import com.ecommerce.product.service.EventPublisherService;
+import com.ecommerce.product.service.ProductPriceStockService;
+import com.ecommerce.product.service.ProductStockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Implementation of ProductPriceStockService.
+ *
+ * Nothing is loaded through JPA: the repository updates and returns the affected rows in one statement,
+ * and the events are written to the outbox in bulk within the same transaction.
+ *
+ * Metrics:
+ *   product.price-stock.updates  changed rows, tagged by kind (price, stock)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ProductPriceStockServiceImpl implements ProductPriceStockService {
+
+    static final String PRICE_CHANGED = "PRODUCT_PRICE_CHANGED";
+    static final String STOCK_CHANGED = "PRODUCT_STOCK_CHANGED";
+
+    private final ProductPriceStockRepository productPriceStockRepository;
+    private final ProductBulkInsertRepository productBulkInsertRepository;
+    private final ProductStockService productStockService;
+    private final EventPublisherService eventPublisherService;
+    private final ProductChangeTracker productChangeTracker;
+    private final MeterRegistry meterRegistry;
+
+    // ----------------------------
+    // SINGLE PRODUCT
+    // ----------------------------
+    @Override
+    public PriceStockDTO updatePrice(Long id, PriceUpdateRequest request) {
+        log.debug("Updating price of product id={}: price={}, discountPrice={}", id, request.getPrice(), request.getDiscountPrice());
+        Optional<PriceStockChange> change = productPriceStockRepository.updatePrice(
+                id, request.getPrice(), request.getDiscountPrice(), LocalDateTime.now());
+        return toResult(id, change, PRICE_CHANGED);
+    }
+
+    @Override
+    public PriceStockDTO updateStock(Long id, StockUpdateRequest request) {
+        log.debug("Updating stock of product id={}: stockQuantity={}", id, request.getStockQuantity());
+        Optional<PriceStockChange> change = productPriceStockRepository.updateStock(
+                id, request.getStockQuantity(), LocalDateTime.now());
+        return toResult(id, change, STOCK_CHANGED);
+    }
+
+    // ----------------------------
+    // BATCH (by SKU)
+    // ----------------------------
+    @Override
+    public BatchUpdateResultDTO updatePrices(List<PriceUpdateRequest> items) {
+        Map<String, PriceUpdateRequest> bySku = indexBySku(items, PriceUpdateRequest::getSku);
+        List<BigDecimal> prices = new ArrayList<>(bySku.size());
+        List<BigDecimal> discountPrices = new ArrayList<>(bySku.size());
+        bySku.values().forEach(item -> {
+            prices.add(item.getPrice());
+            discountPrices.add(item.getDiscountPrice());
+        });
+
+        List<PriceStockChange> changes = productPriceStockRepository.updatePrices(
+                new ArrayList<>(bySku.keySet()), prices, discountPrices, LocalDateTime.now());
+        return toBatchResult(bySku.keySet(), changes, PRICE_CHANGED);
+    }
+
+    @Override
+    public BatchUpdateResultDTO updateStock(List<StockUpdateRequest> items) {
+        Map<String, StockUpdateRequest> bySku = indexBySku(items, StockUpdateRequest::getSku);
+        List<Integer> stockQuantities = bySku.values().stream().map(StockUpdateRequest::getStockQuantity).toList();
+
+        List<PriceStockChange> changes = productPriceStockRepository.updateStock(
+                new ArrayList<>(bySku.keySet()), stockQuantities, LocalDateTime.now());
+        return toBatchResult(bySku.keySet(), changes, STOCK_CHANGED);
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private PriceStockDTO toResult(Long id, Optional<PriceStockChange> change, String eventType) {
+        if (change.isPresent()) {
+            redistributeStripes(List.of(change.get()), eventType);
+            eventPublisherService.publishProductEvent(toEvent(change.get(), eventType));
+            countUpdates(eventType, 1);
+            return toDTO(change.get(), true);
+        }
+        // Nothing written: either unknown or already at the requested values
+        return productPriceStockRepository.findById(id)
+                .map(current -> toDTO(current, false))
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
+    }
+
+    private BatchUpdateResultDTO toBatchResult(Set<String> skus, List<PriceStockChange> changes, String eventType) {
+        redistributeStripes(changes, eventType);
+        eventPublisherService.publishProductEvents(changes.stream().map(change -> toEvent(change, eventType)).toList());
+        countUpdates(eventType, changes.size());
+
+        Set<String> notChanged = new HashSet<>(skus);
+        changes.forEach(change -> notChanged.remove(change.sku()));
+        List<String> unknownSkus = new ArrayList<>();
+        if (!notChanged.isEmpty()) {
+            Set<String> existing = productBulkInsertRepository.findExistingSkus(notChanged);
+            notChanged.stream().filter(sku -> !existing.contains(sku)).sorted().forEach(unknownSkus::add);
+        }
+
+        log.info("Batch {}: requested={}, updated={}, unknown={}", eventType, skus.size(), changes.size(), unknownSkus.size());
+        return BatchUpdateResultDTO.builder()
+                .requested(skus.size())
+                .updated(changes.size())
+                .unchanged(skus.size() - changes.size() - unknownSkus.size())
+                .unknownSkus(unknownSkus)
+                .build();
+    }
+
+    // A new absolute stock level replaces the stripes of striped products
+    private void redistributeStripes(List<PriceStockChange> changes, String eventType) {
+        if (STOCK_CHANGED.equals(eventType) && !changes.isEmpty()) {
+            productStockService.distribute(changes.stream().map(PriceStockChange::id).toList());
+        }
+    }
+
+    // Last entry per SKU wins, in request order
+    private <T> Map<String, T> indexBySku(List<T> items, Function<T, String> sku) {
+        Map<String, T> bySku = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            String key = sku.apply(items.get(i));
+            if (key == null || key.isBlank()) {
+                throw new BadRequestException("Item " + i + " has no SKU.");
+            }
+            bySku.remove(key);
+            bySku.put(key, items.get(i));
+        }
+        return bySku;
+    }
+
+    // Payload has the same {field: {from, to}} shape as PRODUCT_UPDATED, limited to the fast-path fields
+    private ProductEvent toEvent(PriceStockChange change, String eventType) {
+        Map<String, Object> before = new LinkedHashMap<>();
+        Map<String, Object> after = new LinkedHashMap<>();
+        if (PRICE_CHANGED.equals(eventType)) {
+            before.put("price", change.previousPrice());
+            before.put("discountPrice", change.previousDiscountPrice());
+            after.put("price", change.price());
+            after.put("discountPrice", change.discountPrice());
+        } else {
+            before.put("stockQuantity", change.previousStockQuantity());
+            after.put("stockQuantity", change.stockQuantity());
+        }
+        return ProductEvent.builder()
+                .productId(change.id())
+                .eventType(eventType)
+                .source("product-service")
+                .payload(productChangeTracker.diff(before, after))
+                .build();
+    }
+
+    private PriceStockDTO toDTO(PriceStockChange row, boolean changed) {
+        return PriceStockDTO.builder()
+                .id(row.id())
+                .sku(row.sku())
+                .price(row.price())
+                .discountPrice(row.discountPrice())
+                .stockQuantity(row.stockQuantity())
+                .changed(changed)
+                .build();
+    }
+
+    private void countUpdates(String eventType, int count) {
+        if (count > 0) {
+            meterRegistry.counter("product.price-stock.updates", "kind", PRICE_CHANGED.equals(eventType) ? "price" : "stock")
+                    .increment(count);
+        }
+    }
+}
@@ -1,20 +1,36 @@
 package com.ecommerce.product.service.impl;
 
+import com.ecommerce.product.cache.CategoryTreeCache;
+import com.ecommerce.product.dto.CountMode;
+import com.ecommerce.product.dto.CursorPage;
+import com.ecommerce.product.dto.ProductFacetsDTO;
+import com.ecommerce.product.dto.ProductSearchCriteria;
 import com.ecommerce.product.dto.ProductSummaryDTO;
 import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.entity.ProductCategory;
 import com.ecommerce.product.entity.ProductStatus;
+import com.ecommerce.product.exception.BadRequestException;
+import com.ecommerce.product.repository.CategoryClosureRepository;
 import com.ecommerce.product.repository.ProductRepository;
 import com.ecommerce.product.service.ProductSearchService;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.ecommerce.product.config.ProductSearchFunctionContributor.MATCH_FUNCTION;
+import static com.ecommerce.product.config.ProductSearchFunctionContributor.RANK_FUNCTION;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +39,12 @@ import java.math.BigDecimal;
 public class ProductSearchServiceImpl implements ProductSearchService {
 
     private final ProductRepository productRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryClosureRepository categoryClosureRepository;
+
+    // Ascending price-range facet boundaries
+    @Value("${product.search.facets.price-boundaries:25,50,100,250,500,1000}")
+    private List<BigDecimal> priceBoundaries;
 
     @Override
     public Page<ProductSummaryDTO> searchProducts(
@@ -37,22 +59,126 @@ public class ProductSearchServiceImpl implements ProductSearchService {
         log.debug("Searching products with filters: keyword={}, category={}, brand={}, status={}, priceRange=[{}, {}]",
                 keyword, categoryId, brand, status, priceMin, priceMax);
 
+        Specification<Product> spec = buildSpecification(
+                keyword, resolveCategoryIds(categoryId), brand, status, priceMin, priceMax, pageable.getSort().isUnsorted());
+
+        // Execute projection query (summary columns + primary image only)
+        return productRepository.findSummaries(spec, pageable);
+    }
+
+    @Override
+    public CursorPage<ProductSummaryDTO> scrollProducts(
+            String keyword,
+            Long categoryId,
+            String brand,
+            String status,
+            BigDecimal priceMin,
+            BigDecimal priceMax,
+            String cursor,
+            int size,
+            Sort.Order order,
+            CountMode countMode) {
+
+        if (size < 1) {
+            throw new BadRequestException("Page size must be at least 1.");
+        }
+
+        ProductKeysetCursor.Field field = ProductKeysetCursor.Field.of(order.getProperty());
+        ProductKeysetCursor after = cursor != null && !cursor.isBlank()
+                ? ProductKeysetCursor.decode(cursor, field, order.getDirection())
+                : null;
+
+        log.debug("Scrolling products: keyword={}, category={}, brand={}, status={}, sort={}, after={}",
+                keyword, categoryId, brand, status, order, after);
+
+        Specification<Product> filters = buildSpecification(
+                keyword, resolveCategoryIds(categoryId), brand, status, priceMin, priceMax, false);
+
+        Specification<Product> spec = after != null ? filters.and(after.toPredicate()) : filters;
+        // Same direction for key and id, so PostgreSQL walks the (key, id) index forwards or backwards
+        Sort sort = Sort.by(order.getDirection(), field.getProperty())
+                .and(Sort.by(order.getDirection(), ProductKeysetCursor.Field.ID.getProperty()));
+
+        // Fetch one extra row to learn whether another page exists, without a COUNT(*)
+        List<ProductSummaryDTO> rows = productRepository.findSummaries(spec, sort, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ProductSummaryDTO> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = hasNext
+                ? ProductKeysetCursor.after(content.get(content.size() - 1), field, order.getDirection()).encode()
+                : null;
+
+        return CursorPage.<ProductSummaryDTO>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .totalElements(countTotal(filters, countMode, isUnfiltered(keyword, categoryId, brand, status, priceMin, priceMax)))
+                .build();
+    }
+
+    @Override
+    public ProductFacetsDTO getFacets(
+            String keyword,
+            Long categoryId,
+            String brand,
+            String status,
+            BigDecimal priceMin,
+            BigDecimal priceMax) {
+
+        log.debug("Computing facets: keyword={}, category={}, brand={}, status={}, priceRange=[{}, {}]",
+                keyword, categoryId, brand, status, priceMin, priceMax);
+
+        ProductSearchCriteria criteria = ProductSearchCriteria.builder()
+                .keyword(keyword)
+                .categoryIds(resolveCategoryIds(categoryId))
+                .brand(brand)
+                .status(status)
+                .priceMin(priceMin)
+                .priceMax(priceMax)
+                .build();
+
+        return productRepository.findFacets(criteria, priceBoundaries);
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private Specification<Product> buildSpecification(
+            String keyword,
+            Collection<Long> categoryIds,
+            String brand,
+            String status,
+            BigDecimal priceMin,
+            BigDecimal priceMax,
+            boolean rankByRelevance) {
+
         Specification<Product> spec = Specification.unrestricted();
 
-        // Filter: keyword in name or description
+        // Filter: keyword in name or description (full-text index, ranked when no explicit sort is given)
         if (keyword != null && !keyword.isBlank()) {
-            spec = spec.and((root, query, cb) -> cb.or(
-                    cb.like(cb.lower(root.get("name")), "%" + keyword.toLowerCase() + "%"),
-                    cb.like(cb.lower(root.get("description")), "%" + keyword.toLowerCase() + "%")
-            ));
+            String terms = keyword.trim();
+            spec = spec.and((root, query, cb) -> {
+                if (rankByRelevance && !Long.class.equals(query.getResultType())) {
+                    query.orderBy(
+                            cb.desc(cb.function(RANK_FUNCTION, Double.class,
+                                    root.get("name"), root.get("description"), cb.literal(terms))),
+                            cb.desc(root.get("id")));
+                }
+                return cb.isTrue(cb.function(MATCH_FUNCTION, Boolean.class,
+                        root.get("name"), root.get("description"), cb.literal(terms)));
+            });
         }
 
-
-        if (categoryId != null) {
+        // Filter: category or any of its descendants (semi-join, so multi-category products are not duplicated)
+        if (categoryIds != null) {
             spec = spec.and((root, query, cb) -> {
-                Join<Object, Object> productCategoryJoin = root.join("productCategories", JoinType.INNER);
-                Join<Object, Object> categoryJoin = productCategoryJoin.join("category", JoinType.INNER);
-                return cb.equal(categoryJoin.get("id"), categoryId);
+                Subquery<Long> membership = query.subquery(Long.class);
+                Root<ProductCategory> productCategory = membership.from(ProductCategory.class);
+                membership.select(productCategory.get("product").get("id"))
+                        .where(cb.equal(productCategory.get("product"), root),
+                                productCategory.get("category").get("id").in(categoryIds));
+                return cb.exists(membership);
             });
         }
 
@@ -79,23 +205,42 @@ public class ProductSearchServiceImpl implements ProductSearchService {
                     cb.lessThanOrEqualTo(root.get("price"), priceMax));
         }
 
-        // Execute query
-        Page<Product> resultPage = productRepository.findAll(spec, pageable);
-
-        // Map results
-        return resultPage.map(product -> ProductSummaryDTO.builder()
-                .id(product.getId())
-                .name(product.getName())
-                .slug(product.getSlug())
-                .price(product.getPrice())
-                .discountPrice(product.getDiscountPrice())
-                .currency(product.getCurrency())
-                .brand(product.getBrand())
-                .thumbnailUrl(product.getImages().stream()
-                        .filter(img -> img.isPrimary())
-                        .findFirst()
-                        .map(img -> img.getImageUrl())
-                        .orElse(null))
-                .build());
+        return spec;
+    }
+
+    /**
+     * Expand a category into itself plus all of its descendants.
+     * Uses the in-memory tree; a category missing from it (created on another instance since the
+     * last refresh) is resolved through the closure table instead.
+     */
+    private Set<Long> resolveCategoryIds(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        Set<Long> ids = categoryTreeCache.get().getDescendantIds(categoryId);
+        if (ids.isEmpty()) {
+            ids = new HashSet<>(categoryClosureRepository.findDescendantIds(categoryId));
+        }
+        // Unknown category: keep the exact-match filter so the result is simply empty
+        return ids.isEmpty() ? Set.of(categoryId) : ids;
+    }
+
+    private Long countTotal(Specification<Product> filters, CountMode countMode, boolean unfiltered) {
+        return switch (countMode) {
+            case NONE -> null;
+            case EXACT -> productRepository.count(filters);
+            // The planner statistic describes the whole table, so it is only meaningful without filters
+            case ESTIMATE -> unfiltered ? productRepository.estimateRowCount() : null;
+        };
+    }
+
+    private boolean isUnfiltered(String keyword, Long categoryId, String brand, String status,
+                                 BigDecimal priceMin, BigDecimal priceMax) {
+        return (keyword == null || keyword.isBlank())
+                && categoryId == null
+                && (brand == null || brand.isBlank())
+                && (status == null || status.isBlank())
+                && priceMin == null
+                && priceMax == null;
     }
 }
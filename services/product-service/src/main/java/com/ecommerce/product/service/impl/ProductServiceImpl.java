@@ -1,11 +1,18 @@
 package com.ecommerce.product.service.impl;
 
+import com.ecommerce.product.cache.ProductResponseCache;
 import com.ecommerce.product.dto.*;
 import com.ecommerce.product.entity.*;
+import com.ecommerce.product.event.ProductChangeTracker;
+import com.ecommerce.product.event.ProductEvent;
+import com.ecommerce.product.exception.BadRequestException;
 import com.ecommerce.product.exception.NotFoundException;
 import com.ecommerce.product.mapper.*;
 import com.ecommerce.product.repository.*;
+import com.ecommerce.product.service.EventPublisherService;
 import com.ecommerce.product.service.ProductService;
+import com.ecommerce.product.service.ProductStockService;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
@@ -13,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -31,6 +39,10 @@ public class ProductServiceImpl implements ProductService {
     private final ProductMapper productMapper;
     private final ProductImageMapper productImageMapper;
     private final ProductAttributeMapper productAttributeMapper;
+    private final ProductResponseCache productResponseCache;
+    private final EventPublisherService eventPublisherService;
+    private final ProductChangeTracker productChangeTracker;
+    private final ProductStockService productStockService;
 
     // ----------------------------
     // CREATE PRODUCT
@@ -63,6 +75,7 @@ public class ProductServiceImpl implements ProductService {
                     .collect(Collectors.toSet());
             product.setImages(images);
         }
+        product.updatePrimaryImageUrl(product.getImages());
 
         // Step 5: Map and attach attributes
         if (request.getAttributes() != null) {
@@ -77,7 +90,9 @@ public class ProductServiceImpl implements ProductService {
         Product saved = productRepository.save(product);
 
         log.info("Product created successfully: id={}, sku={}", saved.getId(), saved.getSku());
-        return productMapper.toProductResponse(saved);
+        ProductResponse response = productMapper.toProductResponse(saved);
+        publishEvent("PRODUCT_CREATED", saved.getId(), response);
+        return response;
     }
 
     // ----------------------------
@@ -86,9 +101,11 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public ProductResponse getProductById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
-        return productMapper.toProductResponse(product);
+        return productResponseCache.getById(id).orElseGet(() -> {
+            Product product = productRepository.findWithDetailsById(id)
+                    .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
+            return productResponseCache.put(toResponse(product));
+        });
     }
 
     // ----------------------------
@@ -97,9 +114,11 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public ProductResponse getProductBySlug(String slug) {
-        Product product = productRepository.findBySlug(slug)
-                .orElseThrow(() -> new NotFoundException("Product not found with slug: " + slug));
-        return productMapper.toProductResponse(product);
+        return productResponseCache.getBySlug(slug).orElseGet(() -> {
+            Product product = productRepository.findWithDetailsBySlug(slug)
+                    .orElseThrow(() -> new NotFoundException("Product not found with slug: " + slug));
+            return productResponseCache.put(toResponse(product));
+        });
     }
 
     // ----------------------------
@@ -108,9 +127,11 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional(readOnly = true)
     public ProductResponse getProductBySku(String sku) {
-        Product product = productRepository.findBySku(sku)
-                .orElseThrow(() -> new NotFoundException("Product not found with SKU: " + sku));
-        return productMapper.toProductResponse(product);
+        return productResponseCache.getBySku(sku).orElseGet(() -> {
+            Product product = productRepository.findWithDetailsBySku(sku)
+                    .orElseThrow(() -> new NotFoundException("Product not found with SKU: " + sku));
+            return productResponseCache.put(toResponse(product));
+        });
     }
 
     // ----------------------------
@@ -120,9 +141,15 @@ public class ProductServiceImpl implements ProductService {
     public ProductResponse updateProduct(Long id, ProductRequest request) {
         log.info("Updating product id={}", id);
 
-        Product product = productRepository.findById(id)
+        Product product = productRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
 
+        Integer stockBefore = currentStock(product);
+
+        // Snapshot for the field-level diff carried by PRODUCT_UPDATED
+        ProductResponse before = productMapper.toProductResponse(product);
+        before.setStockQuantity(stockBefore);
+
         // Step 1: Update base fields
         productMapper.updateProductFromRequest(request, product);
 
@@ -150,6 +177,7 @@ public class ProductServiceImpl implements ProductService {
                 img.setProduct(product);
                 product.getImages().add(img);
             });
+            product.updatePrimaryImageUrl(product.getImages());
         }
 
         // Step 4: Replace attributes
@@ -165,8 +193,68 @@ public class ProductServiceImpl implements ProductService {
         product.setUpdatedAt(java.time.LocalDateTime.now());
 
         Product updated = productRepository.save(product);
+        resetStripesIfStockChanged(updated, stockBefore);
         log.info("Product updated successfully: id={}", updated.getId());
-        return productMapper.toProductResponse(updated);
+        ProductResponse response = productMapper.toProductResponse(updated);
+        publishEvent("PRODUCT_UPDATED", updated.getId(), productChangeTracker.diff(before, response));
+        return response;
+    }
+
+    // ----------------------------
+    // PATCH PRODUCT
+    // ----------------------------
+    @Override
+    public ProductResponse patchProduct(Long id, ProductPatchRequest request) {
+        log.info("Patching product id={}", id);
+
+        Product product = productRepository.findWithDetailsById(id)
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + id));
+
+        Integer stockBefore = currentStock(product);
+        ProductResponse before = productMapper.toProductResponse(product);
+        before.setStockQuantity(stockBefore);
+
+        // Step 1: Scalar fields (unchanged values leave the entity clean, dynamic update writes only dirty columns)
+        productMapper.patchProduct(request, product);
+
+        // Step 2: Reconcile children against the requested state instead of clear-and-recreate
+        if (request.getCategoryIds() != null) {
+            reconcileCategories(product, request.getCategoryIds());
+        }
+        if (request.getImages() != null) {
+            reconcileImages(product, request.getImages());
+            product.updatePrimaryImageUrl(product.getImages());
+        }
+        if (request.getAttributes() != null) {
+            reconcileAttributes(product, request.getAttributes());
+        }
+
+        // Without a requested stock level the (live) stock is unchanged, whatever the consolidated copy holds
+        Integer stockAfter = request.getStockQuantity() != null ? product.getStockQuantity() : stockBefore;
+
+        // The diff ignores element IDs, so it is accurate before new children are flushed
+        ProductResponse patched = productMapper.toProductResponse(product);
+        patched.setStockQuantity(stockAfter);
+        ObjectNode changes = productChangeTracker.diff(before, patched);
+        if (changes.isEmpty()) {
+            log.debug("Patch of product id={} changed nothing", id);
+            return before;
+        }
+
+        // Child-only changes do not dirty the product row, so bump the timestamp explicitly
+        product.setUpdatedAt(LocalDateTime.now());
+        if (request.getStockQuantity() != null) {
+            resetStripesIfStockChanged(product, stockBefore);
+        }
+
+        // Flush so the response carries the IDs of new children and the new version
+        productRepository.flush();
+        ProductResponse response = productMapper.toProductResponse(product);
+        response.setStockQuantity(stockAfter);
+
+        log.info("Product patched successfully: id={}, fields={}", id, changes.size());
+        publishEvent("PRODUCT_UPDATED", id, changes);
+        return response;
     }
 
     // ----------------------------
@@ -179,6 +267,7 @@ public class ProductServiceImpl implements ProductService {
             throw new NotFoundException("Product not found with id: " + id);
         }
         productRepository.deleteById(id);
+        publishEvent("PRODUCT_DELETED", id, null);
     }
 
     // ----------------------------
@@ -209,7 +298,7 @@ public class ProductServiceImpl implements ProductService {
                 .discountPrice(product.getDiscountPrice())
                 .currency(product.getCurrency())
                 .brand(product.getBrand())
-                .thumbnailUrl(getPrimaryImageUrl(product))
+                .thumbnailUrl(product.getPrimaryImageUrl())
                 .build());
     }
 
@@ -234,6 +323,111 @@ public class ProductServiceImpl implements ProductService {
     // ----------------------------
     // PRIVATE UTILITIES
     // ----------------------------
+    // Written to the outbox in this transaction
+    private void publishEvent(String eventType, Long productId, Object payload) {
+        eventPublisherService.publishProductEvent(ProductEvent.builder()
+                .productId(productId)
+                .eventType(eventType)
+                .source("product-service")
+                .payload(payload)
+                .build());
+    }
+
+    private ProductResponse toResponse(Product product) {
+        ProductResponse response = productMapper.toProductResponse(product);
+        response.setStockQuantity(currentStock(product));
+        return response;
+    }
+
+    // Striped products: the row only holds a consolidated copy, so responses and edits use the live stripe total.
+    // It is never written to the entity, which would dirty the row and bump its version.
+    private Integer currentStock(Product product) {
+        if (product.isStockStriped()) {
+            Integer live = productStockService.getCurrentStock(List.of(product.getId())).get(product.getId());
+            if (live != null) {
+                return live;
+            }
+        }
+        return product.getStockQuantity();
+    }
+
+    // A stock level set through a product edit replaces the stripes
+    private void resetStripesIfStockChanged(Product product, Integer stockBefore) {
+        if (product.isStockStriped() && !Objects.equals(product.getStockQuantity(), stockBefore)) {
+            productRepository.flush();
+            productStockService.distribute(List.of(product.getId()));
+        }
+    }
+
+    private void reconcileCategories(Product product, List<Long> categoryIds) {
+        Set<Long> desired = new LinkedHashSet<>(categoryIds);
+        product.getProductCategories().removeIf(link -> !desired.contains(link.getCategory().getId()));
+        product.getProductCategories().forEach(link -> desired.remove(link.getCategory().getId()));
+        if (desired.isEmpty()) {
+            return;
+        }
+
+        List<Category> added = categoryRepository.findAllById(desired);
+        if (added.size() != desired.size()) {
+            throw new NotFoundException("One or more categories not found for IDs: " + desired);
+        }
+        added.forEach(category -> product.getProductCategories().add(ProductCategory.builder()
+                .product(product)
+                .category(category)
+                .displayOrder(0)
+                .build()));
+    }
+
+    private void reconcileImages(Product product, List<ProductImageDTO> images) {
+        Map<Long, ProductImage> existing = product.getImages().stream()
+                .collect(Collectors.toMap(ProductImage::getId, image -> image));
+        Set<Long> kept = new HashSet<>();
+
+        for (ProductImageDTO dto : images) {
+            if (dto.getId() == null) {
+                ProductImage image = productImageMapper.toProductImage(dto);
+                image.setProduct(product);
+                product.getImages().add(image);
+                continue;
+            }
+            ProductImage image = existing.get(dto.getId());
+            if (image == null) {
+                throw new BadRequestException("Image " + dto.getId() + " does not belong to product " + product.getId());
+            }
+            if (!kept.add(dto.getId())) {
+                throw new BadRequestException("Image " + dto.getId() + " is listed more than once.");
+            }
+            // Setting an equal value is not a change for dirty checking, so untouched images stay clean
+            image.setImageUrl(dto.getImageUrl());
+            image.setAltText(dto.getAltText());
+            image.setPrimary(dto.isPrimary());
+            image.setPosition(dto.getPosition());
+        }
+
+        product.getImages().removeIf(image -> image.getId() != null && !kept.contains(image.getId()));
+    }
+
+    private void reconcileAttributes(Product product, List<ProductAttributeDTO> attributes) {
+        Map<String, ProductAttributeDTO> desired = new HashMap<>();
+        for (ProductAttributeDTO dto : attributes) {
+            if (desired.put(dto.getAttributeName(), dto) != null) {
+                throw new BadRequestException("Attribute '" + dto.getAttributeName() + "' is listed more than once.");
+            }
+        }
+
+        product.getAttributes().removeIf(attribute -> !desired.containsKey(attribute.getAttributeName()));
+        Set<String> present = new HashSet<>();
+        for (ProductAttribute attribute : product.getAttributes()) {
+            attribute.setAttributeValue(desired.get(attribute.getAttributeName()).getAttributeValue());
+            present.add(attribute.getAttributeName());
+        }
+        desired.values().stream().filter(dto -> !present.contains(dto.getAttributeName())).forEach(dto -> {
+            ProductAttribute attribute = productAttributeMapper.toProductAttribute(dto);
+            attribute.setProduct(product);
+            product.getAttributes().add(attribute);
+        });
+    }
+
     private List<Category> getValidatedCategories(List<Long> categoryIds) {
         if (categoryIds == null || categoryIds.isEmpty()) {
             throw new IllegalArgumentException("Product must belong to at least one category.");
@@ -245,15 +439,4 @@ public class ProductServiceImpl implements ProductService {
         }
         return categories;
     }
-
-    private String getPrimaryImageUrl(Product product) {
-        return product.getImages().stream()
-                .filter(ProductImage::isPrimary)
-                .map(ProductImage::getImageUrl)
-                .findFirst()
-                .orElseGet(() -> product.getImages().stream()
-                        .findFirst()
-                        .map(ProductImage::getImageUrl)
-                        .orElse(null));
-    }
 }
@@ -0,0 +1,246 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.cache.ProductResponseCache;
+import com.ecommerce.product.dto.StockStripingDTO;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.exception.InsufficientStockException;
+import com.ecommerce.product.exception.NotFoundException;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.ProductStockStripeRepository;
+import com.ecommerce.product.repository.ProductStockStripeRepository.Stripe;
+import com.ecommerce.product.service.ProductStockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Implementation of ProductStockService.
+ *
+ * Row stock: one conditional UPDATE on products (see ProductRepository.decrementStock).
+ * Striped stock: a decrement takes from one unlocked stripe that has enough; only when no single
+ * stripe can serve it are all stripes locked and drained together. Stripes drift apart over time,
+ * the rebalance job evens them out and refreshes the consolidated products.stock_quantity.
+ *
+ * Lock order is always product row before stripes, and products in ascending ID order.
+ *
+ * Metrics:
+ *   product.stock.stripe.fallback  decrements that had to lock all stripes of a product
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ProductStockServiceImpl implements ProductStockService {
+
+    private final ProductRepository productRepository;
+    private final ProductStockStripeRepository productStockStripeRepository;
+    private final ProductResponseCache productResponseCache;
+    private final MeterRegistry meterRegistry;
+
+    // ----------------------------
+    // TAKE / GIVE BACK
+    // ----------------------------
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void take(Long productId, int quantity, LocalDateTime now) {
+        boolean striped = isStriped(productId);
+        if (!striped) {
+            if (productRepository.decrementStock(productId, quantity, now) == 1) {
+                return;
+            }
+            // Striping may have been switched on since the flag was read
+            if (!isStriped(productId)) {
+                throw new InsufficientStockException(productId, quantity);
+            }
+        }
+        if (!takeFromStripes(productId, quantity, now)) {
+            throw new InsufficientStockException(productId, quantity);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void giveBack(Long productId, int quantity, LocalDateTime now) {
+        if (productRepository.incrementStock(productId, quantity, now) == 1) {
+            return;
+        }
+        Optional<Boolean> striped = productRepository.findStockStripedById(productId);
+        if (striped.isEmpty()) {
+            log.warn("Cannot return {} units to product ID={}: product no longer exists", quantity, productId);
+            return;
+        }
+        if (productStockStripeRepository.addToRandomStripe(productId, quantity)) {
+            return;
+        }
+
+        // Striping was switched meanwhile: wait for the switch to commit, then write to the current layout
+        Optional<Product> product = productRepository.findByIdForUpdate(productId);
+        boolean returned = product.isPresent() && (product.get().isStockStriped()
+                ? productStockStripeRepository.addToRandomStripe(productId, quantity)
+                : productRepository.incrementStock(productId, quantity, now) == 1);
+        if (!returned) {
+            log.error("Could not return {} units to product ID={}", quantity, productId);
+        }
+    }
+
+    // ----------------------------
+    // READ
+    // ----------------------------
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getCurrentStock(Collection<Long> productIds) {
+        return productStockStripeRepository.findCurrentStock(productIds);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StockStripingDTO getStriping(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
+        if (!product.isStockStriped()) {
+            return toDTO(productId, false, product.getStockQuantity(), List.of());
+        }
+        List<Stripe> stripes = productStockStripeRepository.findStripes(productId);
+        return toDTO(productId, true, total(stripes), stripes);
+    }
+
+    // ----------------------------
+    // STRIPING ON / OFF
+    // ----------------------------
+    @Override
+    public void distribute(Collection<Long> productIds) {
+        productStockStripeRepository.distribute(productIds);
+    }
+
+    @Override
+    public StockStripingDTO enableStriping(Long productId, int stripes) {
+        Product product = lockProduct(productId);
+
+        int total = product.getStockQuantity();
+        if (product.isStockStriped()) {
+            total = total(productStockStripeRepository.lockStripes(productId));
+            productStockStripeRepository.deleteStripes(productId);
+        }
+
+        List<Stripe> split = evenSplit(total, stripes);
+        productStockStripeRepository.createStripes(productId, split);
+        product.setStockStriped(true);
+        product.setStockQuantity(total);
+
+        productResponseCache.evictAfterCommit(List.of(productId));
+        log.info("Striped stock of product ID={}: {} units over {} stripes", productId, total, stripes);
+        return toDTO(productId, true, total, split);
+    }
+
+    @Override
+    public StockStripingDTO disableStriping(Long productId) {
+        Product product = lockProduct(productId);
+        if (!product.isStockStriped()) {
+            return toDTO(productId, false, product.getStockQuantity(), List.of());
+        }
+
+        int total = total(productStockStripeRepository.lockStripes(productId));
+        productStockStripeRepository.deleteStripes(productId);
+        product.setStockStriped(false);
+        product.setStockQuantity(total);
+
+        productResponseCache.evictAfterCommit(List.of(productId));
+        log.info("Folded stock stripes of product ID={} back into the product row: {} units", productId, total);
+        return toDTO(productId, false, total, List.of());
+    }
+
+    // ----------------------------
+    // REBALANCE
+    // ----------------------------
+    @Override
+    public void rebalance(Long productId) {
+        Optional<Product> product = productRepository.findByIdForUpdate(productId);
+        if (product.isEmpty() || !product.get().isStockStriped()) {
+            return;
+        }
+
+        List<Stripe> stripes = productStockStripeRepository.lockStripes(productId);
+        int total = total(stripes);
+        List<Stripe> changed = new ArrayList<>(evenSplit(total, stripes.size()));
+        changed.removeAll(stripes);
+        if (!changed.isEmpty()) {
+            productStockStripeRepository.updateQuantities(productId, changed);
+        }
+        if (productRepository.updateConsolidatedStock(productId, total) > 0) {
+            productResponseCache.evictAfterCommit(List.of(productId));
+        }
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private boolean takeFromStripes(Long productId, int quantity, LocalDateTime now) {
+        if (productStockStripeRepository.takeFromOneStripe(productId, quantity)) {
+            return true;
+        }
+
+        // No single free stripe holds enough: lock them all and take across stripes
+        meterRegistry.counter("product.stock.stripe.fallback").increment();
+        List<Stripe> stripes = productStockStripeRepository.lockStripes(productId);
+        if (stripes.isEmpty()) {
+            // Striping was switched off meanwhile, the stock is back in the product row
+            return productRepository.decrementStock(productId, quantity, now) == 1;
+        }
+        if (total(stripes) < quantity) {
+            return false;
+        }
+
+        List<Stripe> byQuantity = new ArrayList<>(stripes);
+        byQuantity.sort(Comparator.comparingInt(Stripe::quantity).reversed());
+        List<Stripe> changed = new ArrayList<>();
+        int remaining = quantity;
+        for (Stripe stripe : byQuantity) {
+            int taken = Math.min(remaining, stripe.quantity());
+            changed.add(new Stripe(stripe.stripe(), stripe.quantity() - taken));
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+        productStockStripeRepository.updateQuantities(productId, changed);
+        return true;
+    }
+
+    private boolean isStriped(Long productId) {
+        return productRepository.findStockStripedById(productId)
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
+    }
+
+    private Product lockProduct(Long productId) {
+        return productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new NotFoundException("Product not found with id: " + productId));
+    }
+
+    // The first (total % count) stripes get one extra unit
+    private static List<Stripe> evenSplit(int total, int count) {
+        List<Stripe> stripes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            stripes.add(new Stripe(i, total / count + (i < total % count ? 1 : 0)));
+        }
+        return stripes;
+    }
+
+    private static int total(List<Stripe> stripes) {
+        return stripes.stream().mapToInt(Stripe::quantity).sum();
+    }
+
+    private StockStripingDTO toDTO(Long productId, boolean striped, int total, List<Stripe> stripes) {
+        return StockStripingDTO.builder()
+                .productId(productId)
+                .striped(striped)
+                .stockQuantity(total)
+                .stripeQuantities(stripes.stream().map(Stripe::quantity).toList())
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.product.service.impl;
 
+import com.ecommerce.product.cache.ProductResponseCache;
 import com.ecommerce.product.dto.ReviewDTO;
 import com.ecommerce.product.entity.Product;
 import com.ecommerce.product.entity.Review;
@@ -31,6 +32,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewRepository reviewRepository;
     private final ProductRepository productRepository;
     private final ReviewMapper reviewMapper;
+    private final ProductResponseCache productResponseCache;
 
     // ---------------------------------
     // ADD REVIEW
@@ -52,6 +54,7 @@ public class ReviewServiceImpl implements ReviewService {
         review.setUpdatedAt(LocalDateTime.now());
 
         Review saved = reviewRepository.save(review);
+        productResponseCache.evictAfterCommit(List.of(productId));
         log.info("Review added successfully: id={}, productId={}", saved.getId(), productId);
 
         return reviewMapper.toReviewDTO(saved);
@@ -104,6 +107,7 @@ public class ReviewServiceImpl implements ReviewService {
         review.setUpdatedAt(LocalDateTime.now());
 
         Review updated = reviewRepository.save(review);
+        productResponseCache.evictAfterCommit(List.of(updated.getProduct().getId()));
         log.info("Review updated successfully: id={}", updated.getId());
 
         return reviewMapper.toReviewDTO(updated);
@@ -120,6 +124,7 @@ public class ReviewServiceImpl implements ReviewService {
                 .orElseThrow(() -> new NotFoundException("Review not found with ID: " + reviewId));
 
         reviewRepository.delete(review);
+        productResponseCache.evictAfterCommit(List.of(review.getProduct().getId()));
     }
 
     // ---------------------------------
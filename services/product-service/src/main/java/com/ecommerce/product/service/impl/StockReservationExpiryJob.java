@@ -0,0 +1,42 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.service.StockReservationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Returns the stock of reservations whose TTL has run out.
+ * Each batch is its own transaction; due rows are claimed with SKIP LOCKED, so several instances
+ * can run the job at the same time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockReservationExpiryJob {
+
+    private final StockReservationService stockReservationService;
+
+    @Value("${product.stock.reservation.expiry-batch-size:200}")
+    private int batchSize;
+
+    // Upper bound of batches per run, so one run cannot hold the scheduler thread indefinitely
+    @Value("${product.stock.reservation.expiry-max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${product.stock.reservation.expiry-interval-ms:10000}")
+    public void expireReservations() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            try {
+                if (stockReservationService.expireReservations(batchSize) < batchSize) {
+                    return;
+                }
+            } catch (RuntimeException ex) {
+                log.warn("Stock reservation expiry failed, retrying on the next run: {}", ex.getMessage());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.cache.ProductResponseCache;
+import com.ecommerce.product.dto.StockReservationDTO;
+import com.ecommerce.product.dto.StockReservationItemDTO;
+import com.ecommerce.product.dto.StockReservationRequest;
+import com.ecommerce.product.entity.StockReservation;
+import com.ecommerce.product.entity.StockReservationItem;
+import com.ecommerce.product.entity.StockReservationStatus;
+import com.ecommerce.product.exception.BadRequestException;
+import com.ecommerce.product.exception.InsufficientStockException;
+import com.ecommerce.product.exception.NotFoundException;
+import com.ecommerce.product.repository.StockReservationRepository;
+import com.ecommerce.product.service.ProductStockService;
+import com.ecommerce.product.service.StockReservationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Implementation of StockReservationService.
+ *
+ * Stock is taken through ProductStockService (product row or stripes).
+ * Stock rows are always locked in ascending product ID order (within a reservation and across
+ * reservations), so two multi-item reservations cannot deadlock on each other's products.
+ * A shortage aborts the transaction, which also undoes the items already taken.
+ *
+ * Metrics:
+ *   product.stock.reservations  reservation attempts, tagged by outcome (reserved, insufficient, retaken after expiry)
+ *   product.stock.released      reservations that gave their stock back, tagged by reason (released, expired)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductStockService productStockService;
+    private final ProductResponseCache productResponseCache;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${product.stock.reservation.default-ttl-seconds:900}")
+    private long defaultTtlSeconds;
+
+    @Value("${product.stock.reservation.max-ttl-seconds:86400}")
+    private long maxTtlSeconds;
+
+    // ----------------------------
+    // RESERVE
+    // ----------------------------
+    @Override
+    public StockReservationDTO reserve(StockReservationRequest request) {
+        Optional<StockReservation> existing = stockReservationRepository.findByReference(request.getReference());
+        if (existing.isPresent()) {
+            log.debug("Reservation {} already exists, returning it", request.getReference());
+            return toDTO(existing.get());
+        }
+
+        long ttlSeconds = request.getTtlSeconds() != null ? request.getTtlSeconds() : defaultTtlSeconds;
+        if (ttlSeconds > maxTtlSeconds) {
+            throw new BadRequestException("TTL cannot exceed " + maxTtlSeconds + " seconds.");
+        }
+
+        // Merge duplicate lines; TreeMap gives the ascending lock order
+        Map<Long, Integer> quantities = new TreeMap<>();
+        request.getItems().forEach(item -> quantities.merge(item.getProductId(), item.getQuantity(), Integer::sum));
+
+        LocalDateTime now = LocalDateTime.now();
+        StockReservation reservation = StockReservation.builder()
+                .reference(request.getReference())
+                .status(StockReservationStatus.RESERVED)
+                .expiresAt(now.plusSeconds(ttlSeconds))
+                .build();
+        // Claim the reference first: a concurrent duplicate waits on the unique index and fails before taking stock
+        stockReservationRepository.saveAndFlush(reservation);
+
+        quantities.forEach((productId, quantity) -> {
+            try {
+                productStockService.take(productId, quantity, now);
+            } catch (InsufficientStockException ex) {
+                meterRegistry.counter("product.stock.reservations", "outcome", "insufficient").increment();
+                throw ex;
+            }
+            reservation.getItems().add(StockReservationItem.builder()
+                    .reservation(reservation)
+                    .productId(productId)
+                    .quantity(quantity)
+                    .build());
+        });
+
+        productResponseCache.evictAfterCommit(quantities.keySet());
+        meterRegistry.counter("product.stock.reservations", "outcome", "reserved").increment();
+        log.info("Reserved stock for {}: {} products, expires at {}", reservation.getReference(), quantities.size(), reservation.getExpiresAt());
+        return toDTO(reservation);
+    }
+
+    // ----------------------------
+    // GET
+    // ----------------------------
+    @Override
+    @Transactional(readOnly = true)
+    public StockReservationDTO getReservation(String reference) {
+        return stockReservationRepository.findByReference(reference)
+                .map(this::toDTO)
+                .orElseThrow(() -> new NotFoundException("Reservation not found: " + reference));
+    }
+
+    // ----------------------------
+    // CONFIRM
+    // ----------------------------
+    @Override
+    public StockReservationDTO confirm(String reference) {
+        StockReservation reservation = lock(reference);
+        switch (reservation.getStatus()) {
+            case CONFIRMED -> {
+                return toDTO(reservation);
+            }
+            case RELEASED, EXPIRED -> throw new BadRequestException(
+                    "Reservation " + reference + " is " + reservation.getStatus() + " and cannot be confirmed.");
+            default -> {
+                // Past its TTL but not yet picked up by the expiry job: the stock may no longer be promised
+                if (!reservation.getExpiresAt().isAfter(LocalDateTime.now())) {
+                    throw new BadRequestException("Reservation " + reference + " has expired.");
+                }
+            }
+        }
+
+        reservation.setStatus(StockReservationStatus.CONFIRMED);
+        log.info("Confirmed reservation {}", reference);
+        return toDTO(reservation);
+    }
+
+    @Override
+    public StockReservationDTO confirmOrRetake(String reference) {
+        StockReservation reservation = lock(reference);
+        switch (reservation.getStatus()) {
+            case CONFIRMED -> {
+                return toDTO(reservation);
+            }
+            case RELEASED -> throw new BadRequestException(
+                    "Reservation " + reference + " is RELEASED and cannot be confirmed.");
+            case EXPIRED -> retake(reservation);
+            // Past its TTL or not, the row lock keeps the expiry job away: the stock is still held
+            default -> { }
+        }
+
+        reservation.setStatus(StockReservationStatus.CONFIRMED);
+        log.info("Confirmed reservation {}", reference);
+        return toDTO(reservation);
+    }
+
+    // ----------------------------
+    // RELEASE
+    // ----------------------------
+    @Override
+    public StockReservationDTO release(String reference) {
+        StockReservation reservation = lock(reference);
+        switch (reservation.getStatus()) {
+            case RELEASED, EXPIRED -> {
+                return toDTO(reservation);
+            }
+            case CONFIRMED -> throw new BadRequestException(
+                    "Reservation " + reference + " is already confirmed and cannot be released.");
+            default -> returnStock(reservation, StockReservationStatus.RELEASED);
+        }
+        log.info("Released reservation {}", reference);
+        return toDTO(reservation);
+    }
+
+    // ----------------------------
+    // EXPIRE
+    // ----------------------------
+    @Override
+    public int expireReservations(int limit) {
+        List<Long> ids = stockReservationRepository.lockExpired(LocalDateTime.now(), limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<StockReservation> reservations = stockReservationRepository.findAllByIdIn(ids);
+        reservations.forEach(reservation -> returnStock(reservation, StockReservationStatus.EXPIRED));
+        log.info("Expired {} stock reservations", reservations.size());
+        return reservations.size();
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private StockReservation lock(String reference) {
+        return stockReservationRepository.findByReferenceForUpdate(reference)
+                .orElseThrow(() -> new NotFoundException("Reservation not found: " + reference));
+    }
+
+    // A shortage aborts the transaction, which undoes the items already taken again
+    private void retake(StockReservation reservation) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockReservationItem> items = new ArrayList<>(reservation.getItems());
+        items.sort(Comparator.comparing(StockReservationItem::getProductId));
+        items.forEach(item -> productStockService.take(item.getProductId(), item.getQuantity(), now));
+
+        productResponseCache.evictAfterCommit(items.stream().map(StockReservationItem::getProductId).toList());
+        meterRegistry.counter("product.stock.reservations", "outcome", "retaken").increment();
+        log.warn("Reservation {} was confirmed after it expired, took its stock again", reservation.getReference());
+    }
+
+    private void returnStock(StockReservation reservation, StockReservationStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        List<StockReservationItem> items = new ArrayList<>(reservation.getItems());
+        items.sort(Comparator.comparing(StockReservationItem::getProductId));
+        items.forEach(item -> productStockService.giveBack(item.getProductId(), item.getQuantity(), now));
+
+        reservation.setStatus(status);
+        productResponseCache.evictAfterCommit(items.stream().map(StockReservationItem::getProductId).toList());
+        meterRegistry.counter("product.stock.released", "reason", status.name().toLowerCase()).increment();
+    }
+
+    private StockReservationDTO toDTO(StockReservation reservation) {
+        return StockReservationDTO.builder()
+                .id(reservation.getId())
+                .reference(reservation.getReference())
+                .status(reservation.getStatus())
+                .expiresAt(reservation.getExpiresAt())
+                .items(reservation.getItems().stream()
+                        .map(item -> StockReservationItemDTO.builder()
+                                .productId(item.getProductId())
+                                .quantity(item.getQuantity())
+                                .build())
+                        .toList())
+                .createdAt(reservation.getCreatedAt())
+                .updatedAt(reservation.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.repository.ProductStockStripeRepository;
+import com.ecommerce.product.service.ProductStockService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodically evens out the stripes of every striped product and refreshes products.stock_quantity,
+ * so stripes do not run dry one by one and row-based readers see a recent total.
+ * One short transaction per product.
+ *
+ * Metrics:
+ *   product.stock.stripe.rebalance  duration of a full pass
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StockStripeRebalanceJob {
+
+    private final ProductStockStripeRepository productStockStripeRepository;
+    private final ProductStockService productStockService;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${product.stock.striping.rebalance-interval-ms:5000}")
+    public void rebalance() {
+        List<Long> productIds = productStockStripeRepository.findStripedProductIds();
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        for (Long productId : productIds) {
+            try {
+                productStockService.rebalance(productId);
+            } catch (RuntimeException ex) {
+                log.warn("Rebalancing stock stripes of product ID={} failed: {}", productId, ex.getMessage());
+            }
+        }
+        sample.stop(meterRegistry.timer("product.stock.stripe.rebalance"));
+        log.debug("Rebalanced stock stripes of {} products", productIds.size());
+    }
+}
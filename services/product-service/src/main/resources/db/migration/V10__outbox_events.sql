@@ -0,0 +1,25 @@
+-- ===============================================================
+-- TRANSACTIONAL OUTBOX
+-- Events are written in the same transaction as the change that
+-- produced them and relayed to Kafka by a background job, so an
+-- event exists if and only if its change was committed.
+-- ===============================================================
+
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id           BIGINT       NOT NULL DEFAULT nextval('outbox_events_seq') PRIMARY KEY,
+    topic        VARCHAR(255) NOT NULL,
+    message_key  VARCHAR(255),
+    event_type   VARCHAR(100) NOT NULL,
+    aggregate_id BIGINT,
+    payload      TEXT         NOT NULL,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    created_at   TIMESTAMP(6) NOT NULL,
+    available_at TIMESTAMP(6) NOT NULL,  -- not relayed before this instant (retry backoff)
+    published_at TIMESTAMP(6)
+);
+
+-- The relay reads pending rows in id order; published rows drop out of the index
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending ON outbox_events (id) WHERE published_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_published_at ON outbox_events (published_at);
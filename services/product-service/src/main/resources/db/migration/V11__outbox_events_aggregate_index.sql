@@ -0,0 +1,7 @@
+-- ===============================================================
+-- OUTBOX COALESCING
+-- Updates look up the pending event of their product to merge into
+-- it; this keeps that lookup off the rest of the backlog.
+-- ===============================================================
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending_aggregate ON outbox_events (aggregate_id) WHERE published_at IS NULL;
@@ -0,0 +1,35 @@
+-- ===============================================================
+-- STOCK RESERVATIONS
+-- Stock is decremented with conditional UPDATEs
+-- (stock_quantity >= requested), so concurrent orders cannot
+-- oversell. A reservation holds the decremented stock until it is
+-- confirmed, released or expires.
+-- ===============================================================
+
+-- Optimistic locking for full product updates (JPA @Version)
+ALTER TABLE products ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE SEQUENCE IF NOT EXISTS stock_reservations_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS stock_reservation_items_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS stock_reservations (
+    id          BIGINT       NOT NULL DEFAULT nextval('stock_reservations_seq') PRIMARY KEY,
+    reference   VARCHAR(100) NOT NULL,
+    status      VARCHAR(20)  NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT uk_stock_reservations_reference UNIQUE (reference)
+);
+
+CREATE TABLE IF NOT EXISTS stock_reservation_items (
+    id             BIGINT  NOT NULL DEFAULT nextval('stock_reservation_items_seq') PRIMARY KEY,
+    reservation_id BIGINT  NOT NULL REFERENCES stock_reservations (id) ON DELETE CASCADE,
+    product_id     BIGINT  NOT NULL,  -- no FK: reservation history must not block product deletion
+    quantity       INTEGER NOT NULL CHECK (quantity > 0)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_reservation_items_reservation ON stock_reservation_items (reservation_id);
+
+-- The expiry job only scans reservations that still hold stock
+CREATE INDEX IF NOT EXISTS idx_stock_reservations_expiry ON stock_reservations (expires_at) WHERE status = 'RESERVED';
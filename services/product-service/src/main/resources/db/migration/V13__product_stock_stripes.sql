@@ -0,0 +1,24 @@
+-- ===============================================================
+-- STRIPED STOCK (hot SKUs)
+-- A striped product keeps its stock in N sub-rows, so concurrent
+-- decrements lock different rows instead of queueing on the product
+-- row. products.stock_quantity is then a consolidated copy, refreshed
+-- by the rebalance job; product_stock gives the live total.
+-- ===============================================================
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS stock_striped BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE TABLE IF NOT EXISTS product_stock_stripes (
+    product_id BIGINT   NOT NULL REFERENCES products (id) ON DELETE CASCADE,
+    stripe     SMALLINT NOT NULL,  -- 0 .. N-1
+    quantity   INTEGER  NOT NULL CHECK (quantity >= 0),
+    PRIMARY KEY (product_id, stripe)
+);
+
+CREATE OR REPLACE VIEW product_stock AS
+SELECT p.id AS product_id,
+       CASE WHEN p.stock_striped
+            THEN COALESCE((SELECT SUM(s.quantity) FROM product_stock_stripes s WHERE s.product_id = p.id), 0)
+            ELSE p.stock_quantity
+       END AS stock_quantity
+FROM products p;
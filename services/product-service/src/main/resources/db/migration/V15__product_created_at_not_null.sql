@@ -0,0 +1,11 @@
+-- ===============================================================
+-- NOT NULL SORT KEYS
+-- Cursor pages seek with key >= value on the (key, id) indexes of
+-- V3. NULL keys fall outside that range and would need a separate
+-- scan, so created_at becomes NOT NULL like price and name. Legacy
+-- rows without it take their update time, or sort as the oldest.
+-- ===============================================================
+
+UPDATE products SET created_at = COALESCE(updated_at, TIMESTAMP '1970-01-01 00:00:00') WHERE created_at IS NULL;
+
+ALTER TABLE products ALTER COLUMN created_at SET NOT NULL;
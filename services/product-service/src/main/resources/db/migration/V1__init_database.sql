@@ -0,0 +1,77 @@
+-- ===============================================================
+-- PRODUCT SERVICE - BASELINE SCHEMA
+-- Mirrors the JPA entities. Every statement is idempotent so it is
+-- safe on databases that were created through ddl-auto=update.
+-- ===============================================================
+
+CREATE TABLE IF NOT EXISTS categories (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    slug        VARCHAR(100) UNIQUE,
+    parent_id   BIGINT REFERENCES categories (id),
+    description VARCHAR(255),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    sku               VARCHAR(100)   NOT NULL UNIQUE,
+    name              VARCHAR(255)   NOT NULL,
+    slug              VARCHAR(255) UNIQUE,
+    description       TEXT,
+    short_description VARCHAR(500),
+    price             NUMERIC(10, 2) NOT NULL,
+    discount_price    NUMERIC(10, 2),
+    currency          VARCHAR(10),
+    stock_quantity    INTEGER        NOT NULL,
+    status            VARCHAR(30),
+    brand             VARCHAR(100),
+    weight            NUMERIC(10, 2),
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS product_category (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id       BIGINT  NOT NULL REFERENCES products (id),
+    category_id      BIGINT  NOT NULL REFERENCES categories (id),
+    display_order    INTEGER NOT NULL,
+    primary_category BOOLEAN NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS product_images (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id BIGINT       NOT NULL REFERENCES products (id),
+    image_url  VARCHAR(500) NOT NULL,
+    alt_text   VARCHAR(255),
+    is_primary BOOLEAN      NOT NULL,
+    position   INTEGER,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS product_attributes (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id      BIGINT       NOT NULL REFERENCES products (id),
+    attribute_name  VARCHAR(100) NOT NULL,
+    attribute_value VARCHAR(100) NOT NULL,
+    created_at      TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS reviews (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_id           BIGINT       NOT NULL REFERENCES products (id),
+    user_id              VARCHAR(255) NOT NULL,
+    rating               INTEGER      NOT NULL,
+    comment              TEXT,
+    is_verified_purchase BOOLEAN      NOT NULL,
+    created_at           TIMESTAMP(6),
+    updated_at           TIMESTAMP(6)
+);
+
+-- Foreign keys are not indexed automatically in PostgreSQL
+CREATE INDEX IF NOT EXISTS idx_product_category_product_id ON product_category (product_id);
+CREATE INDEX IF NOT EXISTS idx_product_images_product_id ON product_images (product_id);
+CREATE INDEX IF NOT EXISTS idx_product_attributes_product_id ON product_attributes (product_id);
+CREATE INDEX IF NOT EXISTS idx_reviews_product_id ON reviews (product_id);
+CREATE INDEX IF NOT EXISTS idx_categories_parent_id ON categories (parent_id);
@@ -0,0 +1,11 @@
+-- ===============================================================
+-- FULL-TEXT PRODUCT SEARCH
+-- Inverted (GIN) index over the weighted name/description document.
+-- The expression must stay identical to the one rendered by
+-- ProductSearchFunctionContributor, otherwise the planner will not use it.
+-- ===============================================================
+
+CREATE INDEX IF NOT EXISTS idx_products_search_document ON products USING GIN (
+    (setweight(to_tsvector('english', coalesce(name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B'))
+);
@@ -0,0 +1,9 @@
+-- ===============================================================
+-- KEYSET PAGINATION
+-- One (sort key, id) index per sort key accepted by cursor paging,
+-- so each page is an index range scan instead of OFFSET skipping.
+-- ===============================================================
+
+CREATE INDEX IF NOT EXISTS idx_products_created_at_id ON products (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_price_id ON products (price, id);
+CREATE INDEX IF NOT EXISTS idx_products_name_id ON products (name, id);
@@ -0,0 +1,18 @@
+-- ===============================================================
+-- DENORMALIZED PRIMARY IMAGE
+-- Listing pages read the thumbnail from the products row instead of
+-- scanning product_images. Kept in sync by the product/image services.
+-- ===============================================================
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS primary_image_url VARCHAR(500);
+
+-- Backfill: primary image first, otherwise the lowest position
+UPDATE products p
+SET primary_image_url = (
+    SELECT i.image_url
+    FROM product_images i
+    WHERE i.product_id = p.id
+    ORDER BY i.is_primary DESC, i.position NULLS LAST, i.id
+    LIMIT 1
+)
+WHERE p.primary_image_url IS NULL;
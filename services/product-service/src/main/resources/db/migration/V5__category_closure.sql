@@ -0,0 +1,26 @@
+-- ===============================================================
+-- CATEGORY CLOSURE TABLE
+-- One row per (ancestor, descendant) pair, including the (id, id)
+-- self row at depth 0. Maintained by CategoryServiceImpl.
+-- ===============================================================
+
+CREATE TABLE IF NOT EXISTS category_closure (
+    ancestor_id   BIGINT  NOT NULL REFERENCES categories (id) ON DELETE CASCADE,
+    descendant_id BIGINT  NOT NULL REFERENCES categories (id) ON DELETE CASCADE,
+    depth         INTEGER NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_category_closure_descendant ON category_closure (descendant_id, ancestor_id);
+
+-- Backfill from the existing parent_id hierarchy
+INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM categories
+    UNION ALL
+    SELECT p.ancestor_id, c.id, p.depth + 1
+    FROM paths p
+    JOIN categories c ON c.parent_id = p.descendant_id
+)
+SELECT ancestor_id, descendant_id, depth FROM paths
+ON CONFLICT DO NOTHING;
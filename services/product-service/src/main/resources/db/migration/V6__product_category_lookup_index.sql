@@ -0,0 +1,8 @@
+-- ===============================================================
+-- CATEGORY SEARCH
+-- Search expands a category into its descendant set and tests
+-- membership with category_id IN (...). This index serves that
+-- lookup from the category side and covers the product_id probe.
+-- ===============================================================
+
+CREATE INDEX IF NOT EXISTS idx_product_category_category_product ON product_category (category_id, product_id);
@@ -0,0 +1,20 @@
+-- ===============================================================
+-- BULK PRODUCT IMPORT
+-- One row per import run. processed_records is the checkpoint:
+-- it is updated in the same transaction as each written batch,
+-- so a resumed run continues exactly after the last committed one.
+-- ===============================================================
+
+CREATE TABLE IF NOT EXISTS product_import_jobs (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    format            VARCHAR(20) NOT NULL,
+    status            VARCHAR(20) NOT NULL,
+    processed_records BIGINT      NOT NULL DEFAULT 0,
+    imported_records  BIGINT      NOT NULL DEFAULT 0,
+    skipped_records   BIGINT      NOT NULL DEFAULT 0,
+    failed_records    BIGINT      NOT NULL DEFAULT 0,
+    last_error        VARCHAR(1000),
+    started_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    completed_at      TIMESTAMP(6)
+);
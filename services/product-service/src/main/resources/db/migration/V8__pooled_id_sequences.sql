@@ -0,0 +1,40 @@
+-- ===============================================================
+-- POOLED ID SEQUENCES
+-- Catalog entities move from IDENTITY columns to sequences that
+-- hand out blocks of 50 IDs (Hibernate pooled optimizer, block
+-- [value - 49, value]). Hibernate can then assign IDs without an
+-- INSERT per row and send inserts as JDBC batches.
+--
+-- Each sequence continues after the highest existing ID; the
+-- column default keeps hand-written INSERTs working.
+-- ===============================================================
+
+CREATE SEQUENCE IF NOT EXISTS categories_seq INCREMENT BY 50;
+SELECT setval('categories_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM categories), false);
+ALTER TABLE categories ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE categories ALTER COLUMN id SET DEFAULT nextval('categories_seq');
+
+CREATE SEQUENCE IF NOT EXISTS products_seq INCREMENT BY 50;
+SELECT setval('products_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM products), false);
+ALTER TABLE products ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE products ALTER COLUMN id SET DEFAULT nextval('products_seq');
+
+CREATE SEQUENCE IF NOT EXISTS product_category_seq INCREMENT BY 50;
+SELECT setval('product_category_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM product_category), false);
+ALTER TABLE product_category ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE product_category ALTER COLUMN id SET DEFAULT nextval('product_category_seq');
+
+CREATE SEQUENCE IF NOT EXISTS product_images_seq INCREMENT BY 50;
+SELECT setval('product_images_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM product_images), false);
+ALTER TABLE product_images ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE product_images ALTER COLUMN id SET DEFAULT nextval('product_images_seq');
+
+CREATE SEQUENCE IF NOT EXISTS product_attributes_seq INCREMENT BY 50;
+SELECT setval('product_attributes_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM product_attributes), false);
+ALTER TABLE product_attributes ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE product_attributes ALTER COLUMN id SET DEFAULT nextval('product_attributes_seq');
+
+CREATE SEQUENCE IF NOT EXISTS reviews_seq INCREMENT BY 50;
+SELECT setval('reviews_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM reviews), false);
+ALTER TABLE reviews ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE reviews ALTER COLUMN id SET DEFAULT nextval('reviews_seq');
@@ -0,0 +1,8 @@
+-- ===============================================================
+-- INCREMENTAL EXPORT
+-- The export filters on COALESCE(updated_at, created_at) (rows
+-- that were never updated only have created_at). An expression
+-- index keeps nightly incremental exports from scanning the table.
+-- ===============================================================
+
+CREATE INDEX IF NOT EXISTS idx_products_modified_at ON products ((COALESCE(updated_at, created_at)));
@@ -0,0 +1,110 @@
+package com.ecommerce.product.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductChangeTrackerTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ProductChangeTracker tracker = new ProductChangeTracker(objectMapper);
+
+    @Test
+    void diff_comparesNumbersByValue() {
+        ObjectNode changes = tracker.diff(
+                product(new BigDecimal("10.5"), 3, List.of()),
+                product(new BigDecimal("10.50"), 3, List.of()));
+
+        assertThat(changes.isEmpty()).isTrue();
+    }
+
+    @Test
+    void diff_reportsChangedFieldsOnly() {
+        ObjectNode changes = tracker.diff(
+                product(new BigDecimal("19.99"), 3, List.of()),
+                product(new BigDecimal("17.49"), 3, List.of()));
+
+        assertThat(changes.size()).isEqualTo(1);
+        assertThat(changes.get("price").get(ProductChangeTracker.FROM).decimalValue()).isEqualByComparingTo("19.99");
+        assertThat(changes.get("price").get(ProductChangeTracker.TO).decimalValue()).isEqualByComparingTo("17.49");
+    }
+
+    @Test
+    void diff_ignoresCollectionOrderAndElementIdentity() {
+        ObjectNode changes = tracker.diff(
+                product(BigDecimal.TEN, 3, List.of(image(1L, "/a.png"), image(2L, "/b.png"))),
+                product(BigDecimal.TEN, 3, List.of(image(7L, "/b.png"), image(8L, "/a.png"))));
+
+        assertThat(changes.isEmpty()).isTrue();
+    }
+
+    @Test
+    void diff_carriesCompleteNewContentOfChangedCollection() {
+        ObjectNode changes = tracker.diff(
+                product(BigDecimal.TEN, 3, List.of(image(1L, "/a.png"))),
+                product(BigDecimal.TEN, 3, List.of(image(1L, "/a.png"), image(2L, "/b.png"))));
+
+        assertThat(changes.get("images").get(ProductChangeTracker.TO)).hasSize(2);
+    }
+
+    @Test
+    void merge_keepsFirstFromAndLastTo() {
+        ObjectNode first = tracker.diff(product(new BigDecimal("20.00"), 3, List.of()), product(new BigDecimal("18.00"), 3, List.of()));
+        ObjectNode second = tracker.diff(product(new BigDecimal("18.00"), 3, List.of()), product(new BigDecimal("15.00"), 5, List.of()));
+
+        ObjectNode merged = tracker.merge(first, second);
+
+        assertThat(merged.get("price").get(ProductChangeTracker.FROM).decimalValue()).isEqualByComparingTo("20.00");
+        assertThat(merged.get("price").get(ProductChangeTracker.TO).decimalValue()).isEqualByComparingTo("15.00");
+        assertThat(merged.get("stockQuantity").get(ProductChangeTracker.FROM).intValue()).isEqualTo(3);
+        assertThat(merged.get("stockQuantity").get(ProductChangeTracker.TO).intValue()).isEqualTo(5);
+    }
+
+    @Test
+    void merge_dropsFieldsThatCancelOut() {
+        ObjectNode first = tracker.diff(product(new BigDecimal("20.00"), 3, List.of()), product(new BigDecimal("18.00"), 4, List.of()));
+        ObjectNode second = tracker.diff(product(new BigDecimal("18.00"), 4, List.of()), product(new BigDecimal("20.0"), 5, List.of()));
+
+        ObjectNode merged = tracker.merge(first, second);
+
+        assertThat(merged.has("price")).isFalse();
+        assertThat(merged.has("stockQuantity")).isTrue();
+    }
+
+    @Test
+    void merge_becomesEmptyWhenEverythingCancelsOut() {
+        ObjectNode first = tracker.diff(product(new BigDecimal("20.00"), 3, List.of()), product(new BigDecimal("18.00"), 4, List.of()));
+        ObjectNode second = tracker.diff(product(new BigDecimal("18.00"), 4, List.of()), product(new BigDecimal("20.00"), 3, List.of()));
+
+        assertThat(tracker.merge(first, second).isEmpty()).isTrue();
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private Map<String, Object> product(BigDecimal price, int stockQuantity, List<Map<String, Object>> images) {
+        Map<String, Object> product = new LinkedHashMap<>();
+        product.put("id", 1L);
+        product.put("name", "Phone");
+        product.put("price", price);
+        product.put("stockQuantity", stockQuantity);
+        product.put("images", images);
+        product.put("updatedAt", String.valueOf(System.nanoTime()));
+        return product;
+    }
+
+    private Map<String, Object> image(Long id, String url) {
+        Map<String, Object> image = new LinkedHashMap<>();
+        image.put("id", id);
+        image.put("imageUrl", url);
+        image.put("createdAt", String.valueOf(System.nanoTime()));
+        return image;
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.product.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductEventDispatcherTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    @Test
+    void async_handlesEventsOfOneProductInPublicationOrder() throws InterruptedException {
+        int products = 20;
+        int eventsPerProduct = 200;
+        Map<Long, List<Integer>> received = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(products * eventsPerProduct);
+        dispatcher = dispatcher(event -> {
+            received.computeIfAbsent(event.getProductId(), id -> new CopyOnWriteArrayList<>())
+                    .add((Integer) event.getPayload());
+            done.countDown();
+        }, 4, 10_000, ProductEventDispatcher.OverflowPolicy.BLOCK);
+
+        for (int sequence = 0; sequence < eventsPerProduct; sequence++) {
+            for (long productId = 1; productId <= products; productId++) {
+                dispatcher.dispatch(event(productId, sequence));
+            }
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).hasSize(products);
+        received.values().forEach(sequences -> assertThat(sequences).isSorted().hasSize(eventsPerProduct));
+    }
+
+    @Test
+    void block_waitsForSpaceThenDrops() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        dispatcher = dispatcher(blockingHandler(release, handled), 1, 1, ProductEventDispatcher.OverflowPolicy.BLOCK);
+
+        dispatcher.dispatch(event(1L, 0)); // running, blocked in the handler
+        waitUntilQueueEmpty();
+        dispatcher.dispatch(event(1L, 1)); // queued
+        long startedAt = System.nanoTime();
+        dispatcher.dispatch(event(1L, 2)); // no space within the timeout
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(50);
+
+        release.countDown();
+        dispatcher.stop();
+        assertThat(handled).containsExactly(0, 1);
+        assertThat(meterRegistry.counter("product.events.dispatch.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void drop_dropsImmediatelyWhenQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        dispatcher = dispatcher(blockingHandler(release, handled), 1, 1, ProductEventDispatcher.OverflowPolicy.DROP);
+
+        dispatcher.dispatch(event(1L, 0));
+        waitUntilQueueEmpty();
+        dispatcher.dispatch(event(1L, 1));
+        dispatcher.dispatch(event(1L, 2));
+        dispatcher.dispatch(event(1L, 3));
+
+        release.countDown();
+        dispatcher.stop();
+        assertThat(handled).containsExactly(0, 1);
+        assertThat(meterRegistry.counter("product.events.dispatch.dropped").count()).isEqualTo(2);
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+    private ProductEventDispatcher dispatcher(ProductEventHandler handler, int workers, int queueCapacity,
+                                              ProductEventDispatcher.OverflowPolicy overflowPolicy) {
+        ProductEventDispatcher created = new ProductEventDispatcher(List.of(handler), meterRegistry);
+        ReflectionTestUtils.setField(created, "mode", ProductEventDispatcher.Mode.ASYNC);
+        ReflectionTestUtils.setField(created, "workers", workers);
+        ReflectionTestUtils.setField(created, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(created, "overflowPolicy", overflowPolicy);
+        ReflectionTestUtils.setField(created, "blockTimeoutMs", 50L);
+        created.start();
+        return created;
+    }
+
+    private ProductEventHandler blockingHandler(CountDownLatch release, List<Integer> handled) {
+        return event -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            handled.add((Integer) event.getPayload());
+        };
+    }
+
+    // The first event has left the queue, i.e. the single worker is busy with it
+    @SuppressWarnings("unchecked")
+    private void waitUntilQueueEmpty() throws InterruptedException {
+        List<ThreadPoolExecutor> executors = (List<ThreadPoolExecutor>) ReflectionTestUtils.getField(dispatcher, "executors");
+        while (!executors.get(0).getQueue().isEmpty()) {
+            Thread.sleep(1);
+        }
+    }
+
+    private ProductEvent event(Long productId, int sequence) {
+        return ProductEvent.builder()
+                .productId(productId)
+                .eventType("PRODUCT_UPDATED")
+                .payload(sequence)
+                .build();
+    }
+}
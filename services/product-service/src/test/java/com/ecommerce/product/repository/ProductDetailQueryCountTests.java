@@ -0,0 +1,130 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.entity.*;
+import com.ecommerce.product.mapper.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the number of SQL statements needed to render a product detail page
+ * (GET /api/products/{id}, /slug/{slug} and the SKU lookup).
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+        ProductMapperImpl.class,
+        CategoryMapperImpl.class,
+        ProductImageMapperImpl.class,
+        ProductAttributeMapperImpl.class,
+        ReviewMapperImpl.class
+})
+class ProductDetailQueryCountTests {
+
+    // product row + categories (entity graph), images, attributes, reviews
+    private static final long MAX_DETAIL_STATEMENTS = 4;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        Category electronics = persistCategory("Electronics", "electronics");
+        Category phones = persistCategory("Phones", "phones");
+
+        product = Product.builder()
+                .sku("SKU-001")
+                .name("Phone")
+                .slug("phone")
+                .description("A phone")
+                .price(new BigDecimal("499.00"))
+                .currency("USD")
+                .stockQuantity(10)
+                .status(ProductStatus.ACTIVE)
+                .productCategories(new HashSet<>())
+                .images(new HashSet<>())
+                .attributes(new HashSet<>())
+                .reviews(new HashSet<>())
+                .build();
+
+        for (Category category : new Category[]{electronics, phones}) {
+            product.getProductCategories().add(ProductCategory.builder().product(product).category(category).build());
+        }
+        for (int i = 0; i < 3; i++) {
+            product.getImages().add(ProductImage.builder()
+                    .product(product).imageUrl("/img/" + i + ".png").isPrimary(i == 0).position(i).build());
+            product.getAttributes().add(ProductAttribute.builder()
+                    .product(product).attributeName("attr-" + i).attributeValue("value-" + i).build());
+            product.getReviews().add(Review.builder()
+                    .product(product).userId("user-" + i).rating(5).comment("Great").build());
+        }
+
+        entityManager.persist(product);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void detailById_loadsAggregateInBoundedQueries() {
+        assertBounded(() -> productRepository.findWithDetailsById(product.getId()));
+    }
+
+    @Test
+    void detailBySlug_loadsAggregateInBoundedQueries() {
+        assertBounded(() -> productRepository.findWithDetailsBySlug("phone"));
+    }
+
+    @Test
+    void detailBySku_loadsAggregateInBoundedQueries() {
+        assertBounded(() -> productRepository.findWithDetailsBySku("SKU-001"));
+    }
+
+    private void assertBounded(Supplier<Optional<Product>> lookup) {
+        ProductResponse response = productMapper.toProductResponse(lookup.get().orElseThrow());
+
+        assertThat(response.getCategories()).hasSize(2);
+        assertThat(response.getImages()).hasSize(3);
+        assertThat(response.getAttributes()).hasSize(3);
+        assertThat(response.getReviews()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_DETAIL_STATEMENTS);
+    }
+
+    private Category persistCategory(String name, String slug) {
+        Category category = Category.builder()
+                .name(name)
+                .slug(slug)
+                .subcategories(new HashSet<>())
+                .productCategories(new HashSet<>())
+                .build();
+        entityManager.persist(category);
+        return category;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards JDBC insert batching for a full product aggregate (product, category link, 10 images, 20 attributes).
+ * With IDENTITY keys every row needed its own INSERT statement (32 here); pooled sequences let Hibernate
+ * send one batch per table plus a few sequence calls.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+class ProductInsertBatchingTests {
+
+    // products, product_category, product_images, product_attributes + up to two calls per sequence
+    // (the pooled optimizer reads twice on first use of a fresh sequence)
+    private static final long MAX_INSERT_STATEMENTS = 12;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void savingProductAggregate_batchesInsertsPerTable() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        Category category = Category.builder()
+                .name("Phones")
+                .slug("phones")
+                .subcategories(new HashSet<>())
+                .productCategories(new HashSet<>())
+                .build();
+        entityManager.persist(category);
+        entityManager.flush();
+        statistics.clear();
+
+        Product product = Product.builder()
+                .sku("SKU-BATCH")
+                .name("Phone")
+                .slug("phone-batch")
+                .price(new BigDecimal("499.00"))
+                .currency("USD")
+                .stockQuantity(10)
+                .status(ProductStatus.ACTIVE)
+                .productCategories(new HashSet<>())
+                .images(new HashSet<>())
+                .attributes(new HashSet<>())
+                .reviews(new HashSet<>())
+                .build();
+        product.getProductCategories().add(ProductCategory.builder().product(product).category(category).build());
+        for (int i = 0; i < 10; i++) {
+            product.getImages().add(ProductImage.builder()
+                    .product(product).imageUrl("/img/" + i + ".png").isPrimary(i == 0).position(i).build());
+        }
+        for (int i = 0; i < 20; i++) {
+            product.getAttributes().add(ProductAttribute.builder()
+                    .product(product).attributeName("attr-" + i).attributeValue("value-" + i).build());
+        }
+
+        productRepository.saveAndFlush(product);
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(32);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_INSERT_STATEMENTS);
+    }
+}
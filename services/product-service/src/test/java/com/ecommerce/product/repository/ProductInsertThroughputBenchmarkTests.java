@@ -0,0 +1,158 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.*;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput for a full product aggregate (product, category link, 10 images, 20 attributes), one
+ * aggregate per transaction as ProductService.createProduct saves it. "Unbatched" sets the session's JDBC
+ * batch size to 1, which sends one INSERT round trip per row like the IDENTITY mapping did; "batched" uses
+ * the configured batch size, insert ordering and reWriteBatchedInserts from product-service.yml. The log
+ * line reports aggregates/sec of each.
+ *
+ * Runs against PostgreSQL in a container, so the numbers are comparable between runs on one machine,
+ * not a capacity figure for production. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductInsertThroughputBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductInsertThroughputBenchmarkTests.class);
+
+    private static final int IMAGES_PER_PRODUCT = 10;
+    private static final int ATTRIBUTES_PER_PRODUCT = 20;
+    private static final int WARMUP_PRODUCTS = 200;
+    private static final int MEASURED_PRODUCTS = 1_000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Category category;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        category = transactionTemplate.execute(status -> {
+            Category phones = Category.builder()
+                    .name("Phones")
+                    .slug("phones")
+                    .subcategories(new HashSet<>())
+                    .productCategories(new HashSet<>())
+                    .build();
+            entityManager.persist(phones);
+            return phones;
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        for (String table : new String[]{"product_attributes", "product_images", "product_category", "products",
+                "category_closure", "categories"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void productAggregate_batchedVersusUnbatched() {
+        double unbatched = measure(1);
+        double batched = measure(null);
+
+        long expected = 2L * (WARMUP_PRODUCTS + MEASURED_PRODUCTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM products", Long.class)).isEqualTo(expected);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM product_attributes", Long.class))
+                .isEqualTo(expected * ATTRIBUTES_PER_PRODUCT);
+
+        log.info("Product with {} images and {} attributes: unbatched={} products/s, batched={} products/s ({}x)",
+                IMAGES_PER_PRODUCT, ATTRIBUTES_PER_PRODUCT, Math.round(unbatched), Math.round(batched),
+                String.format("%.1f", batched / unbatched));
+    }
+
+    // Products per second; a null batch size keeps the configured one
+    private double measure(Integer jdbcBatchSize) {
+        for (int i = 0; i < WARMUP_PRODUCTS; i++) {
+            save(jdbcBatchSize);
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURED_PRODUCTS; i++) {
+            save(jdbcBatchSize);
+        }
+        return MEASURED_PRODUCTS / ((System.nanoTime() - startedAt) / 1_000_000_000d);
+    }
+
+    private void save(Integer jdbcBatchSize) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            entityManager.persist(product(++sequence));
+        });
+    }
+
+    private Product product(int n) {
+        Product product = Product.builder()
+                .sku("SKU-INS-" + n)
+                .name("Phone " + n)
+                .slug("phone-ins-" + n)
+                .price(new BigDecimal("499.00"))
+                .currency("USD")
+                .stockQuantity(10)
+                .status(ProductStatus.ACTIVE)
+                .productCategories(new HashSet<>())
+                .images(new HashSet<>())
+                .attributes(new HashSet<>())
+                .reviews(new HashSet<>())
+                .build();
+        product.getProductCategories().add(ProductCategory.builder().product(product)
+                .category(entityManager.getReference(Category.class, category.getId())).build());
+        for (int i = 0; i < IMAGES_PER_PRODUCT; i++) {
+            product.getImages().add(ProductImage.builder()
+                    .product(product).imageUrl("/img/" + n + "-" + i + ".png").isPrimary(i == 0).position(i).build());
+        }
+        for (int i = 0; i < ATTRIBUTES_PER_PRODUCT; i++) {
+            product.getAttributes().add(ProductAttribute.builder()
+                    .product(product).attributeName("attr-" + i).attributeValue("value-" + i).build());
+        }
+        return product;
+    }
+}
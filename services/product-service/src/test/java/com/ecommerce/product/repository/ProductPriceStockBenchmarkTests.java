@@ -0,0 +1,111 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch price update: the single unnest statement of ProductPriceStockRepository against the aggregate
+ * path it replaces (load each product, change the price, flush). Both write the same SKUs in one
+ * transaction; the log line reports rows/sec of each.
+ *
+ * Runs against PostgreSQL in a container, so the numbers are comparable between runs on one machine,
+ * not a capacity figure for production. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductPriceStockBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPriceStockBenchmarkTests.class);
+
+    private static final int PRODUCTS = 2_000;
+    private static final int ROUNDS = 5;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void batchStatement_versusAggregateUpdates() {
+        List<String> skus = IntStream.range(0, PRODUCTS).mapToObj(i -> "SKU-BENCH-" + i).toList();
+        productRepository.saveAll(skus.stream()
+                .map(sku -> ProductPriceStockRepositoryTests.product(sku, "10.00", 1))
+                .toList());
+
+        ProductPriceStockRepository repository = new ProductPriceStockRepository(new JdbcTemplate(dataSource));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        long aggregateNanos = 0;
+        long batchNanos = 0;
+        for (int round = 1; round <= ROUNDS; round++) {
+            BigDecimal aggregatePrice = BigDecimal.valueOf(round * 2L);
+            long startedAt = System.nanoTime();
+            transaction.executeWithoutResult(status -> skus.forEach(sku -> {
+                Product product = productRepository.findBySku(sku).orElseThrow();
+                product.setPrice(aggregatePrice);
+            }));
+            aggregateNanos += System.nanoTime() - startedAt;
+
+            BigDecimal batchPrice = BigDecimal.valueOf(round * 2L + 1);
+            List<BigDecimal> prices = skus.stream().map(sku -> batchPrice).toList();
+            List<BigDecimal> discountPrices = skus.stream().map(sku -> (BigDecimal) null).toList();
+            startedAt = System.nanoTime();
+            Integer changed = transaction.execute(status ->
+                    repository.updatePrices(skus, prices, discountPrices, LocalDateTime.now()).size());
+            batchNanos += System.nanoTime() - startedAt;
+
+            assertThat(changed).isEqualTo(PRODUCTS);
+        }
+
+        double aggregateRate = rowsPerSecond(aggregateNanos);
+        double batchRate = rowsPerSecond(batchNanos);
+        log.info("Batch price update of {} products x {} rounds: aggregate={} rows/s, single statement={} rows/s ({}x)",
+                PRODUCTS, ROUNDS, Math.round(aggregateRate), Math.round(batchRate),
+                String.format("%.1f", batchRate / aggregateRate));
+    }
+
+    private double rowsPerSecond(long nanos) {
+        return (double) PRODUCTS * ROUNDS / Math.max(nanos / 1_000_000_000d, 0.001);
+    }
+}
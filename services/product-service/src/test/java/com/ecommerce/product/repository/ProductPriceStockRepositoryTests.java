@@ -0,0 +1,195 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.dto.BatchUpdateResultDTO;
+import com.ecommerce.product.dto.PriceUpdateRequest;
+import com.ecommerce.product.dto.StockUpdateRequest;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.entity.ProductStatus;
+import com.ecommerce.product.event.ProductChangeTracker;
+import com.ecommerce.product.repository.ProductPriceStockRepository.PriceStockChange;
+import com.ecommerce.product.service.EventPublisherService;
+import com.ecommerce.product.service.ProductStockService;
+import com.ecommerce.product.service.impl.ProductPriceStockServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The price/stock fast path runs PostgreSQL-only SQL (unnest over array parameters, UPDATE ... RETURNING
+ * with a locking CTE), so it is tested against a real PostgreSQL with the Flyway schema.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductPriceStockRepositoryTests {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private ProductPriceStockRepository productPriceStockRepository;
+
+    @BeforeEach
+    void setUp() {
+        productPriceStockRepository = new ProductPriceStockRepository(countingJdbcTemplate());
+        productRepository.saveAll(List.of(
+                product("SKU-A", "10.00", 5),
+                product("SKU-B", "20.00", 7),
+                product("SKU-C", "30.00", 9)));
+        statements.set(0);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void updatePrices_returnsOnlyChangedRowsWithPreviousValues() {
+        // SKU-B is already at the requested price (different scale), SKU-X does not exist
+        List<PriceStockChange> changes = productPriceStockRepository.updatePrices(
+                List.of("SKU-A", "SKU-B", "SKU-X"),
+                Arrays.asList(new BigDecimal("12.50"), new BigDecimal("20.0"), new BigDecimal("1.00")),
+                Arrays.asList(null, null, null),
+                LocalDateTime.now());
+
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.sku()).isEqualTo("SKU-A");
+            assertThat(change.previousPrice()).isEqualByComparingTo("10.00");
+            assertThat(change.price()).isEqualByComparingTo("12.50");
+        });
+        assertThat(statements.get()).isEqualTo(1);
+        assertThat(productRepository.findBySku("SKU-B").orElseThrow().getVersion()).isZero();
+    }
+
+    @Test
+    void updateStock_largeBatchIsOneStatement() {
+        List<String> skus = new ArrayList<>(List.of("SKU-A", "SKU-B", "SKU-C"));
+        IntStream.range(0, 2_000).forEach(i -> skus.add("SKU-MISSING-" + i));
+        List<Integer> stock = skus.stream().map(sku -> 42).toList();
+
+        List<PriceStockChange> changes = productPriceStockRepository.updateStock(skus, stock, LocalDateTime.now());
+
+        assertThat(changes).extracting(PriceStockChange::sku).containsExactlyInAnyOrder("SKU-A", "SKU-B", "SKU-C");
+        assertThat(changes).extracting(PriceStockChange::previousStockQuantity).containsExactlyInAnyOrder(5, 7, 9);
+        assertThat(statements.get()).isEqualTo(1);
+    }
+
+    @Test
+    void updatePrice_byIdSkipsUnchangedRow() {
+        Long id = productRepository.findBySku("SKU-A").orElseThrow().getId();
+
+        assertThat(productPriceStockRepository.updatePrice(id, new BigDecimal("10.0"), null, LocalDateTime.now())).isEmpty();
+        assertThat(productPriceStockRepository.updatePrice(id, new BigDecimal("11.00"), null, LocalDateTime.now()))
+                .hasValueSatisfying(change -> assertThat(change.previousPrice()).isEqualByComparingTo("10.00"));
+    }
+
+    @Test
+    void batchResult_separatesUnknownFromUnchangedSkus() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        ProductPriceStockServiceImpl service = new ProductPriceStockServiceImpl(
+                productPriceStockRepository,
+                new ProductBulkInsertRepository(new JdbcTemplate(dataSource)),
+                mock(ProductStockService.class),
+                mock(EventPublisherService.class),
+                new ProductChangeTracker(objectMapper),
+                new SimpleMeterRegistry());
+
+        BatchUpdateResultDTO result = service.updatePrices(List.of(
+                PriceUpdateRequest.builder().sku("SKU-A").price(new BigDecimal("11.00")).build(),
+                PriceUpdateRequest.builder().sku("SKU-B").price(new BigDecimal("20.00")).build(),
+                PriceUpdateRequest.builder().sku("SKU-X").price(new BigDecimal("5.00")).build(),
+                // Last entry per SKU wins
+                PriceUpdateRequest.builder().sku("SKU-C").price(new BigDecimal("99.00")).build(),
+                PriceUpdateRequest.builder().sku("SKU-C").price(new BigDecimal("30.00")).build()));
+
+        assertThat(result.getRequested()).isEqualTo(4);
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnchanged()).isEqualTo(2);
+        assertThat(result.getUnknownSkus()).containsExactly("SKU-X");
+
+        BatchUpdateResultDTO stock = service.updateStock(List.of(
+                StockUpdateRequest.builder().sku("SKU-A").stockQuantity(5).build(),
+                StockUpdateRequest.builder().sku("SKU-Y").stockQuantity(1).build()));
+        assertThat(stock.getUpdated()).isZero();
+        assertThat(stock.getUnchanged()).isEqualTo(1);
+        assertThat(stock.getUnknownSkus()).containsExactly("SKU-Y");
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+
+    // Counts statements prepared through the repository's JdbcTemplate
+    private JdbcTemplate countingJdbcTemplate() {
+        return new JdbcTemplate(new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().startsWith("prepare") || method.getName().equals("createStatement")) {
+                                statements.incrementAndGet();
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException ex) {
+                                throw ex.getCause();
+                            }
+                        });
+            }
+        });
+    }
+
+    static Product product(String sku, String price, int stockQuantity) {
+        return Product.builder()
+                .sku(sku)
+                .name("Product " + sku)
+                .slug(sku.toLowerCase(Locale.ROOT))
+                .price(new BigDecimal(price))
+                .currency("USD")
+                .stockQuantity(stockQuantity)
+                .status(ProductStatus.ACTIVE)
+                .productCategories(new HashSet<>())
+                .images(new HashSet<>())
+                .attributes(new HashSet<>())
+                .reviews(new HashSet<>())
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Search result pages of 100: the summary projection (one query into ProductSummaryDTO) against the
+ * entity path it replaced (load Product entities, then each product's image set to find the primary one).
+ * Images are batch fetched by @BatchSize on Product.images, so the entity path is measured at its best: two image
+ * queries per page rather than one per row. The log line reports the mean latency and the heap allocated
+ * per page of each.
+ *
+ * Runs against PostgreSQL in a container, so the numbers are comparable between runs on one machine,
+ * not a capacity figure for production. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductSearchProjectionBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchProjectionBenchmarkTests.class);
+
+    private static final int PRODUCTS = 5_000;
+    private static final int IMAGES_PER_PRODUCT = 4;
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_PAGES = 20;
+    private static final int MEASURED_PAGES = 50;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("""
+                INSERT INTO products (sku, name, slug, description, price, currency, stock_quantity, status, brand,
+                                      primary_image_url, created_at)
+                SELECT 'SKU-' || g, 'Product ' || g, 'product-' || g, repeat('Long description. ', 50),
+                       10 + (g % 90), 'USD', 5, 'ACTIVE', 'Brand ' || (g % 20), '/img/' || g || '-0.png',
+                       TIMESTAMP '2024-01-01 00:00:00' + g * INTERVAL '1 minute'
+                FROM generate_series(1, ?) g
+                """, PRODUCTS);
+        jdbcTemplate.update("""
+                INSERT INTO product_images (product_id, image_url, alt_text, is_primary, position, created_at)
+                SELECT p.id, '/img/' || substr(p.sku, 5) || '-' || i || '.png', 'Image ' || i, i = 0, i, now()
+                FROM products p CROSS JOIN generate_series(0, ? - 1) i
+                """, IMAGES_PER_PRODUCT);
+        jdbcTemplate.execute("ANALYZE");
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM product_images");
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    void summaryProjection_versusEntityPage() {
+        Specification<Product> all = (root, query, cb) -> null;
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+
+        Measurement entities = measure(page -> productRepository.findAll(all, PageRequest.of(page, PAGE_SIZE, sort))
+                .map(ProductSearchProjectionBenchmarkTests::toSummary)
+                .getContent());
+        Measurement projection = measure(page -> productRepository.findSummaries(all, PageRequest.of(page, PAGE_SIZE, sort))
+                .getContent());
+
+        log.info("Search page of {}: entities + images={} ms, {} KB/page; projection={} ms, {} KB/page ({}x faster, {}x less allocation)",
+                PAGE_SIZE,
+                String.format("%.2f", entities.millisPerPage()), entities.bytesPerPage() / 1024,
+                String.format("%.2f", projection.millisPerPage()), projection.bytesPerPage() / 1024,
+                String.format("%.1f", entities.millisPerPage() / projection.millisPerPage()),
+                String.format("%.1f", (double) entities.bytesPerPage() / Math.max(projection.bytesPerPage(), 1)));
+    }
+
+    private Measurement measure(PageLoader loader) {
+        for (int page = 0; page < WARMUP_PAGES; page++) {
+            load(loader, page);
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long startedAt = System.nanoTime();
+        for (int page = 0; page < MEASURED_PAGES; page++) {
+            List<ProductSummaryDTO> rows = load(loader, page);
+            assertThat(rows).hasSize(PAGE_SIZE).allSatisfy(row -> assertThat(row.getThumbnailUrl()).endsWith("-0.png"));
+        }
+        long nanos = System.nanoTime() - startedAt;
+        long bytes = allocatedBytes() - allocatedBefore;
+        return new Measurement(nanos / 1_000_000d / MEASURED_PAGES, bytes / MEASURED_PAGES);
+    }
+
+    // Inside a transaction, like the service: the entity path lazily loads images while mapping
+    private List<ProductSummaryDTO> load(PageLoader loader, int page) {
+        return readOnly.execute(status -> loader.load(page));
+    }
+
+    // Heap allocated by this thread, the benchmark runs every page on it
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    // The mapping ProductSearchServiceImpl used before the projection
+    private static ProductSummaryDTO toSummary(Product product) {
+        return ProductSummaryDTO.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .slug(product.getSlug())
+                .price(product.getPrice())
+                .discountPrice(product.getDiscountPrice())
+                .currency(product.getCurrency())
+                .brand(product.getBrand())
+                .thumbnailUrl(product.getImages().stream()
+                        .filter(img -> img.isPrimary())
+                        .findFirst()
+                        .map(img -> img.getImageUrl())
+                        .orElse(null))
+                .createdAt(product.getCreatedAt())
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface PageLoader {
+        List<ProductSummaryDTO> load(int page);
+    }
+
+    private record Measurement(double millisPerPage, long bytesPerPage) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.entity.ProductStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Hammers one hot product with concurrent conditional decrements: exactly the available stock
+ * must be handed out, never more. Runs without a test transaction so every thread commits on its own.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductStockConcurrencyTests {
+
+    private static final int THREADS = 300;
+    private static final int INITIAL_STOCK = 120;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentDecrements_neverOversell() throws Exception {
+        Long productId = productRepository.save(product("SKU-HOT", INITIAL_STOCK)).getId();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger granted = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    Integer updated = transactionTemplate.execute(status ->
+                            productRepository.decrementStock(productId, 1, LocalDateTime.now()));
+                    if (updated != null && updated == 1) {
+                        granted.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(granted.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(product.getStockQuantity()).isZero();
+        assertThat(product.getVersion()).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    void staleFullUpdate_failsAfterStockChange() {
+        Long productId = productRepository.save(product("SKU-STALE", 5)).getId();
+        Product stale = productRepository.findById(productId).orElseThrow();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                productRepository.decrementStock(productId, 2, LocalDateTime.now()));
+
+        stale.setStockQuantity(50);
+        assertThatThrownBy(() -> productRepository.save(stale))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(3);
+    }
+
+    private Product product(String sku, int stock) {
+        return Product.builder()
+                .sku(sku)
+                .name("Hot product")
+                .price(new BigDecimal("9.99"))
+                .currency("USD")
+                .stockQuantity(stock)
+                .status(ProductStatus.ACTIVE)
+                .productCategories(new HashSet<>())
+                .images(new HashSet<>())
+                .attributes(new HashSet<>())
+                .reviews(new HashSet<>())
+                .build();
+    }
+}
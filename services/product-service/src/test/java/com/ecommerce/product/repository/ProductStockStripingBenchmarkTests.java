@@ -0,0 +1,132 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.cache.ProductResponseCache;
+import com.ecommerce.product.exception.InsufficientStockException;
+import com.ecommerce.product.service.impl.ProductStockServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Contention on one hot product: concurrent buyers each take one unit per transaction for a fixed duration,
+ * first from a product holding its stock in the product row, then from one with striped stock.
+ * The log line reports takes/sec of both; each run must also hand out exactly the stock it removed.
+ *
+ * Runs against PostgreSQL in a container (the striped path relies on SKIP LOCKED), so the numbers are
+ * comparable between runs on one machine, not a capacity figure for production. Skipped without Docker.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.hikari.maximum-pool-size=40"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductStockStripingBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductStockStripingBenchmarkTests.class);
+
+    private static final int BUYERS = 32;
+    private static final int STRIPES = 16;
+    private static final int INITIAL_STOCK = 1_000_000;
+    private static final long DURATION_MILLIS = 3_000;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void stripedStock_versusSingleRowUnderContention() throws Exception {
+        ProductStockServiceImpl stockService = new ProductStockServiceImpl(productRepository,
+                new ProductStockStripeRepository(new JdbcTemplate(dataSource)),
+                mock(ProductResponseCache.class), new SimpleMeterRegistry());
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        Long singleRowId = productRepository.save(ProductPriceStockRepositoryTests.product("SKU-ROW", "9.99", INITIAL_STOCK)).getId();
+        Long stripedId = productRepository.save(ProductPriceStockRepositoryTests.product("SKU-STRIPED", "9.99", INITIAL_STOCK)).getId();
+        transaction.executeWithoutResult(status -> stockService.enableStriping(stripedId, STRIPES));
+
+        long singleRowTakes = run(stockService, transaction, singleRowId);
+        long stripedTakes = run(stockService, transaction, stripedId);
+
+        Map<Long, Integer> stock = stockService.getCurrentStock(List.of(singleRowId, stripedId));
+        assertThat(stock.get(singleRowId)).isEqualTo(INITIAL_STOCK - singleRowTakes);
+        assertThat(stock.get(stripedId)).isEqualTo(INITIAL_STOCK - stripedTakes);
+
+        double seconds = DURATION_MILLIS / 1000d;
+        log.info("{} buyers on one product for {} ms: single row={} takes/s, {} stripes={} takes/s ({}x)",
+                BUYERS, DURATION_MILLIS, Math.round(singleRowTakes / seconds), STRIPES, Math.round(stripedTakes / seconds),
+                String.format("%.1f", (double) stripedTakes / Math.max(singleRowTakes, 1)));
+    }
+
+    // Number of units taken by BUYERS threads within DURATION_MILLIS
+    private long run(ProductStockServiceImpl stockService, TransactionTemplate transaction, Long productId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong taken = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>(BUYERS);
+        try {
+            for (int i = 0; i < BUYERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MILLIS);
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            transaction.executeWithoutResult(status -> stockService.take(productId, 1, LocalDateTime.now()));
+                            taken.incrementAndGet();
+                        } catch (InsufficientStockException ex) {
+                            return null;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(DURATION_MILLIS + 60_000, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return taken.get();
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.entity.OutboxEvent;
+import com.ecommerce.product.event.ProductChangeTracker;
+import com.ecommerce.product.event.ProductEvent;
+import com.ecommerce.product.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EventPublisherServiceImplTests {
+
+    private static final String TOPIC = "product-events";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private EventPublisherServiceImpl eventPublisherService;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisherService = new EventPublisherServiceImpl(mock(ApplicationEventPublisher.class),
+                outboxEventRepository, objectMapper, new ProductChangeTracker(objectMapper));
+        ReflectionTestUtils.setField(eventPublisherService, "topic", TOPIC);
+        ReflectionTestUtils.setField(eventPublisherService, "coalesceWindowMs", 2000L);
+        when(outboxEventRepository.findCoalescable(any(), any(), any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void deleteAfterUpdate_releasesPendingUpdateBeforeWritingDelete() {
+        eventPublisherService.publishProductEvent(event("PRODUCT_UPDATED",
+                objectMapper.createObjectNode().set("price", objectMapper.createObjectNode().put("from", 20).put("to", 18))));
+        eventPublisherService.publishProductEvent(event("PRODUCT_DELETED", null));
+
+        InOrder inOrder = inOrder(outboxEventRepository);
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        inOrder.verify(outboxEventRepository).save(saved.capture());
+        inOrder.verify(outboxEventRepository).releasePending(eq(TOPIC), eq(1L), any(LocalDateTime.class));
+        inOrder.verify(outboxEventRepository).save(saved.capture());
+
+        OutboxEvent update = saved.getAllValues().get(0);
+        OutboxEvent delete = saved.getAllValues().get(1);
+        assertThat(update.getEventType()).isEqualTo("PRODUCT_UPDATED");
+        assertThat(update.getAvailableAt()).isAfter(update.getCreatedAt());
+        assertThat(delete.getEventType()).isEqualTo("PRODUCT_DELETED");
+        assertThat(delete.getAvailableAt()).isEqualTo(delete.getCreatedAt());
+    }
+
+    private ProductEvent event(String eventType, Object payload) {
+        return ProductEvent.builder()
+                .productId(1L)
+                .eventType(eventType)
+                .source("product-service")
+                .payload(payload)
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.cache.ProductResponseCache;
+import com.ecommerce.product.dto.ProductAttributeDTO;
+import com.ecommerce.product.dto.ProductImageDTO;
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.dto.ReviewDTO;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.entity.ProductStatus;
+import com.ecommerce.product.event.ProductChangeTracker;
+import com.ecommerce.product.mapper.*;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.service.EventPublisherService;
+import com.ecommerce.product.service.ProductStockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes to a product's images, attributes and reviews must evict its cached detail response,
+ * so the next detail read (by ID, slug or SKU) sees the change. Runs without a test transaction
+ * because eviction happens after commit.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false"
+})
+@Import({
+        ProductServiceImpl.class,
+        ProductImageServiceImpl.class,
+        ProductAttributeServiceImpl.class,
+        ReviewServiceImpl.class,
+        ProductResponseCache.class,
+        ProductMapperImpl.class,
+        CategoryMapperImpl.class,
+        ProductImageMapperImpl.class,
+        ProductAttributeMapperImpl.class,
+        ReviewMapperImpl.class,
+        ProductDetailCacheTests.CacheConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductDetailCacheTests {
+
+    @TestConfiguration
+    static class CacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ProductResponseCache.PRODUCTS,
+                    ProductResponseCache.PRODUCT_IDS_BY_SLUG, ProductResponseCache.PRODUCT_IDS_BY_SKU);
+        }
+    }
+
+    @MockitoBean
+    private EventPublisherService eventPublisherService;
+
+    @MockitoBean
+    private ProductChangeTracker productChangeTracker;
+
+    @MockitoBean
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductServiceImpl productService;
+
+    @Autowired
+    private ProductImageServiceImpl productImageService;
+
+    @Autowired
+    private ProductAttributeServiceImpl productAttributeService;
+
+    @Autowired
+    private ReviewServiceImpl reviewService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.save(Product.builder()
+                .sku("SKU-CACHE")
+                .name("Phone")
+                .slug("phone-cache")
+                .price(new BigDecimal("499.00"))
+                .currency("USD")
+                .stockQuantity(10)
+                .status(ProductStatus.ACTIVE)
+                .productCategories(new HashSet<>())
+                .images(new HashSet<>())
+                .attributes(new HashSet<>())
+                .reviews(new HashSet<>())
+                .build()).getId();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void imageWrites_evictCachedDetail() {
+        assertThat(productService.getProductById(productId).getImages()).isEmpty();
+
+        ProductImageDTO added = productImageService.addImagesToProduct(productId, List.of(ProductImageDTO.builder()
+                .imageUrl("/img/front.png").isPrimary(true).position(0).build())).get(0);
+
+        ProductResponse afterAdd = productService.getProductById(productId);
+        assertThat(afterAdd.getImages()).extracting(ProductImageDTO::getImageUrl).containsExactly("/img/front.png");
+        assertThat(productService.getProductBySku("SKU-CACHE").getImages()).hasSize(1);
+
+        productImageService.deleteImage(added.getId());
+        assertThat(productService.getProductBySlug("phone-cache").getImages()).isEmpty();
+    }
+
+    @Test
+    void attributeWrites_evictCachedDetail() {
+        assertThat(productService.getProductById(productId).getAttributes()).isEmpty();
+
+        ProductAttributeDTO added = productAttributeService.addAttributesToProduct(productId, List.of(ProductAttributeDTO.builder()
+                .attributeName("color").attributeValue("black").build())).get(0);
+        assertThat(productService.getProductBySku("SKU-CACHE").getAttributes())
+                .extracting(ProductAttributeDTO::getAttributeValue).containsExactly("black");
+
+        productAttributeService.updateAttribute(added.getId(), ProductAttributeDTO.builder()
+                .attributeName("color").attributeValue("white").build());
+        assertThat(productService.getProductBySlug("phone-cache").getAttributes())
+                .extracting(ProductAttributeDTO::getAttributeValue).containsExactly("white");
+
+        productAttributeService.deleteAttribute(added.getId());
+        assertThat(productService.getProductById(productId).getAttributes()).isEmpty();
+    }
+
+    @Test
+    void reviewWrites_evictCachedDetail() {
+        assertThat(productService.getProductBySlug("phone-cache").getReviews()).isEmpty();
+
+        ReviewDTO review = reviewService.addReview(productId, ReviewDTO.builder()
+                .userId("user-1").rating(4).comment("Good").build());
+        assertThat(productService.getProductBySlug("phone-cache").getReviews())
+                .extracting(ReviewDTO::getRating).containsExactly(4);
+
+        reviewService.updateReview(review.getId(), ReviewDTO.builder().rating(2).comment("Broke").build());
+        assertThat(productService.getProductById(productId).getReviews())
+                .extracting(ReviewDTO::getRating).containsExactly(2);
+    }
+}
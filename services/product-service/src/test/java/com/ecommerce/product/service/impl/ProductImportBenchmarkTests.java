@@ -0,0 +1,156 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.cache.CategoryTreeCache;
+import com.ecommerce.product.dto.ProductImportJobDTO;
+import com.ecommerce.product.entity.Category;
+import com.ecommerce.product.entity.ProductImportFormat;
+import com.ecommerce.product.event.ProductChangeTracker;
+import com.ecommerce.product.repository.CategoryRepository;
+import com.ecommerce.product.repository.ProductBulkInsertRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Import throughput: an NDJSON feed of products, each with images and attributes, goes through
+ * ProductImportService end to end (parsing, validation, category lookup, JDBC batches, PRODUCT_CREATED
+ * outbox rows and checkpoints). The log line reports records/sec and rows/sec written.
+ *
+ * Runs against PostgreSQL in a container, so the numbers are comparable between runs on one machine,
+ * not a capacity figure for production. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true",
+        "product.import.batch-size=1000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({
+        ProductImportServiceImpl.class,
+        ProductBulkInsertRepository.class,
+        CategoryTreeCache.class,
+        EventPublisherServiceImpl.class,
+        ProductChangeTracker.class,
+        JacksonAutoConfiguration.class,
+        ValidationAutoConfiguration.class,
+        ProductImportBenchmarkTests.MetricsConfig.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductImportBenchmarkTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportBenchmarkTests.class);
+
+    private static final int PRODUCTS = 20_000;
+    private static final int IMAGES_PER_PRODUCT = 3;
+    private static final int ATTRIBUTES_PER_PRODUCT = 5;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private ProductImportServiceImpl productImportService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        for (String table : new String[]{"outbox_events", "product_attributes", "product_images", "product_category",
+                "products", "product_import_jobs", "category_closure", "categories"}) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void ndjsonFeed_importThroughput() {
+        Long categoryId = categoryRepository.save(Category.builder()
+                .name("Phones")
+                .slug("phones")
+                .subcategories(new HashSet<>())
+                .productCategories(new HashSet<>())
+                .build()).getId();
+        byte[] feed = feed(categoryId);
+
+        ProductImportJobDTO job = productImportService.createImportJob(ProductImportFormat.NDJSON);
+        long startedAt = System.nanoTime();
+        ProductImportJobDTO result = productImportService.importProducts(
+                job.getId(), new ByteArrayInputStream(feed), ProductImportFormat.NDJSON);
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000d, 0.001);
+
+        assertThat(result.getStatus()).isEqualTo("COMPLETED");
+        assertThat(result.getImportedRecords()).isEqualTo(PRODUCTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM product_images", Long.class))
+                .isEqualTo((long) PRODUCTS * IMAGES_PER_PRODUCT);
+
+        // products, category links, images, attributes and outbox events
+        long rows = (long) PRODUCTS * (1 + 1 + IMAGES_PER_PRODUCT + ATTRIBUTES_PER_PRODUCT + 1);
+        log.info("Import of {} products ({} KB NDJSON): {} s, {} records/s, {} rows/s",
+                PRODUCTS, feed.length / 1024, String.format("%.1f", seconds),
+                Math.round(PRODUCTS / seconds), Math.round(rows / seconds));
+    }
+
+    private static byte[] feed(Long categoryId) {
+        StringBuilder feed = new StringBuilder(PRODUCTS * 600);
+        for (int i = 0; i < PRODUCTS; i++) {
+            feed.append("{\"sku\":\"SKU-IMP-").append(i)
+                    .append("\",\"name\":\"Product ").append(i)
+                    .append("\",\"slug\":\"product-imp-").append(i)
+                    .append("\",\"description\":\"Imported product ").append(i)
+                    .append("\",\"price\":").append(10 + i % 90).append(".99")
+                    .append(",\"currency\":\"USD\",\"stockQuantity\":").append(i % 100)
+                    .append(",\"status\":\"ACTIVE\",\"brand\":\"Brand ").append(i % 20)
+                    .append("\",\"categoryIds\":[").append(categoryId).append("],\"images\":[");
+            for (int image = 0; image < IMAGES_PER_PRODUCT; image++) {
+                feed.append(image > 0 ? "," : "")
+                        .append("{\"imageUrl\":\"/img/").append(i).append('-').append(image)
+                        .append(".png\",\"primary\":").append(image == 0)
+                        .append(",\"position\":").append(image).append('}');
+            }
+            feed.append("],\"attributes\":[");
+            for (int attribute = 0; attribute < ATTRIBUTES_PER_PRODUCT; attribute++) {
+                feed.append(attribute > 0 ? "," : "")
+                        .append("{\"attributeName\":\"attr-").append(attribute)
+                        .append("\",\"attributeValue\":\"value-").append(i % 7).append("\"}");
+            }
+            feed.append("]}\n");
+        }
+        return feed.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.dto.ProductRequest;
+import com.ecommerce.product.entity.ProductImportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductImportReaderTests {
+
+    private static final String CSV = """
+            sku,name,slug,description,price,currency,stockQuantity,status,categoryIds,imageUrls,attributes
+            SKU-1,"Phone, 128GB",phone-128,"Line one
+            line two with \"\"quotes\"\"\",499.00,USD,10,ACTIVE,1|2,/img/a.png|/img/b.png,color=black|storage=128GB
+            SKU-2,Case,case,Protective case,abc,USD,5,ACTIVE,3,,
+            SKU-3,Cable,cable,USB-C cable,9.99,USD,100,ACTIVE,3,,
+            """;
+
+    @Test
+    void csv_parsesQuotedFieldsAndMultiValueColumns() throws IOException {
+        try (ProductImportReader reader = open(ProductImportFormat.CSV, CSV)) {
+            ProductImportReader.Row row = reader.next();
+
+            ProductRequest request = row.getRequest();
+            assertThat(row.getNumber()).isEqualTo(1);
+            assertThat(request.getName()).isEqualTo("Phone, 128GB");
+            assertThat(request.getDescription()).isEqualTo("Line one\nline two with \"quotes\"");
+            assertThat(request.getPrice()).isEqualByComparingTo(new BigDecimal("499.00"));
+            assertThat(request.getCategoryIds()).containsExactly(1L, 2L);
+            assertThat(request.getImages()).hasSize(2);
+            assertThat(request.getImages().get(0).isPrimary()).isTrue();
+            assertThat(request.getAttributes()).extracting("attributeName").containsExactly("color", "storage");
+        }
+    }
+
+    @Test
+    void csv_reportsMalformedRecordAndContinues() throws IOException {
+        try (ProductImportReader reader = open(ProductImportFormat.CSV, CSV)) {
+            reader.skip(1);
+
+            ProductImportReader.Row malformed = reader.next();
+            assertThat(malformed.getRequest()).isNull();
+            assertThat(malformed.getError()).startsWith("Invalid number");
+
+            assertThat(reader.next().getRequest().getSku()).isEqualTo("SKU-3");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void ndjson_skipsCheckpointedRecords() throws IOException {
+        String ndjson = """
+                {"sku":"SKU-1","name":"Phone"}
+
+                {"sku":"SKU-2","name":"Case"}
+                {not json}
+                """;
+        try (ProductImportReader reader = open(ProductImportFormat.NDJSON, ndjson)) {
+            reader.skip(1);
+
+            ProductImportReader.Row row = reader.next();
+            assertThat(row.getNumber()).isEqualTo(2);
+            assertThat(row.getRequest().getSku()).isEqualTo("SKU-2");
+            assertThat(reader.next().getError()).startsWith("Malformed JSON");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    private ProductImportReader open(ProductImportFormat format, String content) throws IOException {
+        return ProductImportReader.open(format,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), new ObjectMapper());
+    }
+}
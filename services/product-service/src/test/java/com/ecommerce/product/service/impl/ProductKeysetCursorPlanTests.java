@@ -0,0 +1,152 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.dto.ProductSummaryDTO;
+import com.ecommerce.product.repository.ProductRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset pages against PostgreSQL: paging through a sort key with many duplicates returns every row
+ * exactly once, and the seek predicate is an Index Cond on the (key, id) index rather than a Filter
+ * over the index from its start. The plan is taken with EXPLAIN (GENERIC_PLAN) of the SQL Hibernate
+ * generated, so it holds for any cursor value. Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ecommerce.product.service.impl.ProductKeysetCursorPlanTests$RecordingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductKeysetCursorPlanTests {
+
+    private static final int PRODUCTS = 20_000;
+    private static final int PAGE_SIZE = 100;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // 50 distinct prices and 200 distinct names: every page boundary falls inside a run of equal keys
+        jdbcTemplate.update("""
+                INSERT INTO products (sku, name, price, currency, stock_quantity, status, created_at)
+                SELECT 'SKU-' || g, 'Product ' || (g % 200), 10 + (g % 50), 'USD', 1, 'ACTIVE',
+                       TIMESTAMP '2024-01-01 00:00:00' + (g / 7) * INTERVAL '1 minute'
+                FROM generate_series(1, ?) g
+                """, PRODUCTS);
+        jdbcTemplate.execute("ANALYZE products");
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"PRICE, ASC", "PRICE, DESC", "NAME, ASC", "CREATED_AT, DESC", "ID, ASC"})
+    void deepPage_seeksThroughTheIndex(ProductKeysetCursor.Field field, Sort.Direction direction) {
+        Sort sort = Sort.by(direction, field.getProperty()).and(Sort.by(direction, ProductKeysetCursor.Field.ID.getProperty()));
+
+        // Page to the middle of the table
+        ProductSummaryDTO last = null;
+        for (int page = 0; page < PRODUCTS / PAGE_SIZE / 2; page++) {
+            List<ProductSummaryDTO> rows = last == null
+                    ? productRepository.findSummaries((root, query, cb) -> null, sort, PAGE_SIZE)
+                    : productRepository.findSummaries(ProductKeysetCursor.after(last, field, direction).toPredicate(), sort, PAGE_SIZE);
+            last = rows.get(rows.size() - 1);
+        }
+
+        String seek = RecordingStatementInspector.STATEMENTS.get(RecordingStatementInspector.STATEMENTS.size() - 1);
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered(seek), String.class));
+
+        assertThat(plan).contains("Index Scan").contains("Index Cond").doesNotContain("Seq Scan").doesNotContain("Sort");
+        String column = field == ProductKeysetCursor.Field.CREATED_AT ? "created_at" : field.getProperty();
+        // e.g. "Index Cond: ((price >= $1) AND ...)"; the seek column is the index's leading one
+        assertThat(indexCond(plan)).contains(column).contains(direction.isAscending() ? ">" : "<");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"PRICE, ASC", "NAME, DESC"})
+    void pagingThroughDuplicates_returnsEveryRowOnce(ProductKeysetCursor.Field field, Sort.Direction direction) {
+        Sort sort = Sort.by(direction, field.getProperty()).and(Sort.by(direction, ProductKeysetCursor.Field.ID.getProperty()));
+        List<Long> expected = productRepository.findSummaries((root, query, cb) -> null, sort, PRODUCTS).stream()
+                .map(ProductSummaryDTO::getId)
+                .toList();
+
+        List<Long> paged = new ArrayList<>();
+        ProductSummaryDTO last = null;
+        while (true) {
+            List<ProductSummaryDTO> rows = last == null
+                    ? productRepository.findSummaries((root, query, cb) -> null, sort, PAGE_SIZE)
+                    : productRepository.findSummaries(ProductKeysetCursor.after(last, field, direction).toPredicate(), sort, PAGE_SIZE);
+            rows.forEach(row -> paged.add(row.getId()));
+            if (rows.size() < PAGE_SIZE) {
+                break;
+            }
+            last = rows.get(rows.size() - 1);
+        }
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    // GENERIC_PLAN takes $n placeholders, Hibernate renders JDBC ones
+    private static String numbered(String sql) {
+        Matcher matcher = Pattern.compile("\\?").matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int index = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(numbered, "\\$" + (++index));
+        }
+        return matcher.appendTail(numbered).toString();
+    }
+
+    private static String indexCond(String plan) {
+        return plan.lines()
+                .filter(line -> line.contains("Index Cond"))
+                .findFirst()
+                .orElse("");
+    }
+}
@@ -0,0 +1,205 @@
+package com.ecommerce.product.service.impl;
+
+import com.ecommerce.product.cache.ProductResponseCache;
+import com.ecommerce.product.dto.ProductAttributeDTO;
+import com.ecommerce.product.dto.ProductImageDTO;
+import com.ecommerce.product.dto.ProductPatchRequest;
+import com.ecommerce.product.dto.ProductResponse;
+import com.ecommerce.product.entity.*;
+import com.ecommerce.product.event.ProductChangeTracker;
+import com.ecommerce.product.mapper.*;
+import com.ecommerce.product.service.EventPublisherService;
+import com.ecommerce.product.service.ProductStockService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the SQL written by PATCH /api/products/{id}: an unchanged request writes nothing, and a changed
+ * scalar field updates only its own column (plus the timestamp and version), leaving the children alone.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ecommerce.product.service.impl.ProductPatchStatementTests$RecordingStatementInspector"
+})
+@Import({
+        ProductServiceImpl.class,
+        ProductResponseCache.class,
+        ProductChangeTracker.class,
+        JacksonAutoConfiguration.class,
+        ProductMapperImpl.class,
+        CategoryMapperImpl.class,
+        ProductImageMapperImpl.class,
+        ProductAttributeMapperImpl.class,
+        ReviewMapperImpl.class,
+        ProductPatchStatementTests.CacheConfig.class
+})
+class ProductPatchStatementTests {
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+    }
+
+    @TestConfiguration
+    static class CacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ProductResponseCache.PRODUCTS,
+                    ProductResponseCache.PRODUCT_IDS_BY_SLUG, ProductResponseCache.PRODUCT_IDS_BY_SKU);
+        }
+    }
+
+    @MockitoBean
+    private EventPublisherService eventPublisherService;
+
+    @MockitoBean
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductServiceImpl productService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Product product;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = Category.builder()
+                .name("Phones")
+                .slug("phones")
+                .subcategories(new HashSet<>())
+                .productCategories(new HashSet<>())
+                .build();
+        entityManager.persist(category);
+
+        product = Product.builder()
+                .sku("SKU-PATCH")
+                .name("Phone")
+                .slug("phone-patch")
+                .description("A phone")
+                .price(new BigDecimal("499.00"))
+                .currency("USD")
+                .stockQuantity(10)
+                .status(ProductStatus.ACTIVE)
+                .primaryImageUrl("/img/0.png")
+                .productCategories(new HashSet<>())
+                .images(new HashSet<>())
+                .attributes(new HashSet<>())
+                .reviews(new HashSet<>())
+                .build();
+        product.getProductCategories().add(ProductCategory.builder().product(product).category(category).build());
+        for (int i = 0; i < 2; i++) {
+            product.getImages().add(ProductImage.builder()
+                    .product(product).imageUrl("/img/" + i + ".png").isPrimary(i == 0).position(i).build());
+            product.getAttributes().add(ProductAttribute.builder()
+                    .product(product).attributeName("attr-" + i).attributeValue("value-" + i).build());
+        }
+        entityManager.persist(product);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void unchangedPatch_writesNothing() {
+        List<String> writes = patch(fullRequest());
+
+        assertThat(writes).isEmpty();
+    }
+
+    @Test
+    void changedPrice_updatesOnlyThePriceColumn() {
+        ProductPatchRequest request = fullRequest();
+        request.setPrice(new BigDecimal("449.00"));
+
+        List<String> writes = patch(request);
+
+        assertThat(writes).hasSize(1);
+        String update = writes.get(0);
+        assertThat(update).startsWith("update products set").contains("price=").contains("updated_at=");
+        assertThat(update).doesNotContain("name=", "description=", "stock_quantity=", "primary_image_url=");
+    }
+
+    @Test
+    void newImage_isReturnedWithItsId() {
+        ProductPatchRequest request = fullRequest();
+        List<ProductImageDTO> images = new ArrayList<>(request.getImages());
+        images.add(ProductImageDTO.builder().imageUrl("/img/new.png").position(5).build());
+        request.setImages(images);
+
+        ProductResponse response = productService.patchProduct(product.getId(), request);
+
+        assertThat(response.getImages()).hasSize(3).allSatisfy(image -> assertThat(image.getId()).isNotNull());
+    }
+
+    // ----------------------------
+    // UTILITIES
+    // ----------------------------
+
+    // Inserts, updates and deletes issued by the patch, including those flushed at commit
+    private List<String> patch(ProductPatchRequest request) {
+        RecordingStatementInspector.STATEMENTS.clear();
+        productService.patchProduct(product.getId(), request);
+        entityManager.flush();
+        return RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> !sql.startsWith("select"))
+                .toList();
+    }
+
+    // Repeats the current state of every field and child
+    private ProductPatchRequest fullRequest() {
+        Product current = entityManager.find(Product.class, product.getId());
+        List<ProductImageDTO> images = current.getImages().stream()
+                .map(image -> ProductImageDTO.builder()
+                        .id(image.getId())
+                        .imageUrl(image.getImageUrl())
+                        .altText(image.getAltText())
+                        .isPrimary(image.isPrimary())
+                        .position(image.getPosition())
+                        .build())
+                .toList();
+        List<ProductAttributeDTO> attributes = current.getAttributes().stream()
+                .map(attribute -> ProductAttributeDTO.builder()
+                        .attributeName(attribute.getAttributeName())
+                        .attributeValue(attribute.getAttributeValue())
+                        .build())
+                .toList();
+        entityManager.clear();
+
+        ProductPatchRequest request = new ProductPatchRequest();
+        request.setName("Phone");
+        request.setDescription("A phone");
+        request.setPrice(new BigDecimal("499.00"));
+        request.setStockQuantity(10);
+        request.setStatus("ACTIVE");
+        request.setCategoryIds(List.of(category.getId()));
+        request.setImages(images);
+        request.setAttributes(attributes);
+        return request;
+    }
+}